@@ -0,0 +1,52 @@
+package com.jobboard.cli;
+
+import com.jobboard.semantic.EmbeddingModel;
+import com.jobboard.service.SemanticMatchingService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Command-line training of the word embeddings used for semantic matching, from
+ * the parsed text of every stored resume:
+ *
+ * <pre>
+ * java -jar job-board-platform.jar --spring.main.web-application-type=none --train-embeddings
+ * </pre>
+ *
+ * The model is written to {@code matching.semantic.model-path}, where instances
+ * started afterwards pick it up. The application exits when training finishes.
+ */
+@Component
+public class EmbeddingTrainingRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmbeddingTrainingRunner.class);
+
+    private static final String TRAIN_OPTION = "train-embeddings";
+
+    @Autowired
+    private SemanticMatchingService semanticMatchingService;
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (!args.containsOption(TRAIN_OPTION)) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        EmbeddingModel model = semanticMatchingService.trainModel();
+        logger.info("Embedding training finished: {} terms, {} dimensions, {} trigram buckets in {} ms",
+                model.getTermCount(), model.getDimension(), model.getBucketCount(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+}
@@ -0,0 +1,70 @@
+package com.jobboard.cli;
+
+import com.jobboard.dto.recruiter.BulkImportResponse;
+import com.jobboard.service.BulkResumeImportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Command-line bulk import of a directory or ZIP file of resume PDFs:
+ *
+ * <pre>
+ * java -jar job-board-platform.jar --spring.main.web-application-type=none --import-resumes=/data/career-fair
+ * </pre>
+ *
+ * Imported resumes wait for the candidates they name to claim them, as with the
+ * recruiter endpoint. The application exits when the import finishes, with
+ * status 1 if any file failed.
+ */
+@Component
+public class ResumeImportRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumeImportRunner.class);
+
+    private static final String IMPORT_OPTION = "import-resumes";
+
+    @Autowired
+    private BulkResumeImportService bulkResumeImportService;
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (!args.containsOption(IMPORT_OPTION)) {
+            return;
+        }
+
+        Path source = Paths.get(args.getOptionValues(IMPORT_OPTION).get(0));
+        BulkImportResponse report;
+        if (Files.isDirectory(source)) {
+            report = bulkResumeImportService.importDirectory(source, null);
+        } else {
+            try (InputStream in = Files.newInputStream(source)) {
+                report = bulkResumeImportService.importZip(in, null);
+            }
+        }
+
+        report.getFailures().forEach(failure ->
+                logger.warn("Failed {}: {}", failure.fileName(), failure.reason()));
+        logger.info("Resume import finished: {} imported, {} failed, {} files, {} bytes in {} ms "
+                + "({} docs/s, {} bytes/s)",
+                report.getImported(), report.getFailed(), report.getTotalFiles(), report.getTotalBytes(),
+                report.getElapsedMillis(), String.format("%.1f", report.getDocsPerSecond()),
+                String.format("%.0f", report.getBytesPerSecond()));
+
+        int exitCode = report.getFailed() > 0 ? 1 : 0;
+        System.exit(SpringApplication.exit(context, () -> exitCode));
+    }
+}
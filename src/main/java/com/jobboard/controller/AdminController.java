@@ -50,4 +50,74 @@ public class AdminController {
         PlatformStatsResponse stats = adminService.getPlatformStats();
         return ResponseEntity.ok(new ApiResponse<>(true, stats, "Platform statistics retrieved successfully"));
     }
-}
\ No newline at end of file
+
+    @PostMapping("/skills/reload")
+    @Operation(summary = "Reload the skill taxonomy")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> reloadSkillTaxonomy() {
+        Map<String, Object> taxonomy = adminService.reloadSkillTaxonomy();
+        return ResponseEntity.ok(new ApiResponse<>(true, taxonomy, "Skill taxonomy reloaded successfully"));
+    }
+
+    @GetMapping("/matching/index")
+    @Operation(summary = "Get candidate pool and skill index statistics")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getMatchingIndexStats() {
+        Map<String, Object> stats = adminService.getMatchingIndexStats();
+        return ResponseEntity.ok(new ApiResponse<>(true, stats, "Matching index statistics retrieved successfully"));
+    }
+
+    @GetMapping("/matching/recompute")
+    @Operation(summary = "Get match score recomputation backlog and lag")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getMatchScoreRecomputeStats() {
+        Map<String, Object> stats = adminService.getMatchScoreRecomputeStats();
+        return ResponseEntity.ok(new ApiResponse<>(true, stats, "Match score recomputation statistics retrieved successfully"));
+    }
+
+    @GetMapping("/matching/recommendations")
+    @Operation(summary = "Get job recommendation catalog and cache statistics")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getJobRecommendationStats() {
+        Map<String, Object> stats = adminService.getJobRecommendationStats();
+        return ResponseEntity.ok(new ApiResponse<>(true, stats, "Job recommendation statistics retrieved successfully"));
+    }
+
+    @GetMapping("/matching/job-features")
+    @Operation(summary = "Get compiled job features cache statistics")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getJobFeaturesStats() {
+        Map<String, Object> stats = adminService.getJobFeaturesStats();
+        return ResponseEntity.ok(new ApiResponse<>(true, stats, "Job features statistics retrieved successfully"));
+    }
+
+    @GetMapping("/matching/semantic")
+    @Operation(summary = "Get embedding model and semantic job index statistics")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getSemanticMatchingStats() {
+        Map<String, Object> stats = adminService.getSemanticMatchingStats();
+        return ResponseEntity.ok(new ApiResponse<>(true, stats, "Semantic matching statistics retrieved successfully"));
+    }
+
+    @GetMapping("/cache/jobs")
+    @Operation(summary = "Get public job cache statistics")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getJobCacheStats() {
+        Map<String, Object> stats = adminService.getJobCacheStats();
+        return ResponseEntity.ok(new ApiResponse<>(true, stats, "Job cache statistics retrieved successfully"));
+    }
+
+    @GetMapping("/security/password-hashing")
+    @Operation(summary = "Get password hashing pool statistics")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getPasswordHashingStats() {
+        Map<String, Object> stats = adminService.getPasswordHashingStats();
+        return ResponseEntity.ok(new ApiResponse<>(true, stats, "Password hashing statistics retrieved successfully"));
+    }
+
+    @GetMapping("/resumes/parsing")
+    @Operation(summary = "Get resume parsing latency and failure statistics")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getResumeParsingStats() {
+        Map<String, Object> stats = adminService.getResumeParsingStats();
+        return ResponseEntity.ok(new ApiResponse<>(true, stats, "Resume parsing statistics retrieved successfully"));
+    }
+
+    @GetMapping("/resumes/uploads")
+    @Operation(summary = "Get resume upload deduplication statistics")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getResumeUploadStats() {
+        Map<String, Object> stats = adminService.getResumeUploadStats();
+        return ResponseEntity.ok(new ApiResponse<>(true, stats, "Resume upload statistics retrieved successfully"));
+    }
+}
@@ -14,10 +14,10 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 
-import org.apache.tika.exception.TikaException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -57,13 +57,53 @@ public class CandidateController {
     }
 
     @PostMapping("/resume")
-    @Operation(summary = "Upload resume")
-    public ResponseEntity<ApiResponse<Resume>> uploadResume(
+    @Operation(summary = "Upload resume; parsing continues in the background")
+    public ResponseEntity<ApiResponse<ResumeStatusResponse>> uploadResume(
             @AuthenticationPrincipal UserPrincipal userPrincipal,
-            @RequestParam("file") MultipartFile file) throws IOException, TikaException {
+            @RequestParam("file") MultipartFile file) throws IOException {
 
-        Resume resume = candidateService.uploadResume(userPrincipal.getId(), file);
-        return ResponseEntity.ok(new ApiResponse<>(true, resume, "Resume uploaded successfully"));
+        ResumeStatusResponse status = candidateService.uploadResume(userPrincipal.getId(), file);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(new ApiResponse<>(true, status, "Resume uploaded, parsing in progress"));
+    }
+
+    @GetMapping("/resume/{resumeId}/status")
+    @Operation(summary = "Get resume parsing status")
+    public ResponseEntity<ApiResponse<ResumeStatusResponse>> getResumeStatus(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable Long resumeId) {
+
+        ResumeStatusResponse status = candidateService.getResumeStatus(userPrincipal.getId(), resumeId);
+        return ResponseEntity.ok(new ApiResponse<>(true, status, "Resume status retrieved successfully"));
+    }
+
+    @GetMapping("/resume/imported")
+    @Operation(summary = "List bulk-imported resumes that name this candidate's email")
+    public ResponseEntity<ApiResponse<List<ImportedResumeResponse>>> getImportedResumes(
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+        List<ImportedResumeResponse> imports = candidateService.getImportedResumes(userPrincipal.getId());
+        return ResponseEntity.ok(new ApiResponse<>(true, imports, "Imported resumes retrieved successfully"));
+    }
+
+    @PostMapping("/resume/imported/{importId}/claim")
+    @Operation(summary = "Add a bulk-imported resume to the profile")
+    public ResponseEntity<ApiResponse<ResumeStatusResponse>> claimImportedResume(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable Long importId) {
+
+        ResumeStatusResponse status = candidateService.claimImportedResume(userPrincipal.getId(), importId);
+        return ResponseEntity.ok(new ApiResponse<>(true, status, "Imported resume added to profile"));
+    }
+
+    @DeleteMapping("/resume/imported/{importId}")
+    @Operation(summary = "Decline a bulk-imported resume")
+    public ResponseEntity<ApiResponse<String>> declineImportedResume(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable Long importId) {
+
+        candidateService.declineImportedResume(userPrincipal.getId(), importId);
+        return ResponseEntity.ok(new ApiResponse<>(true, null, "Imported resume declined"));
     }
 
     @GetMapping("/resume")
@@ -96,12 +136,13 @@ public class CandidateController {
     }
 
     @GetMapping("/jobs/recommended")
-    @Operation(summary = "Get recommended jobs")
-    public ResponseEntity<ApiResponse<List<JobResponse>>> getRecommendedJobs(
+    @Operation(summary = "Get recommended jobs, best match or closest in meaning first")
+    public ResponseEntity<ApiResponse<Page<JobResponse>>> getRecommendedJobs(
             @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(defaultValue = "SCORE") RecommendationMode mode,
             Pageable pageable) {
 
-        List<JobResponse> jobs = candidateService.getRecommendedJobs(userPrincipal.getId(), pageable);
+        Page<JobResponse> jobs = candidateService.getRecommendedJobs(userPrincipal.getId(), mode, pageable);
         return ResponseEntity.ok(new ApiResponse<>(true, jobs, "Recommended jobs retrieved successfully"));
     }
 
@@ -4,9 +4,11 @@ import com.jobboard.controller.AuthController.ApiResponse;
 import com.jobboard.domain.Application;
 import com.jobboard.domain.Job;
 import com.jobboard.dto.application.ApplicationResponse;
+import com.jobboard.dto.job.CandidateMatchPage;
 import com.jobboard.dto.job.CandidateMatchResponse;
 import com.jobboard.dto.job.JobRequest;
 import com.jobboard.dto.job.JobResponse;
+import com.jobboard.dto.job.JobSearchPage;
 import com.jobboard.security.UserPrincipal;
 import com.jobboard.service.JobService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -48,6 +50,21 @@ public class JobController {
         return ResponseEntity.ok(new ApiResponse<>(true, jobs, "Jobs retrieved successfully"));
     }
 
+    @GetMapping(value = "/search", params = "q")
+    @Operation(summary = "Full-text job search (public)")
+    public ResponseEntity<ApiResponse<JobSearchPage>> fullTextSearchJobs(
+            @RequestParam String q,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) Job.JobType jobType,
+            @RequestParam(required = false) Boolean remote,
+            @RequestParam(required = false) BigDecimal salaryMin,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        JobSearchPage jobs = jobService.fullTextSearchJobs(q, location, jobType, remote, salaryMin, cursor, size);
+        return ResponseEntity.ok(new ApiResponse<>(true, jobs, "Jobs retrieved successfully"));
+    }
+
     @GetMapping("/{jobId}/public")
     @Operation(summary = "Get public job details")
     public ResponseEntity<ApiResponse<JobResponse>> getPublicJob(@PathVariable Long jobId) {
@@ -118,14 +135,42 @@ public class JobController {
     @Operation(summary = "Get ranked candidates for job")
     @SecurityRequirement(name = "Bearer Authentication")
     @PreAuthorize("hasRole('RECRUITER')")
-    public ResponseEntity<ApiResponse<List<CandidateMatchResponse>>> getRankedCandidates(
+    public ResponseEntity<ApiResponse<CandidateMatchPage>> getRankedCandidates(
             @AuthenticationPrincipal UserPrincipal userPrincipal,
-            @PathVariable Long jobId) {
+            @PathVariable Long jobId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
 
-        List<CandidateMatchResponse> candidates = jobService.getRankedCandidates(userPrincipal.getId(), jobId);
+        CandidateMatchPage candidates = jobService.getRankedCandidates(userPrincipal.getId(), jobId, cursor, size);
         return ResponseEntity.ok(new ApiResponse<>(true, candidates, "Candidates retrieved successfully"));
     }
 
+    @GetMapping("/{jobId}/candidates/top")
+    @Operation(summary = "Rank every candidate for job")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PreAuthorize("hasRole('RECRUITER')")
+    public ResponseEntity<ApiResponse<List<CandidateMatchResponse>>> getTopCandidates(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "50") int limit) {
+
+        List<CandidateMatchResponse> candidates = jobService.getTopCandidates(userPrincipal.getId(), jobId, limit);
+        return ResponseEntity.ok(new ApiResponse<>(true, candidates, "Candidates ranked successfully"));
+    }
+
+    @GetMapping("/{jobId}/candidates/{candidateId}/score")
+    @Operation(summary = "Get the breakdown of a candidate's match score")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PreAuthorize("hasRole('RECRUITER')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getScoreBreakdown(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable Long jobId,
+            @PathVariable Long candidateId) {
+
+        Map<String, Object> breakdown = jobService.getScoreBreakdown(userPrincipal.getId(), jobId, candidateId);
+        return ResponseEntity.ok(new ApiResponse<>(true, breakdown, "Score breakdown retrieved successfully"));
+    }
+
     @GetMapping("/{jobId}/applications")
     @Operation(summary = "Get applications for job")
     @SecurityRequirement(name = "Bearer Authentication")
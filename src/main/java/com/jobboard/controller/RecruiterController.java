@@ -1,13 +1,16 @@
 package com.jobboard.controller;
 
 import com.jobboard.controller.AuthController.ApiResponse;
+import com.jobboard.dto.recruiter.BulkImportResponse;
 import com.jobboard.dto.recruiter.RecruiterProfileRequest;
 import com.jobboard.dto.recruiter.RecruiterProfileResponse;
 import com.jobboard.security.UserPrincipal;
+import com.jobboard.service.BulkResumeImportService;
 import com.jobboard.service.RecruiterService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -15,6 +18,8 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+
 @RestController
 @RequestMapping("/api/recruiters")
 @Tag(name = "Recruiter", description = "Recruiter management APIs")
@@ -25,6 +30,9 @@ public class RecruiterController {
     @Autowired
     private RecruiterService recruiterService;
 
+    @Autowired
+    private BulkResumeImportService bulkResumeImportService;
+
     @GetMapping("/profile")
     @Operation(summary = "Get recruiter profile")
     public ResponseEntity<ApiResponse<RecruiterProfileResponse>> getProfile(
@@ -43,4 +51,17 @@ public class RecruiterController {
         RecruiterProfileResponse profile = recruiterService.updateProfile(userPrincipal.getId(), request);
         return ResponseEntity.ok(new ApiResponse<>(true, profile, "Profile updated successfully"));
     }
+
+    @PostMapping(value = "/resumes/import", consumes = "application/zip")
+    @Operation(summary = "Bulk import resume PDFs from a ZIP archive sent as the request body; "
+            + "candidates confirm them before they join a profile")
+    public ResponseEntity<ApiResponse<BulkImportResponse>> importResumes(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            HttpServletRequest request) throws IOException {
+
+        // The archive is streamed from the request body, never buffered as a multipart upload
+        BulkImportResponse report = bulkResumeImportService.importZip(request.getInputStream(),
+                userPrincipal.getId());
+        return ResponseEntity.ok(new ApiResponse<>(true, report, "Resume import completed"));
+    }
 }
\ No newline at end of file
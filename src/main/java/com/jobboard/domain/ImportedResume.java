@@ -0,0 +1,137 @@
+package com.jobboard.domain;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * A resume from a bulk import that no candidate has confirmed yet. It names a
+ * candidate only through the email found in it, and becomes a {@link Resume}
+ * when the candidate with that account email claims it.
+ */
+@Entity
+@Table(name = "imported_resumes")
+@EntityListeners(AuditingEntityListener.class)
+public class ImportedResume {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Lowercased
+    @Column(nullable = false)
+    private String email;
+
+    // User id of the recruiter who ran the import; null for command-line imports
+    @Column(name = "imported_by")
+    private Long importedBy;
+
+    @Column(name = "file_path", nullable = false)
+    private String filePath;
+
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "parsed_text", columnDefinition = "TEXT")
+    private String parsedText;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "skills_json", columnDefinition = "jsonb")
+    private Map<String, Object> skillsJson;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public ImportedResume() {
+    }
+
+    public ImportedResume(String email, Long importedBy, String filePath, String fileName) {
+        this.email = email;
+        this.importedBy = importedBy;
+        this.filePath = filePath;
+        this.fileName = fileName;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public Long getImportedBy() {
+        return importedBy;
+    }
+
+    public void setImportedBy(Long importedBy) {
+        this.importedBy = importedBy;
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    public void setFilePath(String filePath) {
+        this.filePath = filePath;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public String getParsedText() {
+        return parsedText;
+    }
+
+    public void setParsedText(String parsedText) {
+        this.parsedText = parsedText;
+    }
+
+    public Map<String, Object> getSkillsJson() {
+        return skillsJson;
+    }
+
+    public void setSkillsJson(Map<String, Object> skillsJson) {
+        this.skillsJson = skillsJson;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
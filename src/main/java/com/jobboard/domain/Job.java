@@ -1,6 +1,10 @@
 package com.jobboard.domain;
 
+import com.jobboard.matching.ScoringEvaluator;
+import com.jobboard.matching.ScoringProfile;
 import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -60,7 +64,26 @@ public class Job {
     @Column(name = "expires_at")
     private LocalDateTime expiresAt;
 
+    // Null scores with the default profile
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "scoring_profile", columnDefinition = "jsonb")
+    private ScoringProfile scoringProfile;
+
+    // Derived from the job text on save; see JobFeatures.deriveRequirements
+    @Column(name = "required_experience_months")
+    private Integer requiredExperienceMonths;
+
+    // EducationLevel ordinal, or -1 when no degree is asked for
+    @Column(name = "required_education_level")
+    private Integer requiredEducationLevel;
+
+    // Compiled from scoringProfile when set, or on first use after loading
+    @Transient
+    private ScoringEvaluator evaluator;
+
+    // Stored score details and JobFeatures index skills by position, so the order must be stable
     @OneToMany(mappedBy = "job", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @OrderBy("id")
     private List<JobSkill> jobSkills = new ArrayList<>();
 
     @OneToMany(mappedBy = "job", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
@@ -189,6 +212,43 @@ public class Job {
         this.expiresAt = expiresAt;
     }
 
+    public ScoringProfile getScoringProfile() {
+        return scoringProfile;
+    }
+
+    /**
+     * Sets and compiles the profile, so an invalid one is rejected before the job is saved.
+     *
+     * @throws IllegalArgumentException if a component is out of range
+     */
+    public void setScoringProfile(ScoringProfile scoringProfile) {
+        this.evaluator = ScoringEvaluator.compile(scoringProfile);
+        this.scoringProfile = scoringProfile;
+    }
+
+    public ScoringEvaluator getEvaluator() {
+        if (evaluator == null) {
+            evaluator = scoringProfile != null ? ScoringEvaluator.compile(scoringProfile) : ScoringEvaluator.DEFAULT;
+        }
+        return evaluator;
+    }
+
+    public Integer getRequiredExperienceMonths() {
+        return requiredExperienceMonths;
+    }
+
+    public void setRequiredExperienceMonths(Integer requiredExperienceMonths) {
+        this.requiredExperienceMonths = requiredExperienceMonths;
+    }
+
+    public Integer getRequiredEducationLevel() {
+        return requiredEducationLevel;
+    }
+
+    public void setRequiredEducationLevel(Integer requiredEducationLevel) {
+        this.requiredEducationLevel = requiredEducationLevel;
+    }
+
     public List<JobSkill> getJobSkills() {
         return jobSkills;
     }
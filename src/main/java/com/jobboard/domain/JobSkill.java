@@ -18,6 +18,9 @@ public class JobSkill {
     @Column(name = "skill_name", nullable = false)
     private String skillName;
 
+    @Column(name = "skill_id")
+    private Integer skillId;
+
     private Boolean required = false;
 
     @Column(name = "min_years")
@@ -61,6 +64,14 @@ public class JobSkill {
         this.skillName = skillName;
     }
 
+    public Integer getSkillId() {
+        return skillId;
+    }
+
+    public void setSkillId(Integer skillId) {
+        this.skillId = skillId;
+    }
+
     public Boolean getRequired() {
         return required;
     }
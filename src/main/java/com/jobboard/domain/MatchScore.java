@@ -1,14 +1,12 @@
 package com.jobboard.domain;
 
+import com.jobboard.matching.ScoreDetails;
 import jakarta.persistence.*;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.Map;
 
 @Entity
 @Table(name = "match_scores")
@@ -39,9 +37,9 @@ public class MatchScore {
     @Column(name = "edu_score", precision = 5, scale = 2)
     private BigDecimal eduScore;
 
-    @JdbcTypeCode(SqlTypes.JSON)
-    @Column(name = "details_json", columnDefinition = "jsonb")
-    private Map<String, Object> detailsJson;
+    // Written and read over JDBC only, so loading scores never pulls the details column
+    @Transient
+    private ScoreDetails details;
 
     @CreatedDate
     @Column(name = "calculated_at", nullable = false, updatable = false)
@@ -113,12 +111,12 @@ public class MatchScore {
         this.eduScore = eduScore;
     }
 
-    public Map<String, Object> getDetailsJson() {
-        return detailsJson;
+    public ScoreDetails getDetails() {
+        return details;
     }
 
-    public void setDetailsJson(Map<String, Object> detailsJson) {
-        this.detailsJson = detailsJson;
+    public void setDetails(ScoreDetails details) {
+        this.details = details;
     }
 
     public LocalDateTime getCalculatedAt() {
@@ -31,6 +31,10 @@ public class Resume {
     @Column(name = "file_name", nullable = false)
     private String fileName;
 
+    // SHA-256 of the uploaded file, which is also its name in the upload directory
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     @Column(name = "parsed_text", columnDefinition = "TEXT")
     private String parsedText;
 
@@ -38,6 +42,13 @@ public class Resume {
     @Column(name = "skills_json", columnDefinition = "jsonb")
     private Map<String, Object> skillsJson;
 
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ResumeStatus status = ResumeStatus.PENDING;
+
+    @Column(name = "status_message", length = 500)
+    private String statusMessage;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -92,6 +103,14 @@ public class Resume {
         this.fileName = fileName;
     }
 
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
     public String getParsedText() {
         return parsedText;
     }
@@ -108,6 +127,22 @@ public class Resume {
         this.skillsJson = skillsJson;
     }
 
+    public ResumeStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ResumeStatus status) {
+        this.status = status;
+    }
+
+    public String getStatusMessage() {
+        return statusMessage;
+    }
+
+    public void setStatusMessage(String statusMessage) {
+        this.statusMessage = statusMessage;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -131,4 +166,8 @@ public class Resume {
     public void setResumeSkills(List<ResumeSkill> resumeSkills) {
         this.resumeSkills = resumeSkills;
     }
+
+    public enum ResumeStatus {
+        PENDING, PARSED, FAILED
+    }
 }
\ No newline at end of file
@@ -17,6 +17,9 @@ public class ResumeSkill {
     @Column(name = "skill_name", nullable = false)
     private String skillName;
 
+    @Column(name = "skill_id")
+    private Integer skillId;
+
     @Enumerated(EnumType.STRING)
     private SkillProficiency proficiency;
 
@@ -57,6 +60,14 @@ public class ResumeSkill {
         this.skillName = skillName;
     }
 
+    public Integer getSkillId() {
+        return skillId;
+    }
+
+    public void setSkillId(Integer skillId) {
+        this.skillId = skillId;
+    }
+
     public SkillProficiency getProficiency() {
         return proficiency;
     }
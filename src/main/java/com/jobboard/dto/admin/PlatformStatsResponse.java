@@ -1,5 +1,8 @@
 package com.jobboard.dto.admin;
 
+import java.time.LocalDateTime;
+import java.util.Map;
+
 public class PlatformStatsResponse {
 
     private Long totalUsers;
@@ -9,13 +12,16 @@ public class PlatformStatsResponse {
     private Long activeJobs;
     private Long totalApplications;
     private Long totalResumes;
+    private Map<LocalDateTime, Long> applicationsPerDay;
+    private Map<LocalDateTime, Long> resumeUploadsPerHour;
 
     // Constructors
     public PlatformStatsResponse() {
     }
 
     public PlatformStatsResponse(Long totalUsers, Long totalCandidates, Long totalRecruiters,
-            Long totalJobs, Long activeJobs, Long totalApplications, Long totalResumes) {
+            Long totalJobs, Long activeJobs, Long totalApplications, Long totalResumes,
+            Map<LocalDateTime, Long> applicationsPerDay, Map<LocalDateTime, Long> resumeUploadsPerHour) {
         this.totalUsers = totalUsers;
         this.totalCandidates = totalCandidates;
         this.totalRecruiters = totalRecruiters;
@@ -23,6 +29,8 @@ public class PlatformStatsResponse {
         this.activeJobs = activeJobs;
         this.totalApplications = totalApplications;
         this.totalResumes = totalResumes;
+        this.applicationsPerDay = applicationsPerDay;
+        this.resumeUploadsPerHour = resumeUploadsPerHour;
     }
 
     // Getters and Setters
@@ -81,4 +89,20 @@ public class PlatformStatsResponse {
     public void setTotalResumes(Long totalResumes) {
         this.totalResumes = totalResumes;
     }
-}
\ No newline at end of file
+
+    public Map<LocalDateTime, Long> getApplicationsPerDay() {
+        return applicationsPerDay;
+    }
+
+    public void setApplicationsPerDay(Map<LocalDateTime, Long> applicationsPerDay) {
+        this.applicationsPerDay = applicationsPerDay;
+    }
+
+    public Map<LocalDateTime, Long> getResumeUploadsPerHour() {
+        return resumeUploadsPerHour;
+    }
+
+    public void setResumeUploadsPerHour(Map<LocalDateTime, Long> resumeUploadsPerHour) {
+        this.resumeUploadsPerHour = resumeUploadsPerHour;
+    }
+}
@@ -0,0 +1,55 @@
+package com.jobboard.dto.candidate;
+
+import java.time.LocalDateTime;
+
+public class ImportedResumeResponse {
+
+    private Long importId;
+    private String fileName;
+    private String email;
+    private LocalDateTime importedAt;
+
+    // Constructors
+    public ImportedResumeResponse() {
+    }
+
+    public ImportedResumeResponse(Long importId, String fileName, String email, LocalDateTime importedAt) {
+        this.importId = importId;
+        this.fileName = fileName;
+        this.email = email;
+        this.importedAt = importedAt;
+    }
+
+    // Getters and Setters
+    public Long getImportId() {
+        return importId;
+    }
+
+    public void setImportId(Long importId) {
+        this.importId = importId;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public LocalDateTime getImportedAt() {
+        return importedAt;
+    }
+
+    public void setImportedAt(LocalDateTime importedAt) {
+        this.importedAt = importedAt;
+    }
+}
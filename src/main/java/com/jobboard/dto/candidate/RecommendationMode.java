@@ -0,0 +1,10 @@
+package com.jobboard.dto.candidate;
+
+/**
+ * How recommended jobs are picked: by match score, or by how close in meaning
+ * the job's title and skills are to the candidate's positions and skills.
+ */
+public enum RecommendationMode {
+    SCORE,
+    SEMANTIC
+}
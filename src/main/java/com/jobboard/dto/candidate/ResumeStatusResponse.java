@@ -0,0 +1,78 @@
+package com.jobboard.dto.candidate;
+
+import com.jobboard.domain.Resume;
+
+import java.time.LocalDateTime;
+
+public class ResumeStatusResponse {
+
+    private Long resumeId;
+    private String fileName;
+    private Resume.ResumeStatus status;
+    private String message;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public ResumeStatusResponse() {
+    }
+
+    public ResumeStatusResponse(Long resumeId, String fileName, Resume.ResumeStatus status, String message,
+            LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.resumeId = resumeId;
+        this.fileName = fileName;
+        this.status = status;
+        this.message = message;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    // Getters and Setters
+    public Long getResumeId() {
+        return resumeId;
+    }
+
+    public void setResumeId(Long resumeId) {
+        this.resumeId = resumeId;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public Resume.ResumeStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(Resume.ResumeStatus status) {
+        this.status = status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
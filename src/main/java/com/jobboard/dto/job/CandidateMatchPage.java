@@ -0,0 +1,35 @@
+package com.jobboard.dto.job;
+
+import java.util.List;
+
+public class CandidateMatchPage {
+
+    private List<CandidateMatchResponse> candidates;
+    private String nextCursor;
+
+    // Constructors
+    public CandidateMatchPage() {
+    }
+
+    public CandidateMatchPage(List<CandidateMatchResponse> candidates, String nextCursor) {
+        this.candidates = candidates;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and Setters
+    public List<CandidateMatchResponse> getCandidates() {
+        return candidates;
+    }
+
+    public void setCandidates(List<CandidateMatchResponse> candidates) {
+        this.candidates = candidates;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
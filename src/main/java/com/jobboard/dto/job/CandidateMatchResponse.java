@@ -25,6 +25,25 @@ public class CandidateMatchResponse {
     public CandidateMatchResponse() {
     }
 
+    public CandidateMatchResponse(Long candidateId, String firstName, String lastName, String email, String location,
+                                  BigDecimal totalScore, BigDecimal skillScore, BigDecimal experienceScore,
+                                  BigDecimal educationScore, LocalDateTime calculatedAt,
+                                  Application.ApplicationStatus applicationStatus, LocalDateTime appliedAt) {
+        this.candidateId = candidateId;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.location = location;
+        this.totalScore = totalScore;
+        this.skillScore = skillScore;
+        this.experienceScore = experienceScore;
+        this.educationScore = educationScore;
+        this.calculatedAt = calculatedAt;
+        this.hasApplied = applicationStatus != null;
+        this.applicationStatus = applicationStatus;
+        this.appliedAt = appliedAt;
+    }
+
     // Getters and Setters
     public Long getCandidateId() {
         return candidateId;
@@ -1,6 +1,7 @@
 package com.jobboard.dto.job;
 
 import com.jobboard.domain.Job;
+import com.jobboard.matching.ScoringProfile;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -38,6 +39,9 @@ public class JobRequest {
     @Valid
     private List<JobSkillRequest> skills;
 
+    // Components left out keep their defaults
+    private ScoringProfile scoringProfile;
+
     // Constructors
     public JobRequest() {
     }
@@ -122,4 +126,12 @@ public class JobRequest {
     public void setSkills(List<JobSkillRequest> skills) {
         this.skills = skills;
     }
+
+    public ScoringProfile getScoringProfile() {
+        return scoringProfile;
+    }
+
+    public void setScoringProfile(ScoringProfile scoringProfile) {
+        this.scoringProfile = scoringProfile;
+    }
 }
\ No newline at end of file
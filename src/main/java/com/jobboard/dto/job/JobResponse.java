@@ -1,6 +1,7 @@
 package com.jobboard.dto.job;
 
 import com.jobboard.domain.Job;
+import com.jobboard.matching.ScoringProfile;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -23,6 +24,7 @@ public class JobResponse {
     private LocalDateTime expiresAt;
     private String recruiterCompany;
     private List<JobSkillResponse> skills;
+    private ScoringProfile scoringProfile;
 
     // Constructors
     public JobResponse() {
@@ -148,4 +150,12 @@ public class JobResponse {
     public void setSkills(List<JobSkillResponse> skills) {
         this.skills = skills;
     }
+
+    public ScoringProfile getScoringProfile() {
+        return scoringProfile;
+    }
+
+    public void setScoringProfile(ScoringProfile scoringProfile) {
+        this.scoringProfile = scoringProfile;
+    }
 }
\ No newline at end of file
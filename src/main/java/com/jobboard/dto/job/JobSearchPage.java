@@ -0,0 +1,35 @@
+package com.jobboard.dto.job;
+
+import java.util.List;
+
+public class JobSearchPage {
+
+    private List<JobResponse> jobs;
+    private String nextCursor;
+
+    // Constructors
+    public JobSearchPage() {
+    }
+
+    public JobSearchPage(List<JobResponse> jobs, String nextCursor) {
+        this.jobs = jobs;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and Setters
+    public List<JobResponse> getJobs() {
+        return jobs;
+    }
+
+    public void setJobs(List<JobResponse> jobs) {
+        this.jobs = jobs;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,100 @@
+package com.jobboard.dto.recruiter;
+
+import java.util.List;
+
+public class BulkImportResponse {
+
+    private int totalFiles;
+    private int imported;
+    private int failed;
+    private long totalBytes;
+    private long elapsedMillis;
+    private double docsPerSecond;
+    private double bytesPerSecond;
+    private List<FileFailure> failures;
+
+    // Constructors
+    public BulkImportResponse() {
+    }
+
+    public BulkImportResponse(int totalFiles, int imported, int failed, long totalBytes, long elapsedMillis,
+            List<FileFailure> failures) {
+        this.totalFiles = totalFiles;
+        this.imported = imported;
+        this.failed = failed;
+        this.totalBytes = totalBytes;
+        this.elapsedMillis = elapsedMillis;
+        double seconds = Math.max(elapsedMillis, 1) / 1000.0;
+        this.docsPerSecond = imported / seconds;
+        this.bytesPerSecond = totalBytes / seconds;
+        this.failures = failures;
+    }
+
+    // Getters and Setters
+    public int getTotalFiles() {
+        return totalFiles;
+    }
+
+    public void setTotalFiles(int totalFiles) {
+        this.totalFiles = totalFiles;
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public void setImported(int imported) {
+        this.imported = imported;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public void setTotalBytes(long totalBytes) {
+        this.totalBytes = totalBytes;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public double getDocsPerSecond() {
+        return docsPerSecond;
+    }
+
+    public void setDocsPerSecond(double docsPerSecond) {
+        this.docsPerSecond = docsPerSecond;
+    }
+
+    public double getBytesPerSecond() {
+        return bytesPerSecond;
+    }
+
+    public void setBytesPerSecond(double bytesPerSecond) {
+        this.bytesPerSecond = bytesPerSecond;
+    }
+
+    public List<FileFailure> getFailures() {
+        return failures;
+    }
+
+    public void setFailures(List<FileFailure> failures) {
+        this.failures = failures;
+    }
+
+    public record FileFailure(String fileName, String reason) {
+    }
+}
@@ -0,0 +1,8 @@
+package com.jobboard.event;
+
+/**
+ * Published when a candidate's resumes, education or experience change, so
+ * anything derived from them can be rebuilt.
+ */
+public record CandidateProfileChangedEvent(Long candidateId) {
+}
@@ -0,0 +1,9 @@
+package com.jobboard.event;
+
+/**
+ * Published when a job is created, edited, deleted or changes status. The flags
+ * say whether the job was and is publicly listed (active), so listeners can tell
+ * whether search results may have changed.
+ */
+public record JobChangedEvent(Long jobId, boolean wasListed, boolean listed) {
+}
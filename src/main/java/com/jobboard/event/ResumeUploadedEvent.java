@@ -0,0 +1,9 @@
+package com.jobboard.event;
+
+import java.nio.file.Path;
+
+/**
+ * Published when a resume file has been stored and its PENDING row saved.
+ */
+public record ResumeUploadedEvent(Long resumeId, Path filePath) {
+}
@@ -0,0 +1,8 @@
+package com.jobboard.event;
+
+/**
+ * Published when a user is activated or deactivated. Tokens issued with a
+ * version below {@code tokenVersion} are no longer accepted.
+ */
+public record UserAccessChangedEvent(Long userId, boolean active, int tokenVersion) {
+}
@@ -0,0 +1,228 @@
+package com.jobboard.matching;
+
+import com.jobboard.domain.Candidate;
+import com.jobboard.domain.Education;
+import com.jobboard.domain.Experience;
+import com.jobboard.domain.Resume;
+import com.jobboard.domain.ResumeSkill;
+import com.jobboard.skill.SkillTaxonomy;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.Arrays;
+
+/**
+ * Immutable, primitive-backed snapshot of everything the scorer needs from a
+ * candidate: canonical skill ids with the most years reported for each, total
+ * experience and highest education level.
+ *
+ * Built once, from the entity graph or from raw rows, when the candidate's
+ * resumes or profile change, so scoring a candidate against a job never walks
+ * collections, boxes numbers or touches strings. Skills are a {@link SkillBitset},
+ * and years sit in a parallel array in ascending id order, so a skill's years
+ * are at its rank in the bitset.
+ */
+public final class CandidateFeatures {
+
+    /** Years value for a skill the candidate has but states no experience for. */
+    public static final int NO_YEARS = -1;
+
+    /** Education level when the candidate lists no degree. */
+    public static final int NO_EDUCATION = -1;
+
+    private final long taxonomyVersion;
+    private final SkillBitset skills;
+    private final short[] skillYears;
+    private final int closedExperienceMonths;
+    private final int openExperienceCount;
+    private final long openExperienceStartMonths;
+    private final int educationLevel;
+
+    private CandidateFeatures(long taxonomyVersion, SkillBitset skills, short[] skillYears, int closedExperienceMonths,
+            int openExperienceCount, long openExperienceStartMonths, int educationLevel) {
+        this.taxonomyVersion = taxonomyVersion;
+        this.skills = skills;
+        this.skillYears = skillYears;
+        this.closedExperienceMonths = closedExperienceMonths;
+        this.openExperienceCount = openExperienceCount;
+        this.openExperienceStartMonths = openExperienceStartMonths;
+        this.educationLevel = educationLevel;
+    }
+
+    /**
+     * Broader skills are implied by narrower ones, so a "spring boot" resume also
+     * counts as "spring" and "java". Rows saved before the taxonomy existed carry
+     * no id and are resolved by name.
+     */
+    public static CandidateFeatures of(Candidate candidate, SkillTaxonomy taxonomy) {
+        Builder builder = builder(taxonomy);
+        for (Resume resume : candidate.getResumes()) {
+            if (resume.getResumeSkills() == null) {
+                continue;
+            }
+            for (ResumeSkill skill : resume.getResumeSkills()) {
+                builder.addSkill(skill.getSkillId(), skill.getSkillName(), skill.getYearsExp());
+            }
+        }
+        for (Experience experience : candidate.getExperiences()) {
+            builder.addExperience(experience.getStartDate(), experience.getEndDate());
+        }
+        for (Education education : candidate.getEducations()) {
+            builder.addEducation(education.getDegree());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Starts a snapshot from raw rows, for callers that read them without loading entities.
+     */
+    public static Builder builder(SkillTaxonomy taxonomy) {
+        return new Builder(taxonomy);
+    }
+
+    /**
+     * Months since year zero, the unit ongoing experience is measured in.
+     */
+    public static int epochMonth(LocalDate date) {
+        return date.getYear() * 12 + date.getMonthValue() - 1;
+    }
+
+    /**
+     * Position of the skill in this snapshot, or a negative value if the candidate lacks it.
+     */
+    public int indexOf(int skillId) {
+        return skills.rank(skillId);
+    }
+
+    public boolean hasSkill(int skillId) {
+        return indexOf(skillId) >= 0;
+    }
+
+    public int skillIdAt(int index) {
+        return skills.skillIdAt(index);
+    }
+
+    public int yearsAt(int index) {
+        return skillYears[index];
+    }
+
+    public int getSkillCount() {
+        return skills.cardinality();
+    }
+
+    public SkillBitset getSkills() {
+        return skills;
+    }
+
+    /**
+     * Total experience in months, counting ongoing positions up to the given month.
+     */
+    public int experienceMonths(int currentEpochMonth) {
+        long open = (long) openExperienceCount * currentEpochMonth - openExperienceStartMonths;
+        return closedExperienceMonths + (int) Math.max(0, open);
+    }
+
+    public int getEducationLevel() {
+        return educationLevel;
+    }
+
+    public long getTaxonomyVersion() {
+        return taxonomyVersion;
+    }
+
+    /**
+     * Accumulates resume skills, positions and degrees one row at a time.
+     */
+    public static final class Builder {
+
+        private final SkillTaxonomy taxonomy;
+        private int[] skillIds = new int[8];
+        private int[] skillYears = new int[8];
+        private int skillCount;
+        private int closedExperienceMonths;
+        private int openExperienceCount;
+        private long openExperienceStartMonths;
+        private int educationLevel = NO_EDUCATION;
+
+        private Builder(SkillTaxonomy taxonomy) {
+            this.taxonomy = taxonomy;
+        }
+
+        public Builder addSkill(Integer skillId, String skillName, Integer yearsExp) {
+            int id = skillId != null ? skillId : taxonomy.idOf(skillName);
+            if (id == SkillTaxonomy.UNKNOWN) {
+                return this;
+            }
+            int years = yearsExp != null ? yearsExp : NO_YEARS;
+            mergeSkill(id, years);
+            for (int ancestor : taxonomy.ancestorsOf(id)) {
+                mergeSkill(ancestor, years);
+            }
+            return this;
+        }
+
+        // Ongoing positions keep accruing, so only their start is recorded
+        public Builder addExperience(LocalDate start, LocalDate end) {
+            if (start == null) {
+                return this;
+            }
+            if (end == null) {
+                openExperienceCount++;
+                openExperienceStartMonths += epochMonth(start);
+            } else {
+                closedExperienceMonths += (int) Math.max(0, Period.between(start, end).toTotalMonths());
+            }
+            return this;
+        }
+
+        public Builder addEducation(String degree) {
+            if (degree != null) {
+                educationLevel = Math.max(educationLevel, EducationLevel.ofDegree(degree).ordinal());
+            }
+            return this;
+        }
+
+        public CandidateFeatures build() {
+            // Insertion sort keeps years aligned with ids; candidates list a few dozen skills at most
+            int[] ids = Arrays.copyOf(skillIds, skillCount);
+            int[] years = Arrays.copyOf(skillYears, skillCount);
+            for (int i = 1; i < skillCount; i++) {
+                int id = ids[i];
+                int year = years[i];
+                int j = i - 1;
+                while (j >= 0 && ids[j] > id) {
+                    ids[j + 1] = ids[j];
+                    years[j + 1] = years[j];
+                    j--;
+                }
+                ids[j + 1] = id;
+                years[j + 1] = year;
+            }
+
+            // Ids are distinct, so ascending order is rank order
+            short[] packedYears = new short[skillCount];
+            for (int i = 0; i < skillCount; i++) {
+                packedYears[i] = (short) Math.min(years[i], Short.MAX_VALUE);
+            }
+
+            return new CandidateFeatures(taxonomy.getVersion(), SkillBitset.of(ids), packedYears,
+                    closedExperienceMonths, openExperienceCount, openExperienceStartMonths, educationLevel);
+        }
+
+        private void mergeSkill(int skillId, int years) {
+            for (int i = 0; i < skillCount; i++) {
+                if (skillIds[i] == skillId) {
+                    skillYears[i] = Math.max(skillYears[i], years);
+                    return;
+                }
+            }
+            if (skillCount == skillIds.length) {
+                skillIds = Arrays.copyOf(skillIds, skillCount * 2);
+                skillYears = Arrays.copyOf(skillYears, skillCount * 2);
+            }
+            skillIds[skillCount] = skillId;
+            skillYears[skillCount] = years;
+            skillCount++;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.jobboard.matching;
+
+/**
+ * Immutable array view of every candidate's features, for scanning the whole
+ * pool without touching maps or entities. Entry {@code i} of both arrays
+ * describes the same candidate.
+ */
+public final class CandidatePool {
+
+    private final long taxonomyVersion;
+    private final long[] candidateIds;
+    private final CandidateFeatures[] features;
+
+    public CandidatePool(long taxonomyVersion, long[] candidateIds, CandidateFeatures[] features) {
+        if (candidateIds.length != features.length) {
+            throw new IllegalArgumentException("Candidate ids and features differ in length");
+        }
+        this.taxonomyVersion = taxonomyVersion;
+        this.candidateIds = candidateIds;
+        this.features = features;
+    }
+
+    public int size() {
+        return candidateIds.length;
+    }
+
+    public long candidateIdAt(int index) {
+        return candidateIds[index];
+    }
+
+    public CandidateFeatures featuresAt(int index) {
+        return features[index];
+    }
+
+    public long getTaxonomyVersion() {
+        return taxonomyVersion;
+    }
+}
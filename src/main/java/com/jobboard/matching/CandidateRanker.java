@@ -0,0 +1,73 @@
+package com.jobboard.matching;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Scores a whole {@link CandidatePool} against one job and keeps the best K.
+ *
+ * The pool is split into slices scored in parallel on a fork/join pool. Each
+ * slice keeps its own bounded heap of primitive (score, index) pairs, and the
+ * heaps are merged pairwise as slices complete, so no more than K entries per
+ * slice are ever held and no per-candidate object is allocated.
+ */
+public final class CandidateRanker {
+
+    // Small enough to balance across cores, large enough that heap merges stay negligible
+    private static final int SLICE_SIZE = 16_384;
+
+    private CandidateRanker() {
+    }
+
+    /**
+     * The {@code k} highest-scoring candidates, best first. Equal scores rank the
+     * lower candidate id first so results are stable between calls.
+     */
+    public static List<RankedCandidate> topK(CandidatePool pool, JobFeatures job, int k, int currentEpochMonth,
+            ForkJoinPool executor) {
+        if (k <= 0 || pool.size() == 0) {
+            return List.of();
+        }
+
+        TopK best = executor.invoke(new RankTask(pool, job, k, currentEpochMonth, 0, pool.size()));
+        return best.drain((index, score) -> new RankedCandidate(pool.candidateIdAt(index), score,
+                pool.featuresAt(index)));
+    }
+
+    private static final class RankTask extends RecursiveTask<TopK> {
+
+        private final CandidatePool pool;
+        private final JobFeatures job;
+        private final int k;
+        private final int currentEpochMonth;
+        private final int from;
+        private final int to;
+
+        RankTask(CandidatePool pool, JobFeatures job, int k, int currentEpochMonth, int from, int to) {
+            this.pool = pool;
+            this.job = job;
+            this.k = k;
+            this.currentEpochMonth = currentEpochMonth;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected TopK compute() {
+            if (to - from <= SLICE_SIZE) {
+                TopK best = new TopK(k, pool::candidateIdAt);
+                for (int i = from; i < to; i++) {
+                    best.offer(MatchScorer.score(pool.featuresAt(i), job, currentEpochMonth), i);
+                }
+                return best;
+            }
+
+            int middle = (from + to) >>> 1;
+            RankTask left = new RankTask(pool, job, k, currentEpochMonth, from, middle);
+            left.fork();
+            TopK right = new RankTask(pool, job, k, currentEpochMonth, middle, to).compute();
+            return left.join().mergeFrom(right);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.jobboard.matching;
+
+import java.util.Locale;
+
+/**
+ * Degree levels in ascending order; the ordinal is the level compared when scoring.
+ */
+public enum EducationLevel {
+    OTHER,
+    ASSOCIATE,
+    BACHELORS,
+    MASTERS,
+    DOCTORATE;
+
+    public static EducationLevel ofDegree(String degree) {
+        String education = degree.toLowerCase(Locale.ROOT);
+        if (education.contains("phd") || education.contains("doctorate"))
+            return DOCTORATE;
+        if (education.contains("master") || education.contains("mba"))
+            return MASTERS;
+        if (education.contains("bachelor"))
+            return BACHELORS;
+        if (education.contains("associate") || education.contains("diploma"))
+            return ASSOCIATE;
+        return OTHER;
+    }
+
+    /**
+     * The minimum degree a job's requirements text asks for, or null when it names none.
+     */
+    public static EducationLevel requiredBy(String requirements) {
+        if (requirements == null) {
+            return null;
+        }
+
+        String text = requirements.toLowerCase(Locale.ROOT);
+        if (text.contains("phd") || text.contains("doctorate")) {
+            return DOCTORATE;
+        } else if (text.contains("master") || text.contains("mba")) {
+            return MASTERS;
+        } else if (text.contains("bachelor") || text.contains("degree")) {
+            return BACHELORS;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,199 @@
+package com.jobboard.matching;
+
+import com.jobboard.domain.Job;
+import com.jobboard.domain.JobSkill;
+import com.jobboard.skill.SkillTaxonomy;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Primitive view of a job's requirements, compiled once per job and reused for
+ * every candidate scored against it. Skills keep the order of
+ * {@link Job#getJobSkills()}, so index {@code i} here describes the i-th job skill.
+ */
+public final class JobFeatures {
+
+    /** Education level when the job asks for no particular degree. */
+    public static final int NO_EDUCATION = -1;
+
+    private final int[] skillIds;
+    private final int[] minYears;
+    private final double[] weights;
+    private final boolean[] required;
+    private final SkillBitset skills;
+    private final SkillBitset requiredSkills;
+    private final double totalWeight;
+    private final int requiredSkillCount;
+    private final int requiredExperienceMonths;
+    private final int requiredEducationLevel;
+    private final ScoringEvaluator evaluator;
+    private final long taxonomyVersion;
+
+    private JobFeatures(int[] skillIds, int[] minYears, double[] weights, boolean[] required,
+            int requiredExperienceMonths, int requiredEducationLevel, ScoringEvaluator evaluator,
+            long taxonomyVersion) {
+        this.taxonomyVersion = taxonomyVersion;
+        this.skillIds = skillIds;
+        this.minYears = minYears;
+        this.weights = weights;
+        this.required = required;
+        this.requiredExperienceMonths = requiredExperienceMonths;
+        this.requiredEducationLevel = requiredEducationLevel;
+        this.evaluator = evaluator;
+
+        double weightSum = 0.0;
+        int requiredCount = 0;
+        int unknownRequired = 0;
+        int[] requiredIds = new int[skillIds.length];
+        for (int i = 0; i < skillIds.length; i++) {
+            weightSum += weights[i];
+            if (required[i]) {
+                requiredIds[requiredCount++] = skillIds[i];
+                if (skillIds[i] < 0) {
+                    unknownRequired++;
+                }
+            }
+        }
+        this.totalWeight = weightSum;
+        this.skills = SkillBitset.of(skillIds);
+        this.requiredSkills = SkillBitset.of(Arrays.copyOf(requiredIds, requiredCount));
+        // A skill listed twice is one requirement; skills outside the taxonomy still count, and never match
+        this.requiredSkillCount = requiredSkills.cardinality() + unknownRequired;
+    }
+
+    public static JobFeatures of(Job job, SkillTaxonomy taxonomy) {
+        List<JobSkill> jobSkills = job.getJobSkills();
+        int count = jobSkills.size();
+        int[] skillIds = new int[count];
+        int[] minYears = new int[count];
+        double[] weights = new double[count];
+        boolean[] required = new boolean[count];
+
+        for (int i = 0; i < count; i++) {
+            JobSkill jobSkill = jobSkills.get(i);
+            // Rows saved before the taxonomy existed carry no id and are resolved by name
+            skillIds[i] = jobSkill.getSkillId() != null ? jobSkill.getSkillId() : taxonomy.idOf(jobSkill.getSkillName());
+            minYears[i] = jobSkill.getMinYears() != null ? jobSkill.getMinYears() : 0;
+            weights[i] = jobSkill.getWeight() != null ? jobSkill.getWeight().doubleValue() : 1.0;
+            required[i] = Boolean.TRUE.equals(jobSkill.getRequired());
+        }
+
+        // Jobs saved before the requirements were stored still fall back to the text
+        int experienceMonths = job.getRequiredExperienceMonths() != null
+                ? job.getRequiredExperienceMonths()
+                : estimateRequiredExperienceYears(job) * 12;
+        int educationLevel = job.getRequiredEducationLevel() != null
+                ? job.getRequiredEducationLevel()
+                : requiredEducationLevel(job);
+        return new JobFeatures(skillIds, minYears, weights, required, experienceMonths, educationLevel,
+                job.getEvaluator(), taxonomy.getVersion());
+    }
+
+    /**
+     * Reads the experience and education a job asks for from its description and
+     * requirements and stores them on the job, so they are parsed once per save
+     * rather than once per score.
+     */
+    public static void deriveRequirements(Job job) {
+        job.setRequiredExperienceMonths(estimateRequiredExperienceYears(job) * 12);
+        job.setRequiredEducationLevel(requiredEducationLevel(job));
+    }
+
+    private static int requiredEducationLevel(Job job) {
+        EducationLevel education = EducationLevel.requiredBy(job.getRequirements());
+        return education != null ? education.ordinal() : NO_EDUCATION;
+    }
+
+    // Seniority is read from the job text when no explicit requirement exists
+    private static int estimateRequiredExperienceYears(Job job) {
+        String description = (job.getDescription() + " " + job.getRequirements()).toLowerCase(Locale.ROOT);
+
+        if (description.contains("senior") || description.contains("lead")) {
+            return 5;
+        } else if (description.contains("mid-level") || description.contains("intermediate")) {
+            return 3;
+        } else if (description.contains("junior") || description.contains("entry")) {
+            return 1;
+        }
+
+        return 2; // Default
+    }
+
+    public int getSkillCount() {
+        return skillIds.length;
+    }
+
+    /**
+     * Canonical ids of all the job's skills, for index lookups.
+     */
+    public int[] skillIds() {
+        return skillIds.clone();
+    }
+
+    public int[] requiredSkillIds() {
+        int[] ids = new int[skillIds.length];
+        int next = 0;
+        for (int i = 0; i < skillIds.length; i++) {
+            if (required[i]) {
+                ids[next++] = skillIds[i];
+            }
+        }
+        return Arrays.copyOf(ids, next);
+    }
+
+    public int skillIdAt(int index) {
+        return skillIds[index];
+    }
+
+    public int minYearsAt(int index) {
+        return minYears[index];
+    }
+
+    public double weightAt(int index) {
+        return weights[index];
+    }
+
+    public boolean isRequiredAt(int index) {
+        return required[index];
+    }
+
+    public double getTotalWeight() {
+        return totalWeight;
+    }
+
+    public int getRequiredSkillCount() {
+        return requiredSkillCount;
+    }
+
+    public SkillBitset getSkills() {
+        return skills;
+    }
+
+    public SkillBitset getRequiredSkills() {
+        return requiredSkills;
+    }
+
+    public int getRequiredExperienceMonths() {
+        return requiredExperienceMonths;
+    }
+
+    public int getRequiredEducationLevel() {
+        return requiredEducationLevel;
+    }
+
+    /**
+     * The job's compiled scoring profile.
+     */
+    public ScoringEvaluator getEvaluator() {
+        return evaluator;
+    }
+
+    /**
+     * Version of the taxonomy the skill ids were resolved against.
+     */
+    public long getTaxonomyVersion() {
+        return taxonomyVersion;
+    }
+}
@@ -0,0 +1,38 @@
+package com.jobboard.matching;
+
+/**
+ * Immutable array view of every listed job's features, for scoring one
+ * candidate against all jobs without touching maps or entities. Entry
+ * {@code i} of both arrays describes the same job.
+ */
+public final class JobPool {
+
+    private final long taxonomyVersion;
+    private final long[] jobIds;
+    private final JobFeatures[] features;
+
+    public JobPool(long taxonomyVersion, long[] jobIds, JobFeatures[] features) {
+        if (jobIds.length != features.length) {
+            throw new IllegalArgumentException("Job ids and features differ in length");
+        }
+        this.taxonomyVersion = taxonomyVersion;
+        this.jobIds = jobIds;
+        this.features = features;
+    }
+
+    public int size() {
+        return jobIds.length;
+    }
+
+    public long jobIdAt(int index) {
+        return jobIds[index];
+    }
+
+    public JobFeatures featuresAt(int index) {
+        return features[index];
+    }
+
+    public long getTaxonomyVersion() {
+        return taxonomyVersion;
+    }
+}
@@ -0,0 +1,36 @@
+package com.jobboard.matching;
+
+import java.util.List;
+
+/**
+ * Scores one candidate against every job in a {@link JobPool} and keeps the
+ * best K, the mirror image of {@link CandidateRanker}. Job pools are small
+ * enough to scan on the calling thread; only jobs sharing at least one skill
+ * with the candidate are ranked, so a recommendation always has something to
+ * do with the candidate's profile.
+ */
+public final class JobRanker {
+
+    private JobRanker() {
+    }
+
+    /**
+     * The {@code k} highest-scoring jobs sharing a skill with the candidate, best
+     * first. Equal scores rank the lower job id first so results are stable
+     * between calls.
+     */
+    public static List<RankedJob> topK(CandidateFeatures candidate, JobPool pool, int k, int currentEpochMonth) {
+        if (k <= 0 || pool.size() == 0 || candidate.getSkillCount() == 0) {
+            return List.of();
+        }
+
+        TopK best = new TopK(Math.min(k, pool.size()), pool::jobIdAt);
+        for (int i = 0; i < pool.size(); i++) {
+            JobFeatures job = pool.featuresAt(i);
+            if (candidate.getSkills().intersects(job.getSkills())) {
+                best.offer(MatchScorer.score(candidate, job, currentEpochMonth), i);
+            }
+        }
+        return best.drain((index, score) -> new RankedJob(pool.jobIdAt(index), score));
+    }
+}
@@ -0,0 +1,46 @@
+package com.jobboard.matching;
+
+/**
+ * Rule-based candidate/job scoring over precomputed features, using the
+ * {@link ScoringEvaluator} compiled from the job's scoring profile.
+ *
+ * All methods are pure functions of primitive snapshots: no allocation, boxing,
+ * streams or string handling, so a pair scores in nanoseconds and large candidate
+ * pools can be ranked in a loop.
+ */
+public final class MatchScorer {
+
+    private MatchScorer() {
+    }
+
+    public static double score(CandidateFeatures candidate, JobFeatures job, int currentEpochMonth) {
+        return job.getEvaluator().score(candidate, job, currentEpochMonth);
+    }
+
+    public static double skillScore(CandidateFeatures candidate, JobFeatures job) {
+        return job.getEvaluator().skillScore(candidate, job);
+    }
+
+    /**
+     * Highest total a candidate lacking at least one of the job's required skills
+     * can reach under the job's profile.
+     */
+    public static double maxScoreMissingRequiredSkill(JobFeatures job) {
+        return job.getEvaluator().maxScoreMissingRequiredSkill(job);
+    }
+
+    /**
+     * Highest total a candidate with none of the job's skills can reach.
+     */
+    public static double maxScoreWithoutJobSkills(JobFeatures job) {
+        return job.getEvaluator().maxScoreWithoutJobSkills(job);
+    }
+
+    public static double experienceScore(CandidateFeatures candidate, JobFeatures job, int currentEpochMonth) {
+        return job.getEvaluator().experienceScore(candidate, job, currentEpochMonth);
+    }
+
+    public static double educationScore(CandidateFeatures candidate, JobFeatures job) {
+        return job.getEvaluator().educationScore(candidate, job);
+    }
+}
@@ -0,0 +1,8 @@
+package com.jobboard.matching;
+
+/**
+ * One entry of a ranking, with the features it was scored from so the score
+ * can be broken down without another lookup.
+ */
+public record RankedCandidate(long candidateId, double totalScore, CandidateFeatures features) {
+}
@@ -0,0 +1,7 @@
+package com.jobboard.matching;
+
+/**
+ * One entry of a candidate's job recommendations.
+ */
+public record RankedJob(long jobId, double totalScore) {
+}
@@ -0,0 +1,165 @@
+package com.jobboard.matching;
+
+import com.jobboard.skill.SkillTaxonomy;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+/**
+ * What a stored score was made of: the candidate's years for each job skill, in
+ * job skill order, plus total experience and education level. Names, weights
+ * and minimum years are not kept; they come from the job when the breakdown is
+ * rendered, which only happens when a recruiter opens it. The skill ids are
+ * kept so details for an edited job can be told apart from current ones.
+ *
+ * Encoded as a handful of varints, typically under 24 bytes per score.
+ */
+public final class ScoreDetails {
+
+    /** Years value for a job skill the candidate lacks. */
+    public static final int UNMATCHED = -2;
+
+    private static final byte VERSION = 1;
+
+    private final int[] skillIds;
+    private final int[] skillYears;
+    private final int experienceMonths;
+    private final int educationLevel;
+
+    private ScoreDetails(int[] skillIds, int[] skillYears, int experienceMonths, int educationLevel) {
+        this.skillIds = skillIds;
+        this.skillYears = skillYears;
+        this.experienceMonths = experienceMonths;
+        this.educationLevel = educationLevel;
+    }
+
+    public static ScoreDetails of(CandidateFeatures candidate, JobFeatures job, int currentMonth) {
+        int[] skillIds = job.skillIds();
+        int[] skillYears = new int[skillIds.length];
+        for (int i = 0; i < skillYears.length; i++) {
+            int index = candidate.indexOf(skillIds[i]);
+            skillYears[i] = index >= 0 ? candidate.yearsAt(index) : UNMATCHED;
+        }
+        return new ScoreDetails(skillIds, skillYears, candidate.experienceMonths(currentMonth), candidate.getEducationLevel());
+    }
+
+    /**
+     * Reads details written by {@link #encode()}, or returns null for bytes in a
+     * format this version does not know.
+     */
+    public static ScoreDetails decode(byte[] bytes) {
+        if (bytes == null || bytes.length == 0 || bytes[0] != VERSION) {
+            return null;
+        }
+        int[] position = { 1 };
+        int experienceMonths = readVarint(bytes, position);
+        int educationLevel = readVarint(bytes, position) + CandidateFeatures.NO_EDUCATION;
+        int skillCount = readVarint(bytes, position);
+        int[] skillIds = new int[skillCount];
+        int[] skillYears = new int[skillCount];
+        for (int i = 0; i < skillCount; i++) {
+            skillIds[i] = readVarint(bytes, position) + SkillTaxonomy.UNKNOWN;
+            skillYears[i] = readVarint(bytes, position) + UNMATCHED;
+        }
+        return new ScoreDetails(skillIds, skillYears, experienceMonths, educationLevel);
+    }
+
+    // Every stored value is shifted to start at zero so it fits a single byte in the common case
+    public byte[] encode() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(4 + 3 * skillYears.length);
+        out.write(VERSION);
+        writeVarint(out, experienceMonths);
+        writeVarint(out, educationLevel - CandidateFeatures.NO_EDUCATION);
+        writeVarint(out, skillYears.length);
+        for (int i = 0; i < skillYears.length; i++) {
+            writeVarint(out, skillIds[i] - SkillTaxonomy.UNKNOWN);
+            writeVarint(out, skillYears[i] - UNMATCHED);
+        }
+        return out.toByteArray();
+    }
+
+    public int getSkillCount() {
+        return skillYears.length;
+    }
+
+    /**
+     * Whether these details were computed against the job's current skills, in
+     * the same order; a skill swapped for another of the same count is not.
+     */
+    public boolean isFor(JobFeatures job) {
+        if (job.getSkillCount() != skillIds.length) {
+            return false;
+        }
+        for (int i = 0; i < skillIds.length; i++) {
+            if (job.skillIdAt(i) != skillIds[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isMatchedAt(int index) {
+        return skillYears[index] != UNMATCHED;
+    }
+
+    /**
+     * Years the candidate reports for the i-th job skill, or
+     * {@link CandidateFeatures#NO_YEARS} when unmatched or unstated.
+     */
+    public int candidateYearsAt(int index) {
+        return isMatchedAt(index) ? skillYears[index] : CandidateFeatures.NO_YEARS;
+    }
+
+    public int getMatchedSkillCount() {
+        int matched = 0;
+        for (int years : skillYears) {
+            if (years != UNMATCHED) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    public int getExperienceMonths() {
+        return experienceMonths;
+    }
+
+    public int getEducationLevel() {
+        return educationLevel;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ScoreDetails that
+                && experienceMonths == that.experienceMonths
+                && educationLevel == that.educationLevel
+                && Arrays.equals(skillIds, that.skillIds)
+                && Arrays.equals(skillYears, that.skillYears);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 31 * Arrays.hashCode(skillIds) + Arrays.hashCode(skillYears);
+        return 31 * (31 * result + experienceMonths) + educationLevel;
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarint(byte[] bytes, int[] position) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = bytes[position[0]++];
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
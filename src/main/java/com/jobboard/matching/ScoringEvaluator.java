@@ -0,0 +1,211 @@
+package com.jobboard.matching;
+
+/**
+ * A {@link ScoringProfile} compiled into final primitive fields, checked and with
+ * its weights normalised to sum to one, so scoring a pair costs the same as
+ * with constants: no boxing, lookups or allocation. Built once per job and
+ * shared by every candidate scored against it.
+ */
+public final class ScoringEvaluator {
+
+    public static final ScoringEvaluator DEFAULT = compile(ScoringProfile.DEFAULT);
+
+    private final ScoringProfile profile;
+    private final double skillWeight;
+    private final double experienceWeight;
+    private final double educationWeight;
+    private final double skillWithoutYearsScore;
+    private final double bonusPerExtraYear;
+    private final double maxBonus;
+    private final double skillFloor;
+    private final double penaltyExponent;
+    private final boolean linearPenalty;
+    private final double experienceFloor;
+    private final double educationUnknownScore;
+    private final double educationFloor;
+
+    private ScoringEvaluator(ScoringProfile profile) {
+        this.profile = profile;
+        double weightSum = profile.skillWeight() + profile.experienceWeight() + profile.educationWeight();
+        this.skillWeight = profile.skillWeight() / weightSum;
+        this.experienceWeight = profile.experienceWeight() / weightSum;
+        this.educationWeight = profile.educationWeight() / weightSum;
+        this.skillWithoutYearsScore = profile.skillWithoutYearsScore();
+        this.bonusPerExtraYear = profile.bonusPerExtraYear();
+        this.maxBonus = profile.maxBonus();
+        this.skillFloor = profile.skillFloor();
+        this.penaltyExponent = profile.requiredSkillPenaltyExponent();
+        this.linearPenalty = penaltyExponent == 1.0;
+        this.experienceFloor = profile.experienceFloor();
+        this.educationUnknownScore = profile.educationUnknownScore();
+        this.educationFloor = profile.educationFloor();
+    }
+
+    /**
+     * Compiles the profile, or the default one when null, after filling in missing
+     * components.
+     *
+     * @throws IllegalArgumentException if a component is out of range
+     */
+    public static ScoringEvaluator compile(ScoringProfile profile) {
+        ScoringProfile resolved = profile != null ? profile.withDefaults() : ScoringProfile.DEFAULT;
+
+        requireBetween("skillWeight", resolved.skillWeight(), 0.0, Double.MAX_VALUE);
+        requireBetween("experienceWeight", resolved.experienceWeight(), 0.0, Double.MAX_VALUE);
+        requireBetween("educationWeight", resolved.educationWeight(), 0.0, Double.MAX_VALUE);
+        if (resolved.skillWeight() + resolved.experienceWeight() + resolved.educationWeight() <= 0.0) {
+            throw new IllegalArgumentException("At least one scoring weight must be positive");
+        }
+        requireBetween("skillWithoutYearsScore", resolved.skillWithoutYearsScore(), 0.0, 100.0);
+        requireBetween("bonusPerExtraYear", resolved.bonusPerExtraYear(), 0.0, 100.0);
+        requireBetween("maxBonus", resolved.maxBonus(), 0.0, 100.0);
+        requireBetween("skillFloor", resolved.skillFloor(), 0.0, 100.0);
+        requireBetween("requiredSkillPenaltyExponent", resolved.requiredSkillPenaltyExponent(), 0.0, 10.0);
+        requireBetween("experienceFloor", resolved.experienceFloor(), 0.0, 100.0);
+        requireBetween("educationUnknownScore", resolved.educationUnknownScore(), 0.0, 100.0);
+        requireBetween("educationFloor", resolved.educationFloor(), 0.0, 100.0);
+
+        return new ScoringEvaluator(resolved);
+    }
+
+    public double score(CandidateFeatures candidate, JobFeatures job, int currentEpochMonth) {
+        return totalScore(skillScore(candidate, job), experienceScore(candidate, job, currentEpochMonth),
+                educationScore(candidate, job));
+    }
+
+    public double totalScore(double skillScore, double experienceScore, double educationScore) {
+        return (skillScore * skillWeight) +
+                (experienceScore * experienceWeight) +
+                (educationScore * educationWeight);
+    }
+
+    public double skillScore(CandidateFeatures candidate, JobFeatures job) {
+        int skillCount = job.getSkillCount();
+        if (skillCount == 0) {
+            return 100.0; // No specific skills required
+        }
+
+        // Most of a large pool shares no skill with the job; one AND per common word settles those
+        SkillBitset candidateSkills = candidate.getSkills();
+        if (!candidateSkills.intersects(job.getSkills())) {
+            return 0.0;
+        }
+
+        double totalWeightedScore = 0.0;
+        for (int i = 0; i < skillCount; i++) {
+            int index = candidate.indexOf(job.skillIdAt(i));
+            if (index >= 0) {
+                totalWeightedScore += individualSkillScore(candidate.yearsAt(index), job.minYearsAt(i))
+                        * job.weightAt(i);
+            }
+        }
+        int matchedRequiredSkills = candidateSkills.intersectionCount(job.getRequiredSkills());
+
+        double totalWeight = job.getTotalWeight();
+        double averageScore = totalWeight > 0 ? totalWeightedScore / totalWeight : 0.0;
+
+        return Math.min(100.0, averageScore * requiredSkillsPenalty(matchedRequiredSkills,
+                job.getRequiredSkillCount()));
+    }
+
+    public double experienceScore(CandidateFeatures candidate, JobFeatures job, int currentEpochMonth) {
+        int totalMonths = candidate.experienceMonths(currentEpochMonth);
+        int requiredMonths = job.getRequiredExperienceMonths();
+
+        if (totalMonths >= requiredMonths) {
+            return 100.0;
+        } else if (totalMonths == 0) {
+            return experienceFloor; // Entry level
+        } else {
+            return Math.max(experienceFloor, (double) totalMonths / requiredMonths * 100.0);
+        }
+    }
+
+    public double educationScore(CandidateFeatures candidate, JobFeatures job) {
+        int requiredLevel = job.getRequiredEducationLevel();
+        if (requiredLevel == JobFeatures.NO_EDUCATION) {
+            return 100.0; // No specific education requirement
+        }
+
+        int candidateLevel = candidate.getEducationLevel();
+        if (candidateLevel == CandidateFeatures.NO_EDUCATION) {
+            return educationUnknownScore;
+        }
+
+        if (candidateLevel >= requiredLevel) {
+            return 100.0;
+        } else {
+            return Math.max(educationFloor, (double) candidateLevel / requiredLevel * 100.0);
+        }
+    }
+
+    /**
+     * Highest total a candidate lacking at least one of the job's required skills
+     * can reach. Each matched skill scores at most 100 plus the largest bonus, and
+     * the penalty only grows as more required skills are missing, so one missing
+     * skill out of R bounds them all.
+     */
+    public double maxScoreMissingRequiredSkill(JobFeatures job) {
+        int requiredSkills = job.getRequiredSkillCount();
+        double skillScore = requiredSkills > 0
+                ? Math.min(100.0, (100.0 + maxBonus) * requiredSkillsPenalty(requiredSkills - 1, requiredSkills))
+                : 100.0;
+        return totalScore(skillScore, 100.0, 100.0);
+    }
+
+    /**
+     * Highest total a candidate with none of the job's skills can reach.
+     */
+    public double maxScoreWithoutJobSkills(JobFeatures job) {
+        return totalScore(job.getSkillCount() > 0 ? 0.0 : 100.0, 100.0, 100.0);
+    }
+
+    /**
+     * The profile this was compiled from, with defaults filled in and weights as given.
+     */
+    public ScoringProfile getProfile() {
+        return profile;
+    }
+
+    public double getSkillWeight() {
+        return skillWeight;
+    }
+
+    public double getExperienceWeight() {
+        return experienceWeight;
+    }
+
+    public double getEducationWeight() {
+        return educationWeight;
+    }
+
+    double individualSkillScore(int candidateYears, int requiredYears) {
+        if (candidateYears == CandidateFeatures.NO_YEARS) {
+            return skillWithoutYearsScore; // Has skill but no specific experience data
+        }
+
+        if (candidateYears >= requiredYears) {
+            // Bonus for exceeding requirements
+            double bonus = Math.min(maxBonus, (candidateYears - requiredYears) * bonusPerExtraYear);
+            return 100.0 + bonus;
+        } else {
+            // Partial score based on experience ratio
+            return Math.max(skillFloor, (double) candidateYears / requiredYears * 100.0);
+        }
+    }
+
+    // Share of required skills matched, shaped by the exponent; the default linear shape skips Math.pow
+    private double requiredSkillsPenalty(int matchedRequiredSkills, int totalRequiredSkills) {
+        if (totalRequiredSkills == 0) {
+            return 1.0;
+        }
+        double matchedShare = (double) matchedRequiredSkills / totalRequiredSkills;
+        return linearPenalty ? matchedShare : Math.pow(matchedShare, penaltyExponent);
+    }
+
+    private static void requireBetween(String name, double value, double min, double max) {
+        if (!(value >= min && value <= max)) {
+            throw new IllegalArgumentException(name + " must be between " + min + " and " + max);
+        }
+    }
+}
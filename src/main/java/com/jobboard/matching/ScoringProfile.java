@@ -0,0 +1,63 @@
+package com.jobboard.matching;
+
+/**
+ * A recruiter's scoring trade-offs for one job: how much skills, experience and
+ * education count, how a single skill is scored against its minimum years, and
+ * how hard missing required skills are penalised. Components left null take the
+ * value from {@link #DEFAULT}, which reproduces the original fixed scoring.
+ *
+ * @param skillWeight share of the total given to the skill score
+ * @param experienceWeight share of the total given to the experience score
+ * @param educationWeight share of the total given to the education score
+ * @param skillWithoutYearsScore score for a skill the candidate has but gives no years for
+ * @param bonusPerExtraYear points added per year beyond a skill's minimum
+ * @param maxBonus most bonus points a single skill can earn
+ * @param skillFloor lowest score for a skill the candidate has with fewer years than asked
+ * @param requiredSkillPenaltyExponent the skill score is multiplied by the share of required
+ *        skills matched raised to this power: 0 ignores missing skills, 1 is linear, higher is harsher
+ * @param experienceFloor lowest experience score, also given to candidates with no experience
+ * @param educationUnknownScore education score for a candidate who lists no degree
+ * @param educationFloor lowest education score for a candidate below the required level
+ */
+public record ScoringProfile(
+        Double skillWeight,
+        Double experienceWeight,
+        Double educationWeight,
+        Double skillWithoutYearsScore,
+        Double bonusPerExtraYear,
+        Double maxBonus,
+        Double skillFloor,
+        Double requiredSkillPenaltyExponent,
+        Double experienceFloor,
+        Double educationUnknownScore,
+        Double educationFloor) {
+
+    public static final ScoringProfile DEFAULT = new ScoringProfile(
+            0.5, 0.3, 0.2,
+            70.0, 5.0, 30.0, 50.0,
+            1.0,
+            20.0,
+            50.0, 30.0);
+
+    /**
+     * This profile with every missing component taken from {@link #DEFAULT}.
+     */
+    public ScoringProfile withDefaults() {
+        return new ScoringProfile(
+                orDefault(skillWeight, DEFAULT.skillWeight),
+                orDefault(experienceWeight, DEFAULT.experienceWeight),
+                orDefault(educationWeight, DEFAULT.educationWeight),
+                orDefault(skillWithoutYearsScore, DEFAULT.skillWithoutYearsScore),
+                orDefault(bonusPerExtraYear, DEFAULT.bonusPerExtraYear),
+                orDefault(maxBonus, DEFAULT.maxBonus),
+                orDefault(skillFloor, DEFAULT.skillFloor),
+                orDefault(requiredSkillPenaltyExponent, DEFAULT.requiredSkillPenaltyExponent),
+                orDefault(experienceFloor, DEFAULT.experienceFloor),
+                orDefault(educationUnknownScore, DEFAULT.educationUnknownScore),
+                orDefault(educationFloor, DEFAULT.educationFloor));
+    }
+
+    private static Double orDefault(Double value, Double fallback) {
+        return value != null ? value : fallback;
+    }
+}
@@ -0,0 +1,172 @@
+package com.jobboard.matching;
+
+import java.util.Arrays;
+
+/**
+ * A set of canonical skill ids as a bitset over the taxonomy's id space, bit
+ * {@code i} standing for skill id {@code i}. Only the 64-bit words holding at
+ * least one skill are kept, each with its word number, so a profile of a few
+ * dozen skills costs a few words whether the dictionary has 64 skills or 20,000.
+ *
+ * Overlap between two sets is an AND and {@link Long#bitCount} per word both
+ * hold, and the position of a skill among the set's ids in ascending order
+ * (its rank) is one popcount, which is how parallel per-skill arrays are indexed.
+ */
+public final class SkillBitset {
+
+    public static final SkillBitset EMPTY = new SkillBitset(new int[0], new long[0], new int[0]);
+
+    // Below this many words a linear scan finds a word faster than binary search
+    private static final int SCAN_WORDS = 8;
+
+    private final int[] wordIndexes;
+    private final long[] words;
+    // Skills held in all earlier words, so a rank is one popcount away
+    private final int[] ranks;
+    private final int cardinality;
+
+    private SkillBitset(int[] wordIndexes, long[] words, int[] ranks) {
+        this.wordIndexes = wordIndexes;
+        this.words = words;
+        this.ranks = ranks;
+        this.cardinality = words.length > 0 ? ranks[words.length - 1] + Long.bitCount(words[words.length - 1]) : 0;
+    }
+
+    /**
+     * The set of the given ids, in any order and possibly repeated. Negative ids,
+     * which stand for skills missing from the taxonomy, are left out.
+     */
+    public static SkillBitset of(int[] skillIds) {
+        int[] sorted = skillIds.clone();
+        Arrays.sort(sorted);
+
+        int[] wordIndexes = new int[sorted.length];
+        long[] words = new long[sorted.length];
+        int wordCount = 0;
+        for (int skillId : sorted) {
+            if (skillId < 0) {
+                continue;
+            }
+            int wordIndex = skillId >>> 6;
+            if (wordCount == 0 || wordIndexes[wordCount - 1] != wordIndex) {
+                wordIndexes[wordCount++] = wordIndex;
+            }
+            words[wordCount - 1] |= 1L << skillId;
+        }
+        if (wordCount == 0) {
+            return EMPTY;
+        }
+
+        int[] ranks = new int[wordCount];
+        for (int i = 1; i < wordCount; i++) {
+            ranks[i] = ranks[i - 1] + Long.bitCount(words[i - 1]);
+        }
+        return new SkillBitset(Arrays.copyOf(wordIndexes, wordCount), Arrays.copyOf(words, wordCount), ranks);
+    }
+
+    public boolean contains(int skillId) {
+        return rank(skillId) >= 0;
+    }
+
+    /**
+     * Number of ids in the set below {@code skillId}, if the set holds it, or a
+     * negative value if it does not.
+     */
+    public int rank(int skillId) {
+        if (skillId < 0) {
+            return -1;
+        }
+        int slot = findWord(skillId >>> 6);
+        if (slot < 0) {
+            return -1;
+        }
+        long bit = 1L << skillId;
+        long word = words[slot];
+        if ((word & bit) == 0) {
+            return -1;
+        }
+        return ranks[slot] + Long.bitCount(word & (bit - 1));
+    }
+
+    /**
+     * The id of the given rank, the inverse of {@link #rank(int)}.
+     */
+    public int skillIdAt(int rank) {
+        if (rank < 0 || rank >= cardinality) {
+            throw new IndexOutOfBoundsException("Rank " + rank + " out of " + cardinality + " skills");
+        }
+        int slot = words.length - 1;
+        while (ranks[slot] > rank) {
+            slot--;
+        }
+        long word = words[slot];
+        for (int skip = rank - ranks[slot]; skip > 0; skip--) {
+            word &= word - 1;
+        }
+        return (wordIndexes[slot] << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * Number of ids held by both sets.
+     */
+    public int intersectionCount(SkillBitset other) {
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < wordIndexes.length && j < other.wordIndexes.length) {
+            int a = wordIndexes[i];
+            int b = other.wordIndexes[j];
+            if (a == b) {
+                count += Long.bitCount(words[i++] & other.words[j++]);
+            } else if (a < b) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return count;
+    }
+
+    public boolean intersects(SkillBitset other) {
+        int i = 0;
+        int j = 0;
+        while (i < wordIndexes.length && j < other.wordIndexes.length) {
+            int a = wordIndexes[i];
+            int b = other.wordIndexes[j];
+            if (a == b) {
+                if ((words[i++] & other.words[j++]) != 0) {
+                    return true;
+                }
+            } else if (a < b) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return false;
+    }
+
+    public int cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * Number of 64-bit words stored, for sizing.
+     */
+    public int getWordCount() {
+        return words.length;
+    }
+
+    private int findWord(int wordIndex) {
+        if (wordIndexes.length <= SCAN_WORDS) {
+            for (int i = 0; i < wordIndexes.length; i++) {
+                if (wordIndexes[i] == wordIndex) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int slot = Arrays.binarySearch(wordIndexes, wordIndex);
+        return slot >= 0 ? slot : -1;
+    }
+}
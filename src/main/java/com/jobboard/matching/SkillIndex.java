@@ -0,0 +1,145 @@
+package com.jobboard.matching;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index from canonical skill id to the candidates that have it,
+ * including skills implied through the taxonomy.
+ *
+ * Postings are compressed Roaring bitmaps of candidate ids, which keeps a
+ * million-candidate index in a few megabytes and makes intersections and unions
+ * run over packed words instead of id lists. Candidate ids must fit in an int.
+ * Queries share a read lock; updates for one candidate take the write lock
+ * briefly.
+ */
+public final class SkillIndex {
+
+    private final Map<Integer, RoaringBitmap> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Replaces a candidate's postings. Either side may be null when the candidate
+     * is new or has been removed.
+     */
+    public void update(long candidateId, CandidateFeatures previous, CandidateFeatures current) {
+        int id = Math.toIntExact(candidateId);
+        lock.writeLock().lock();
+        try {
+            if (previous != null) {
+                for (int i = 0; i < previous.getSkillCount(); i++) {
+                    RoaringBitmap posting = postings.get(previous.skillIdAt(i));
+                    if (posting != null) {
+                        posting.remove(id);
+                        if (posting.isEmpty()) {
+                            postings.remove(previous.skillIdAt(i));
+                        }
+                    }
+                }
+            }
+            if (current != null) {
+                for (int i = 0; i < current.getSkillCount(); i++) {
+                    postings.computeIfAbsent(current.skillIdAt(i), skillId -> new RoaringBitmap()).add(id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Compresses runs of consecutive ids; worth calling after a bulk load.
+     */
+    public void optimize() {
+        lock.writeLock().lock();
+        try {
+            postings.values().forEach(RoaringBitmap::runOptimize);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Candidates that have every one of the skills.
+     */
+    public RoaringBitmap allOf(int[] skillIds) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap[] bitmaps = new RoaringBitmap[skillIds.length];
+            for (int i = 0; i < skillIds.length; i++) {
+                bitmaps[i] = postings.get(skillIds[i]);
+                if (bitmaps[i] == null) {
+                    return new RoaringBitmap();
+                }
+            }
+            return bitmaps.length == 0 ? new RoaringBitmap() : FastAggregation.and(bitmaps);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Candidates that have at least one of the skills.
+     */
+    public RoaringBitmap anyOf(int[] skillIds) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap result = new RoaringBitmap();
+            for (int skillId : skillIds) {
+                RoaringBitmap posting = postings.get(skillId);
+                if (posting != null) {
+                    result.or(posting);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getSkillCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Total (skill, candidate) entries across all postings.
+     */
+    public long getPostingCount() {
+        lock.readLock().lock();
+        try {
+            long count = 0;
+            for (RoaringBitmap posting : postings.values()) {
+                count += posting.getLongCardinality();
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Serialized size of all postings, a close estimate of their heap footprint.
+     */
+    public long getSizeInBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (RoaringBitmap posting : postings.values()) {
+                bytes += posting.getLongSizeInBytes();
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
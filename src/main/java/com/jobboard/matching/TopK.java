@@ -0,0 +1,114 @@
+package com.jobboard.matching;
+
+import java.util.List;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Bounded min-heap of pool indexes ordered by score, shared by the rankers; the
+ * root is the weakest entry kept and is replaced when a better one arrives.
+ * Equal scores rank the lower id first so results are stable between calls.
+ */
+final class TopK {
+
+    /**
+     * Turns a kept pool index and its score into a ranking entry.
+     */
+    @FunctionalInterface
+    interface Ranking<T> {
+        T rank(int index, double score);
+    }
+
+    private final IntToLongFunction idAt;
+    private final double[] scores;
+    private final int[] indexes;
+    private int size;
+
+    TopK(int capacity, IntToLongFunction idAt) {
+        this.idAt = idAt;
+        this.scores = new double[capacity];
+        this.indexes = new int[capacity];
+    }
+
+    void offer(double score, int index) {
+        if (size < scores.length) {
+            scores[size] = score;
+            indexes[size] = index;
+            siftUp(size++);
+        } else if (isBetter(score, index, scores[0], indexes[0])) {
+            scores[0] = score;
+            indexes[0] = index;
+            siftDown(0);
+        }
+    }
+
+    TopK mergeFrom(TopK other) {
+        for (int i = 0; i < other.size; i++) {
+            offer(other.scores[i], other.indexes[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Empties the heap into a list, best first.
+     */
+    <T> List<T> drain(Ranking<T> ranking) {
+        // Draining the min-heap yields the weakest first, so fill from the back
+        Object[] ranked = new Object[size];
+        for (int i = size - 1; i >= 0; i--) {
+            ranked[i] = ranking.rank(indexes[0], scores[0]);
+            size--;
+            scores[0] = scores[size];
+            indexes[0] = indexes[size];
+            siftDown(0);
+        }
+        @SuppressWarnings("unchecked")
+        List<T> result = (List<T>) List.of(ranked);
+        return result;
+    }
+
+    private boolean isBetter(double score, int index, double otherScore, int otherIndex) {
+        if (score != otherScore) {
+            return score > otherScore;
+        }
+        return idAt.applyAsLong(index) < idAt.applyAsLong(otherIndex);
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!isBetter(scores[parent], indexes[parent], scores[position], indexes[position])) {
+                return;
+            }
+            swap(position, parent);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int left = 2 * position + 1;
+            if (left >= size) {
+                return;
+            }
+            int weakest = left;
+            int right = left + 1;
+            if (right < size && isBetter(scores[left], indexes[left], scores[right], indexes[right])) {
+                weakest = right;
+            }
+            if (!isBetter(scores[position], indexes[position], scores[weakest], indexes[weakest])) {
+                return;
+            }
+            swap(position, weakest);
+            position = weakest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        double score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+        int index = indexes[a];
+        indexes[a] = indexes[b];
+        indexes[b] = index;
+    }
+}
@@ -0,0 +1,167 @@
+package com.jobboard.repository;
+
+import com.jobboard.domain.Application;
+import com.jobboard.dto.job.CandidateMatchResponse;
+import com.jobboard.matching.CandidateFeatures;
+import com.jobboard.skill.SkillTaxonomy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * Plain JDBC reads for ranking the whole candidate pool. Feature rows are
+ * streamed straight into {@link CandidateFeatures} without hydrating
+ * candidates, resumes or their collections.
+ */
+@Repository
+public class CandidateRankingRepository {
+
+    private static final int FETCH_SIZE = 10_000;
+
+    // One stream ordered by candidate, so only one candidate's rows are buffered at a time
+    private static final String FEATURE_ROWS =
+            "SELECT r.candidate_id, 'S' AS kind, rs.skill_id, rs.skill_name AS text, rs.years_exp, " +
+            "CAST(NULL AS DATE) AS start_date, CAST(NULL AS DATE) AS end_date " +
+            "FROM resume_skills rs JOIN resumes r ON r.id = rs.resume_id %1$s " +
+            "UNION ALL " +
+            "SELECT x.candidate_id, 'X', NULL, NULL, NULL, x.start_date, x.end_date FROM experience x %2$s " +
+            "UNION ALL " +
+            "SELECT e.candidate_id, 'E', NULL, e.degree, NULL, NULL, NULL FROM education e %3$s " +
+            "ORDER BY 1";
+
+    private static final String ALL_FEATURE_ROWS = String.format(FEATURE_ROWS, "", "", "");
+
+    private static final String FEATURE_ROWS_BY_CANDIDATE = String.format(FEATURE_ROWS,
+            "WHERE r.candidate_id IN (:ids)", "WHERE x.candidate_id IN (:ids)", "WHERE e.candidate_id IN (:ids)");
+
+    private static final String MATCH_SUMMARIES =
+            "SELECT c.id, u.first_name, u.last_name, u.email, c.location, a.status, a.applied_at " +
+            "FROM candidates c JOIN users u ON u.id = c.user_id " +
+            "LEFT JOIN applications a ON a.candidate_id = c.id AND a.job_id = :jobId " +
+            "WHERE c.id IN (:ids)";
+
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public CandidateRankingRepository(DataSource dataSource) {
+        // Postgres only streams with a fetch size inside a transaction; otherwise it buffers the whole result
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    /**
+     * Builds features for every candidate with at least one resume skill, position
+     * or degree, handing each to the consumer as soon as its rows are read.
+     */
+    @Transactional(readOnly = true)
+    public void loadAllFeatures(SkillTaxonomy taxonomy, BiConsumer<Long, CandidateFeatures> consumer) {
+        FeatureRowHandler handler = new FeatureRowHandler(taxonomy, consumer);
+        streamingJdbcTemplate.query(ALL_FEATURE_ROWS, handler);
+        handler.finish();
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, CandidateFeatures> loadFeatures(Collection<Long> candidateIds, SkillTaxonomy taxonomy) {
+        if (candidateIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, CandidateFeatures> features = new HashMap<>();
+        FeatureRowHandler handler = new FeatureRowHandler(taxonomy, features::put);
+        namedParameterJdbcTemplate.query(FEATURE_ROWS_BY_CANDIDATE, Map.of("ids", candidateIds), handler);
+        handler.finish();
+        return features;
+    }
+
+    /**
+     * Name, contact and application status for each candidate, keyed by candidate
+     * id. Scores are left for the caller to fill in.
+     */
+    public Map<Long, CandidateMatchResponse> findMatchSummaries(Long jobId, Collection<Long> candidateIds) {
+        if (candidateIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, CandidateMatchResponse> summaries = new HashMap<>();
+        namedParameterJdbcTemplate.query(MATCH_SUMMARIES, Map.of("jobId", jobId, "ids", candidateIds),
+                (RowCallbackHandler) rs -> {
+                    CandidateMatchResponse response = new CandidateMatchResponse();
+                    response.setCandidateId(rs.getLong("id"));
+                    response.setFirstName(rs.getString("first_name"));
+                    response.setLastName(rs.getString("last_name"));
+                    response.setEmail(rs.getString("email"));
+                    response.setLocation(rs.getString("location"));
+
+                    String status = rs.getString("status");
+                    response.setHasApplied(status != null);
+                    if (status != null) {
+                        response.setApplicationStatus(Application.ApplicationStatus.valueOf(status));
+                        Timestamp appliedAt = rs.getTimestamp("applied_at");
+                        response.setAppliedAt(appliedAt != null ? appliedAt.toLocalDateTime() : null);
+                    }
+                    summaries.put(response.getCandidateId(), response);
+                });
+        return summaries;
+    }
+
+    /**
+     * Folds rows ordered by candidate id into one builder at a time; the last
+     * candidate is only emitted by {@link #finish()}.
+     */
+    private static final class FeatureRowHandler implements RowCallbackHandler {
+
+        private final SkillTaxonomy taxonomy;
+        private final BiConsumer<Long, CandidateFeatures> consumer;
+        private long candidateId;
+        private CandidateFeatures.Builder builder;
+
+        FeatureRowHandler(SkillTaxonomy taxonomy, BiConsumer<Long, CandidateFeatures> consumer) {
+            this.taxonomy = taxonomy;
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long rowCandidateId = rs.getLong("candidate_id");
+            if (builder == null || rowCandidateId != candidateId) {
+                finish();
+                candidateId = rowCandidateId;
+                builder = CandidateFeatures.builder(taxonomy);
+            }
+
+            switch (rs.getString("kind")) {
+                case "S" -> builder.addSkill((Integer) rs.getObject("skill_id"), rs.getString("text"),
+                        (Integer) rs.getObject("years_exp"));
+                case "X" -> builder.addExperience(toLocalDate(rs.getDate("start_date")),
+                        toLocalDate(rs.getDate("end_date")));
+                case "E" -> builder.addEducation(rs.getString("text"));
+                default -> throw new IllegalStateException("Unknown feature row " + rs.getString("kind"));
+            }
+        }
+
+        void finish() {
+            if (builder != null) {
+                consumer.accept(candidateId, builder.build());
+                builder = null;
+            }
+        }
+
+        private static LocalDate toLocalDate(Date date) {
+            return date != null ? date.toLocalDate() : null;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.jobboard.repository;
+
+import com.jobboard.domain.ImportedResume;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ImportedResumeRepository extends JpaRepository<ImportedResume, Long> {
+
+    List<ImportedResume> findByEmailOrderByCreatedAtDesc(String email);
+
+    Optional<ImportedResume> findByIdAndEmail(Long id, String email);
+
+    Optional<ImportedResume> findFirstByContentHashOrderByCreatedAtDesc(String contentHash);
+}
@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,13 +36,16 @@ public interface JobRepository extends JpaRepository<Job, Long> {
                         @Param("salaryMin") BigDecimal salaryMin,
                         Pageable pageable);
 
-        @Query("SELECT j FROM Job j JOIN FETCH j.jobSkills WHERE j.id = :id")
+        @Query("SELECT j FROM Job j LEFT JOIN FETCH j.jobSkills WHERE j.id = :id")
         Optional<Job> findByIdWithSkills(@Param("id") Long id);
 
+        @Query("SELECT DISTINCT j FROM Job j JOIN FETCH j.recruiter LEFT JOIN FETCH j.jobSkills WHERE j.id IN :ids")
+        List<Job> findAllByIdWithSkills(@Param("ids") Collection<Long> ids);
+
         @Query("SELECT j FROM Job j JOIN FETCH j.recruiter WHERE j.id = :id")
         Optional<Job> findByIdWithRecruiter(@Param("id") Long id);
 
-        @Query("SELECT j FROM Job j WHERE j.status = 'ACTIVE' AND " +
-                        "EXISTS (SELECT js FROM JobSkill js WHERE js.job = j AND js.skillName IN :skills)")
-        List<Job> findJobsBySkills(@Param("skills") List<String> skills);
+        @Query("SELECT DISTINCT j FROM Job j JOIN FETCH j.recruiter LEFT JOIN FETCH j.jobSkills " +
+                        "WHERE j.status = 'ACTIVE'")
+        List<Job> findAllActiveWithSkills();
 }
\ No newline at end of file
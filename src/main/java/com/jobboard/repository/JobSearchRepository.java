@@ -0,0 +1,70 @@
+package com.jobboard.repository;
+
+import com.jobboard.domain.Job;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Postgres full-text search over active jobs. Matching and filtering run in one
+ * query against the {@code search_vector} GIN index; callers hydrate the
+ * returned ids themselves.
+ */
+@Repository
+public class JobSearchRepository {
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public record Hit(long jobId, float rank) {
+    }
+
+    /**
+     * Up to {@code limit} matches ordered by rank, then id. When {@code afterRank}
+     * and {@code afterJobId} are given, only matches after that position are returned.
+     */
+    public List<Hit> search(String query, String location, Job.JobType jobType, Boolean remote,
+                            BigDecimal salaryMin, Float afterRank, Long afterJobId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("query", query);
+        StringBuilder sql = new StringBuilder(
+                "SELECT id, rank FROM (" +
+                "SELECT j.id, ts_rank(j.search_vector, q.query) AS rank " +
+                "FROM jobs j, websearch_to_tsquery('english', :query) AS q(query) " +
+                "WHERE j.search_vector @@ q.query AND j.status = 'ACTIVE'");
+
+        // Only bind the filters that are set; untyped null parameters confuse the Postgres driver
+        if (location != null) {
+            sql.append(" AND j.location ILIKE :location");
+            params.addValue("location", "%" + location + "%");
+        }
+        if (jobType != null) {
+            sql.append(" AND j.job_type = :jobType");
+            params.addValue("jobType", jobType.name());
+        }
+        if (remote != null) {
+            sql.append(" AND j.remote = :remote");
+            params.addValue("remote", remote);
+        }
+        if (salaryMin != null) {
+            sql.append(" AND j.salary_max >= :salaryMin");
+            params.addValue("salaryMin", salaryMin);
+        }
+        sql.append(") ranked");
+
+        if (afterRank != null && afterJobId != null) {
+            sql.append(" WHERE rank < CAST(:afterRank AS real)" +
+                    " OR (rank = CAST(:afterRank AS real) AND id > :afterJobId)");
+            params.addValue("afterRank", afterRank);
+            params.addValue("afterJobId", afterJobId);
+        }
+        sql.append(" ORDER BY rank DESC, id ASC LIMIT :limit");
+        params.addValue("limit", limit);
+
+        return namedParameterJdbcTemplate.query(sql.toString(), params,
+                (rs, rowNum) -> new Hit(rs.getLong("id"), rs.getFloat("rank")));
+    }
+}
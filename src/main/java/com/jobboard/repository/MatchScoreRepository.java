@@ -1,6 +1,7 @@
 package com.jobboard.repository;
 
 import com.jobboard.domain.MatchScore;
+import com.jobboard.dto.job.CandidateMatchResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,7 +24,25 @@ public interface MatchScoreRepository extends JpaRepository<MatchScore, Long> {
     @Query("SELECT ms FROM MatchScore ms WHERE ms.candidate.id = :candidateId ORDER BY ms.totalScore DESC")
     Page<MatchScore> findByCandidateIdOrderByTotalScoreDesc(@Param("candidateId") Long candidateId, Pageable pageable);
 
-    @Query("SELECT ms FROM MatchScore ms JOIN FETCH ms.candidate c JOIN FETCH c.user " +
-            "WHERE ms.job.id = :jobId ORDER BY ms.totalScore DESC")
-    List<MatchScore> findByJobIdWithCandidateDetails(@Param("jobId") Long jobId);
+    String RANKED_CANDIDATES =
+            "SELECT new com.jobboard.dto.job.CandidateMatchResponse(c.id, u.firstName, u.lastName, u.email, " +
+            "c.location, ms.totalScore, ms.skillScore, ms.expScore, ms.eduScore, ms.calculatedAt, " +
+            "a.status, a.appliedAt) " +
+            "FROM MatchScore ms JOIN ms.candidate c JOIN c.user u " +
+            "LEFT JOIN Application a ON a.candidate = c AND a.job = ms.job " +
+            "WHERE ms.job.id = :jobId AND ms.totalScore IS NOT NULL ";
+
+    String RANKED_CANDIDATES_ORDER = "ORDER BY ms.totalScore DESC, c.id ASC";
+
+    @Query(RANKED_CANDIDATES + RANKED_CANDIDATES_ORDER)
+    List<CandidateMatchResponse> findRankedCandidates(@Param("jobId") Long jobId, Pageable pageable);
+
+    // Keyset seek past the last (score, candidate) of the previous page
+    @Query(RANKED_CANDIDATES +
+            "AND (ms.totalScore < :afterScore OR (ms.totalScore = :afterScore AND c.id > :afterCandidateId)) " +
+            RANKED_CANDIDATES_ORDER)
+    List<CandidateMatchResponse> findRankedCandidatesAfter(@Param("jobId") Long jobId,
+                                                           @Param("afterScore") BigDecimal afterScore,
+                                                           @Param("afterCandidateId") Long afterCandidateId,
+                                                           Pageable pageable);
 }
\ No newline at end of file
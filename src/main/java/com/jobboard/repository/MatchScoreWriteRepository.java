@@ -0,0 +1,269 @@
+package com.jobboard.repository;
+
+import com.jobboard.domain.MatchScore;
+import com.jobboard.matching.ScoreDetails;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Plain JDBC access to match scores, for what the entity does not cover: bulk
+ * writes and the compact score details, which are never loaded with the entity.
+ * Every write is an upsert on the
+ * (candidate_id, job_id) unique key, so scoring a pair again replaces its row
+ * instead of failing. Small lists go out as JDBC batches, which the driver
+ * rewrites into multi-row inserts when the URL sets reWriteBatchedInserts;
+ * large ones are streamed with COPY into a temporary staging table and merged
+ * in one statement.
+ */
+@Repository
+public class MatchScoreWriteRepository {
+
+    private static final String COLUMNS =
+            "candidate_id, job_id, total_score, skill_score, exp_score, edu_score, details";
+
+    private static final String ON_CONFLICT =
+            "ON CONFLICT (candidate_id, job_id) DO UPDATE SET total_score = EXCLUDED.total_score, " +
+            "skill_score = EXCLUDED.skill_score, exp_score = EXCLUDED.exp_score, edu_score = EXCLUDED.edu_score, " +
+            "details = EXCLUDED.details, calculated_at = EXCLUDED.calculated_at";
+
+    private static final String UPSERT_MATCH_SCORE =
+            "INSERT INTO match_scores (" + COLUMNS + ", calculated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?) " + ON_CONFLICT;
+
+    // Applications keep a copy of the score they were ranked by
+    private static final String UPDATE_APPLICATION_SCORE =
+            "UPDATE applications SET match_score = ? " +
+            "WHERE candidate_id = ? AND job_id = ? AND match_score IS DISTINCT FROM ?";
+
+    // Rows vanish at commit; the table itself lives as long as the pooled connection
+    private static final String CREATE_STAGING =
+            "CREATE TEMPORARY TABLE IF NOT EXISTS match_scores_staging (" +
+            "candidate_id BIGINT, job_id BIGINT, total_score DECIMAL(5,2), skill_score DECIMAL(5,2), " +
+            "exp_score DECIMAL(5,2), edu_score DECIMAL(5,2), details BYTEA) ON COMMIT DELETE ROWS";
+
+    private static final String CLEAR_STAGING = "TRUNCATE match_scores_staging";
+
+    private static final String COPY_STAGING =
+            "COPY match_scores_staging (" + COLUMNS + ") FROM STDIN WITH (FORMAT csv)";
+
+    private static final String MERGE_STAGING =
+            "INSERT INTO match_scores (" + COLUMNS + ", calculated_at) " +
+            "SELECT " + COLUMNS + ", ? FROM match_scores_staging " + ON_CONFLICT;
+
+    private static final String UPDATE_APPLICATION_SCORES_FROM_STAGING =
+            "UPDATE applications a SET match_score = s.total_score FROM match_scores_staging s " +
+            "WHERE a.candidate_id = s.candidate_id AND a.job_id = s.job_id " +
+            "AND a.match_score IS DISTINCT FROM s.total_score";
+
+    private static final String FIND_DETAILS =
+            "SELECT details FROM match_scores WHERE candidate_id = ? AND job_id = ?";
+
+    private static final String PAIRS_BY_CANDIDATE = "SELECT candidate_id, job_id FROM match_scores " +
+            "WHERE candidate_id IN (:candidateIds)";
+
+    private static final String PAIRS_BY_JOB = "SELECT candidate_id, job_id FROM match_scores " +
+            "WHERE job_id IN (:jobIds)";
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final HexFormat HEX = HexFormat.of();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Value("${matching.scores.copy-threshold}")
+    private int copyThreshold;
+
+    private final LongAdder batchedRows = new LongAdder();
+    private final LongAdder copiedRows = new LongAdder();
+    private final LongAdder writeNanos = new LongAdder();
+
+    public record Pair(long candidateId, long jobId) {
+    }
+
+    /**
+     * Stored details of a score, in the form kept in the row.
+     *
+     * @param details null when the row has none or they are in an older format
+     */
+    public record StoredDetails(ScoreDetails details) {
+    }
+
+    /**
+     * Details of the pair's stored score, or empty when the pair has no score.
+     */
+    public Optional<StoredDetails> findDetails(Long candidateId, Long jobId) {
+        List<StoredDetails> rows = jdbcTemplate.query(FIND_DETAILS,
+                (rs, rowNum) -> new StoredDetails(ScoreDetails.decode(rs.getBytes("details"))), candidateId, jobId);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * Every scored pair that involves one of the candidates or one of the jobs.
+     * A pair matching both appears twice.
+     */
+    public List<Pair> findPairs(Collection<Long> candidateIds, Collection<Long> jobIds) {
+        List<Pair> pairs = new ArrayList<>();
+        RowCallbackHandler collect = rs -> pairs.add(new Pair(rs.getLong("candidate_id"), rs.getLong("job_id")));
+        if (!candidateIds.isEmpty()) {
+            namedParameterJdbcTemplate.query(PAIRS_BY_CANDIDATE,
+                    new MapSqlParameterSource("candidateIds", candidateIds), collect);
+        }
+        if (!jobIds.isEmpty()) {
+            namedParameterJdbcTemplate.query(PAIRS_BY_JOB, new MapSqlParameterSource("jobIds", jobIds), collect);
+        }
+        return pairs;
+    }
+
+    /**
+     * Inserts or replaces one score and fills in its id and calculation time.
+     */
+    @Transactional
+    public void upsert(MatchScore score) {
+        Timestamp calculatedAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.query(UPSERT_MATCH_SCORE + " RETURNING id",
+                (PreparedStatementSetter) ps -> bind(ps, score, calculatedAt),
+                (RowCallbackHandler) rs -> score.setId(rs.getLong("id")));
+        score.setCalculatedAt(calculatedAt.toLocalDateTime());
+        jdbcTemplate.update(UPDATE_APPLICATION_SCORE, score.getTotalScore(), score.getCandidate().getId(),
+                score.getJob().getId(), score.getTotalScore());
+    }
+
+    /**
+     * Inserts or replaces each score, along with the score on the matching
+     * application if there is one. Every score must reference a candidate and a
+     * job with ids; when a pair appears more than once the last score wins.
+     */
+    @Transactional
+    public void upsertAll(List<MatchScore> scores) {
+        if (scores.isEmpty()) {
+            return;
+        }
+
+        // Postgres refuses to update the same row twice in one multi-row upsert
+        Map<Pair, MatchScore> unique = new LinkedHashMap<>();
+        for (MatchScore score : scores) {
+            unique.put(new Pair(score.getCandidate().getId(), score.getJob().getId()), score);
+        }
+        List<MatchScore> rows = unique.size() == scores.size() ? scores : new ArrayList<>(unique.values());
+
+        long startedAt = System.nanoTime();
+        Timestamp calculatedAt = Timestamp.valueOf(LocalDateTime.now());
+        if (rows.size() >= copyThreshold) {
+            copyAll(rows, calculatedAt);
+            copiedRows.add(rows.size());
+        } else {
+            batchAll(rows, calculatedAt);
+            batchedRows.add(rows.size());
+        }
+        writeNanos.add(System.nanoTime() - startedAt);
+    }
+
+    /**
+     * Rows written through each path and the overall write rate.
+     */
+    public Map<String, Object> getStats() {
+        long rows = batchedRows.sum() + copiedRows.sum();
+        double seconds = writeNanos.sum() / 1_000_000_000.0;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("copyThreshold", copyThreshold);
+        stats.put("batchedRows", batchedRows.sum());
+        stats.put("copiedRows", copiedRows.sum());
+        stats.put("rowsPerSecond", seconds > 0 ? rows / seconds : 0.0);
+        return stats;
+    }
+
+    private void batchAll(List<MatchScore> scores, Timestamp calculatedAt) {
+        jdbcTemplate.batchUpdate(UPSERT_MATCH_SCORE, scores, scores.size(),
+                (ps, score) -> bind(ps, score, calculatedAt));
+
+        jdbcTemplate.batchUpdate(UPDATE_APPLICATION_SCORE, scores, scores.size(), (ps, score) -> {
+            ps.setBigDecimal(1, score.getTotalScore());
+            ps.setLong(2, score.getCandidate().getId());
+            ps.setLong(3, score.getJob().getId());
+            ps.setBigDecimal(4, score.getTotalScore());
+        });
+    }
+
+    private void copyAll(List<MatchScore> scores, Timestamp calculatedAt) {
+        jdbcTemplate.execute(CREATE_STAGING);
+        // Earlier calls in the same transaction leave their rows behind until commit
+        jdbcTemplate.execute(CLEAR_STAGING);
+
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_STAGING);
+            try {
+                StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE + 4096);
+                for (MatchScore score : scores) {
+                    appendCsv(buffer, score);
+                    if (buffer.length() >= COPY_BUFFER_SIZE) {
+                        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+                        copyIn.writeToCopy(bytes, 0, bytes.length);
+                        buffer.setLength(0);
+                    }
+                }
+                byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+                copyIn.writeToCopy(bytes, 0, bytes.length);
+                return copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        });
+
+        jdbcTemplate.update(MERGE_STAGING, calculatedAt);
+        jdbcTemplate.update(UPDATE_APPLICATION_SCORES_FROM_STAGING);
+    }
+
+    private void bind(PreparedStatement ps, MatchScore score, Timestamp calculatedAt) throws SQLException {
+        ps.setLong(1, score.getCandidate().getId());
+        ps.setLong(2, score.getJob().getId());
+        ps.setBigDecimal(3, score.getTotalScore());
+        ps.setBigDecimal(4, score.getSkillScore());
+        ps.setBigDecimal(5, score.getExpScore());
+        ps.setBigDecimal(6, score.getEduScore());
+        ps.setBytes(7, score.getDetails() != null ? score.getDetails().encode() : null);
+        ps.setTimestamp(8, calculatedAt);
+    }
+
+    // An unquoted empty field is NULL in CSV COPY; bytea takes its hex form, which needs no quoting
+    private void appendCsv(StringBuilder buffer, MatchScore score) {
+        buffer.append(score.getCandidate().getId()).append(',')
+                .append(score.getJob().getId()).append(',');
+        appendDecimal(buffer, score.getTotalScore()).append(',');
+        appendDecimal(buffer, score.getSkillScore()).append(',');
+        appendDecimal(buffer, score.getExpScore()).append(',');
+        appendDecimal(buffer, score.getEduScore()).append(',');
+        if (score.getDetails() != null) {
+            buffer.append("\\x").append(HEX.formatHex(score.getDetails().encode()));
+        }
+        buffer.append('\n');
+    }
+
+    private static StringBuilder appendDecimal(StringBuilder buffer, BigDecimal value) {
+        return value != null ? buffer.append(value.toPlainString()) : buffer;
+    }
+}
@@ -0,0 +1,69 @@
+package com.jobboard.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Reads the platform counters and activity buckets that database triggers
+ * maintain (see V9). Totals and recent buckets come back in one query.
+ */
+@Repository
+public class PlatformStatsRepository {
+
+    public static final String APPLICATIONS_PER_DAY = "applications_per_day";
+    public static final String RESUME_UPLOADS_PER_HOUR = "resume_uploads_per_hour";
+
+    private static final String SQL =
+            "SELECT name AS metric, CAST(NULL AS TIMESTAMP) AS bucket_start, SUM(value) AS total " +
+            "FROM platform_counters GROUP BY name " +
+            "UNION ALL " +
+            "SELECT metric, bucket_start, SUM(count) AS total FROM activity_buckets " +
+            "WHERE (metric = '" + APPLICATIONS_PER_DAY + "' AND bucket_start >= :daysSince) " +
+            "OR (metric = '" + RESUME_UPLOADS_PER_HOUR + "' AND bucket_start >= :hoursSince) " +
+            "GROUP BY metric, bucket_start";
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Counter totals by name, and bucket counts by metric and bucket start, in
+     * time order. Buckets without activity are absent.
+     */
+    public record Snapshot(Map<String, Long> totals, Map<String, TreeMap<LocalDateTime, Long>> buckets) {
+
+        public long total(String name) {
+            return totals.getOrDefault(name, 0L);
+        }
+
+        public TreeMap<LocalDateTime, Long> buckets(String metric) {
+            return buckets.getOrDefault(metric, new TreeMap<>());
+        }
+    }
+
+    public Snapshot read(LocalDateTime daysSince, LocalDateTime hoursSince) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("daysSince", Timestamp.valueOf(daysSince))
+                .addValue("hoursSince", Timestamp.valueOf(hoursSince));
+
+        Map<String, Long> totals = new HashMap<>();
+        Map<String, TreeMap<LocalDateTime, Long>> buckets = new HashMap<>();
+        namedParameterJdbcTemplate.query(SQL, params, rs -> {
+            Timestamp bucketStart = rs.getTimestamp("bucket_start");
+            if (bucketStart == null) {
+                totals.put(rs.getString("metric"), rs.getLong("total"));
+            } else {
+                buckets.computeIfAbsent(rs.getString("metric"), metric -> new TreeMap<>())
+                        .put(bucketStart.toLocalDateTime(), rs.getLong("total"));
+            }
+        });
+        return new Snapshot(totals, buckets);
+    }
+}
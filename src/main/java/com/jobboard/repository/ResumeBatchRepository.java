@@ -0,0 +1,60 @@
+package com.jobboard.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobboard.domain.ImportedResume;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plain JDBC writes for bulk imports. Rows go out in JDBC batches instead of one
+ * IDENTITY insert per entity, which Hibernate cannot batch.
+ */
+@Repository
+public class ResumeBatchRepository {
+
+    private static final String INSERT_IMPORTED_RESUME =
+            "INSERT INTO imported_resumes (email, imported_by, file_path, file_name, content_hash, parsed_text, " +
+            "skills_json) VALUES (?, ?, ?, ?, ?, ?, CAST(? AS jsonb))";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Holds the imported resumes until the candidates they name claim them.
+     */
+    public void insertAll(List<ImportedResume> resumes) {
+        if (resumes.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_IMPORTED_RESUME, resumes, resumes.size(), (ps, resume) -> {
+            ps.setString(1, resume.getEmail());
+            ps.setObject(2, resume.getImportedBy(), Types.BIGINT);
+            ps.setString(3, resume.getFilePath());
+            ps.setString(4, resume.getFileName());
+            ps.setString(5, resume.getContentHash());
+            ps.setString(6, resume.getParsedText());
+            ps.setString(7, toJson(resume.getSkillsJson()));
+        });
+    }
+
+    private String toJson(Map<String, Object> value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Could not serialize resume data", ex);
+        }
+    }
+}
@@ -1,13 +1,17 @@
 package com.jobboard.repository;
 
 import com.jobboard.domain.Resume;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ResumeRepository extends JpaRepository<Resume, Long> {
@@ -18,4 +22,11 @@ public interface ResumeRepository extends JpaRepository<Resume, Long> {
     List<Resume> findByCandidateIdWithSkills(@Param("candidateId") Long candidateId);
 
     Optional<Resume> findFirstByCandidateIdOrderByCreatedAtDesc(Long candidateId);
+
+    Optional<Resume> findFirstByContentHashAndStatusOrderByCreatedAtDesc(String contentHash, Resume.ResumeStatus status);
+
+    // Scalar rows, so nothing piles up in the persistence context; must be read inside a transaction
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT r.parsedText FROM Resume r WHERE r.parsedText IS NOT NULL")
+    Stream<String> streamParsedTexts();
 }
\ No newline at end of file
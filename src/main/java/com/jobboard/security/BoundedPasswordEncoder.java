@@ -0,0 +1,150 @@
+package com.jobboard.security;
+
+import com.jobboard.exception.TooManyRequestsException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt on a small dedicated pool instead of the request threads. A login
+ * burst can then only occupy {@code threads} cores and {@code queueCapacity}
+ * waiting requests; anything beyond that is turned away with a 429 straight
+ * away, and the rest of the API keeps its request threads.
+ *
+ * The cost is set per deployment. Hashes made with any other cost still verify,
+ * and {@link #upgradeEncoding} reports them so the authentication provider
+ * rehashes the password with the configured cost on the next successful login.
+ */
+@Component
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$");
+
+    private final BCryptPasswordEncoder delegate;
+    private final int cost;
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder hashes = new LongAdder();
+    private final LongAdder verifications = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder workNanos = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final AtomicLong maxWorkNanos = new AtomicLong();
+    private final AtomicInteger maxQueued = new AtomicInteger();
+
+    public BoundedPasswordEncoder(@Value("${security.password.bcrypt-cost}") int cost,
+                                  @Value("${security.password.threads}") int threads,
+                                  @Value("${security.password.queue-capacity}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.cost = cost;
+        this.delegate = new BCryptPasswordEncoder(cost);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        hashes.increment();
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        verifications.increment();
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != cost;
+    }
+
+    /**
+     * Pool size, current and peak queue depth, rejections and the average and
+     * worst time spent hashing and waiting for a worker.
+     */
+    public Map<String, Object> getStats() {
+        long completed = hashes.sum() + verifications.sum() - rejections.sum();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("bcryptCost", cost);
+        stats.put("threads", executor.getMaximumPoolSize());
+        stats.put("active", executor.getActiveCount());
+        stats.put("queued", executor.getQueue().size());
+        stats.put("maxQueued", maxQueued.get());
+        stats.put("queueCapacity", executor.getQueue().size() + executor.getQueue().remainingCapacity());
+        stats.put("hashes", hashes.sum());
+        stats.put("verifications", verifications.sum());
+        stats.put("rejected", rejections.sum());
+        stats.put("averageHashMillis", completed > 0 ? workNanos.sum() / 1_000_000.0 / completed : 0.0);
+        stats.put("maxHashMillis", maxWorkNanos.get() / 1_000_000.0);
+        stats.put("averageQueueWaitMillis", completed > 0 ? queueWaitNanos.sum() / 1_000_000.0 / completed : 0.0);
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    private <T> T run(Callable<T> work) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueWaitNanos.add(startedAt - submittedAt);
+                try {
+                    return work.call();
+                } finally {
+                    long elapsed = System.nanoTime() - startedAt;
+                    workNanos.add(elapsed);
+                    maxWorkNanos.accumulateAndGet(elapsed, Math::max);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            rejections.increment();
+            throw new TooManyRequestsException("Too many sign-in requests in progress, please try again shortly", ex);
+        }
+        maxQueued.accumulateAndGet(executor.getQueue().size(), Math::max);
+
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+}
@@ -1,37 +1,92 @@
 package com.jobboard.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @Component
 public class JwtTokenProvider {
 
+    private static final String EMAIL_CLAIM = "email";
+    private static final String ROLES_CLAIM = "roles";
+    private static final String VERSION_CLAIM = "ver";
+    private static final String TYPE_CLAIM = "type";
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    });
+
     private final SecretKey key;
+    private final JwtParser parser;
     private final int jwtExpirationInMs;
     private final int refreshExpirationInMs;
 
+    // SHA-256 of recently verified tokens to their claims, each kept until the token expires
+    private final Cache<ByteBuffer, Claims> verifiedTokens;
+
+    public JwtTokenProvider(String jwtSecret, int jwtExpirationInMs, int refreshExpirationInMs) {
+        this(jwtSecret, jwtExpirationInMs, refreshExpirationInMs, 0);
+    }
+
+    @Autowired
     public JwtTokenProvider(@Value("${jwt.secret}") String jwtSecret,
             @Value("${jwt.expiration}") int jwtExpirationInMs,
-            @Value("${jwt.refresh-expiration}") int refreshExpirationInMs) {
+            @Value("${jwt.refresh-expiration}") int refreshExpirationInMs,
+            @Value("${jwt.verified-cache-size}") int verifiedCacheSize) {
         this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
         this.jwtExpirationInMs = jwtExpirationInMs;
         this.refreshExpirationInMs = refreshExpirationInMs;
+        this.verifiedTokens = verifiedCacheSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(verifiedCacheSize)
+                        .expireAfter(new UntilTokenExpires())
+                        .build()
+                : null;
     }
 
+    /**
+     * Access tokens carry the user's email, roles and token version, so requests
+     * can be authenticated from the token alone.
+     */
     public String generateToken(Authentication authentication) {
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
         Date expiryDate = new Date(System.currentTimeMillis() + jwtExpirationInMs);
+        List<String> roles = userPrincipal.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList());
 
         return Jwts.builder()
                 .setSubject(Long.toString(userPrincipal.getId()))
                 .setIssuedAt(new Date())
                 .setExpiration(expiryDate)
+                .claim(EMAIL_CLAIM, userPrincipal.getUsername())
+                .claim(ROLES_CLAIM, roles)
+                .claim(VERSION_CLAIM, userPrincipal.getTokenVersion())
                 .signWith(key)
                 .compact();
     }
@@ -44,43 +99,106 @@ public class JwtTokenProvider {
                 .setSubject(Long.toString(userPrincipal.getId()))
                 .setIssuedAt(new Date())
                 .setExpiration(expiryDate)
-                .claim("type", "refresh")
+                .claim(TYPE_CLAIM, "refresh")
+                .claim(VERSION_CLAIM, userPrincipal.getTokenVersion())
                 .signWith(key)
                 .compact();
     }
 
-    public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /**
+     * Verified claims of the token, or {@code null} when the signature, format or
+     * expiry is invalid. Callers should parse once and pass the claims along;
+     * tokens seen recently are answered from the cache without re-verifying.
+     */
+    public Claims parseToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        if (verifiedTokens == null) {
+            return verify(token);
+        }
+        return verifiedTokens.get(hash(token), tokenHash -> verify(token));
+    }
+
+    /**
+     * Principal built from access token claims, or {@code null} for tokens issued
+     * before roles were embedded, which still need the user loaded.
+     */
+    public UserPrincipal getPrincipal(Claims claims) {
+        List<?> roles = claims.get(ROLES_CLAIM, List.class);
+        if (roles == null) {
+            return null;
+        }
 
-        return Long.parseLong(claims.getSubject());
+        List<GrantedAuthority> authorities = roles.stream()
+                .map(role -> new SimpleGrantedAuthority(role.toString()))
+                .collect(Collectors.toList());
+        return new UserPrincipal(getUserId(claims), claims.get(EMAIL_CLAIM, String.class),
+                null, authorities, getTokenVersion(claims));
     }
 
-    public boolean validateToken(String authToken) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(authToken);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
+    public Long getUserId(Claims claims) {
+        return Long.valueOf(claims.getSubject());
+    }
+
+    public int getTokenVersion(Claims claims) {
+        Integer version = claims.get(VERSION_CLAIM, Integer.class);
+        return version != null ? version : 0;
+    }
+
+    public boolean isRefreshToken(Claims claims) {
+        return "refresh".equals(claims.get(TYPE_CLAIM));
+    }
+
+    public Long getUserIdFromToken(String token) {
+        Claims claims = parseToken(token);
+        if (claims == null) {
+            throw new JwtException("Invalid token");
         }
+        return getUserId(claims);
+    }
+
+    public boolean validateToken(String authToken) {
+        return parseToken(authToken) != null;
     }
 
     public boolean isRefreshToken(String token) {
+        Claims claims = parseToken(token);
+        return claims != null && isRefreshToken(claims);
+    }
+
+    private Claims verify(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-            return "refresh".equals(claims.get("type"));
+            return parser.parseClaimsJws(token).getBody();
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return null;
+        }
+    }
+
+    private static ByteBuffer hash(String token) {
+        return ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static final class UntilTokenExpires implements Expiry<ByteBuffer, Claims> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return 0L;
+            }
+            long remainingMs = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, remainingMs));
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,61 @@
+package com.jobboard.security;
+
+import com.jobboard.event.UserAccessChangedEvent;
+import com.jobboard.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory view of which users may not use their tokens: deactivated users,
+ * and the minimum token version of users whose earlier tokens were revoked.
+ * Only those users are held, so the check on every request is two map lookups.
+ *
+ * Changes made through this instance apply as soon as they commit; changes made
+ * on other instances are picked up by the periodic refresh. Both run under one
+ * lock so a refresh cannot swap out a change applied while it was querying.
+ */
+@Service
+public class TokenRevocationService {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private volatile Set<Long> inactiveUsers = ConcurrentHashMap.newKeySet();
+    private volatile ConcurrentMap<Long, Integer> tokenVersions = new ConcurrentHashMap<>();
+
+    public boolean isRevoked(Long userId, int tokenVersion) {
+        return inactiveUsers.contains(userId) || tokenVersion < tokenVersions.getOrDefault(userId, 0);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onUserAccessChanged(UserAccessChangedEvent event) {
+        if (event.active()) {
+            inactiveUsers.remove(event.userId());
+        } else {
+            inactiveUsers.add(event.userId());
+        }
+        tokenVersions.merge(event.userId(), event.tokenVersion(), Math::max);
+    }
+
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${jwt.revocation-refresh-interval}")
+    public synchronized void refresh() {
+        Set<Long> inactive = ConcurrentHashMap.newKeySet();
+        inactive.addAll(userRepository.findInactiveUserIds());
+
+        ConcurrentMap<Long, Integer> versions = new ConcurrentHashMap<>();
+        for (Object[] row : userRepository.findTokenVersions()) {
+            versions.put((Long) row[0], (Integer) row[1]);
+        }
+
+        inactiveUsers = inactive;
+        tokenVersions = versions;
+    }
+}
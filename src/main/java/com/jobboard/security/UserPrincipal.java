@@ -15,13 +15,20 @@ public class UserPrincipal implements UserDetails {
     private String email;
     private String password;
     private Collection<? extends GrantedAuthority> authorities;
+    private int tokenVersion;
 
     public UserPrincipal(Long id, String email, String password,
             Collection<? extends GrantedAuthority> authorities) {
+        this(id, email, password, authorities, 0);
+    }
+
+    public UserPrincipal(Long id, String email, String password,
+            Collection<? extends GrantedAuthority> authorities, int tokenVersion) {
         this.id = id;
         this.email = email;
         this.password = password;
         this.authorities = authorities;
+        this.tokenVersion = tokenVersion;
     }
 
     public static UserPrincipal create(User user) {
@@ -33,13 +40,18 @@ public class UserPrincipal implements UserDetails {
                 user.getId(),
                 user.getEmail(),
                 user.getPassword(),
-                authorities);
+                authorities,
+                user.getTokenVersion() != null ? user.getTokenVersion() : 0);
     }
 
     public Long getId() {
         return id;
     }
 
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+
     @Override
     public String getUsername() {
         return email;
@@ -0,0 +1,212 @@
+package com.jobboard.semantic;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Word vectors trained by {@link EmbeddingTrainer}, and the phrase embedding
+ * built from them. Immutable once loaded, so one instance serves every thread.
+ *
+ * A phrase embeds as the weighted sum of its words' vectors, normalized to unit
+ * length. Frequent words such as "experience" or "with" are weighted down by
+ * their corpus frequency, so "Postgres experience" lands next to "PostgreSQL".
+ * A word missing from the vocabulary, a misspelling or a rare version name,
+ * is pieced together from the vectors of its character trigrams, which were
+ * trained from every known word containing them.
+ */
+public final class EmbeddingModel {
+
+    private static final int MAGIC = 0x4A42454D;
+    private static final int FORMAT_VERSION = 1;
+
+    private final int dimension;
+    private final Map<String, Integer> terms;
+    private final float[] termVectors;
+    private final float[] termWeights;
+    private final int buckets;
+    private final float[] bucketVectors;
+
+    EmbeddingModel(int dimension, Map<String, Integer> terms, float[] termVectors, float[] termWeights,
+                   int buckets, float[] bucketVectors) {
+        this.dimension = dimension;
+        this.terms = terms;
+        this.termVectors = termVectors;
+        this.termWeights = termWeights;
+        this.buckets = buckets;
+        this.bucketVectors = bucketVectors;
+    }
+
+    /**
+     * Unit-length embedding of the text, or a zero vector when none of its words
+     * can be embedded.
+     */
+    public float[] embed(CharSequence text) {
+        float[] sum = new float[dimension];
+        for (String token : tokenize(text)) {
+            Integer term = terms.get(token);
+            if (term != null) {
+                addScaled(sum, termVectors, term * dimension, termWeights[term]);
+            } else {
+                addSubwords(sum, token);
+            }
+        }
+        normalize(sum);
+        return sum;
+    }
+
+    /**
+     * Cosine similarity of the two texts' embeddings, 0 when either has none.
+     */
+    public double similarity(CharSequence a, CharSequence b) {
+        return dot(embed(a), embed(b));
+    }
+
+    public int getDimension() {
+        return dimension;
+    }
+
+    public int getTermCount() {
+        return terms.size();
+    }
+
+    public int getBucketCount() {
+        return buckets;
+    }
+
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeInt(FORMAT_VERSION);
+        data.writeInt(dimension);
+        data.writeInt(terms.size());
+        data.writeInt(buckets);
+
+        String[] byIndex = new String[terms.size()];
+        terms.forEach((term, index) -> byIndex[index] = term);
+        for (int index = 0; index < byIndex.length; index++) {
+            data.writeUTF(byIndex[index]);
+            data.writeFloat(termWeights[index]);
+        }
+        for (float value : termVectors) {
+            data.writeFloat(value);
+        }
+        for (float value : bucketVectors) {
+            data.writeFloat(value);
+        }
+        data.flush();
+    }
+
+    public static EmbeddingModel read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not an embedding model file");
+        }
+        int formatVersion = data.readInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported embedding model format " + formatVersion);
+        }
+        int dimension = data.readInt();
+        int termCount = data.readInt();
+        int buckets = data.readInt();
+
+        Map<String, Integer> terms = new HashMap<>(termCount * 2);
+        float[] termWeights = new float[termCount];
+        for (int index = 0; index < termCount; index++) {
+            terms.put(data.readUTF(), index);
+            termWeights[index] = data.readFloat();
+        }
+        float[] termVectors = readFloats(data, termCount * dimension);
+        float[] bucketVectors = readFloats(data, buckets * dimension);
+        return new EmbeddingModel(dimension, terms, termVectors, termWeights, buckets, bucketVectors);
+    }
+
+    /**
+     * Lower-cased runs of letters and digits; '+', '#' and '.' are kept inside a
+     * run so "C++", "C#" and "node.js" stay whole. Everything else separates words.
+     */
+    static List<String> tokenize(CharSequence text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? Character.toLowerCase(text.charAt(i)) : ' ';
+            if (Character.isLetterOrDigit(c) || (token.length() > 0 && (c == '+' || c == '#' || c == '.'))) {
+                token.append(c);
+            } else if (token.length() > 0) {
+                // A sentence-ending period is not part of the word
+                while (token.charAt(token.length() - 1) == '.') {
+                    token.setLength(token.length() - 1);
+                }
+                tokens.add(token.toString());
+                token.setLength(0);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Buckets of the token's character trigrams, with '<' and '>' marking where
+     * the word starts and ends.
+     */
+    static int[] trigramBuckets(String token, int buckets) {
+        String marked = "<" + token + ">";
+        int[] result = new int[marked.length() - 2];
+        for (int i = 0; i < result.length; i++) {
+            int hash = 0x811C9DC5;
+            for (int j = i; j < i + 3; j++) {
+                hash = (hash ^ marked.charAt(j)) * 0x01000193;
+            }
+            result[i] = Math.floorMod(hash, buckets);
+        }
+        return result;
+    }
+
+    static void normalize(float[] vector) {
+        double norm = 0.0;
+        for (float component : vector) {
+            norm += component * component;
+        }
+        if (norm == 0.0) {
+            return;
+        }
+        float inverse = (float) (1.0 / Math.sqrt(norm));
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= inverse;
+        }
+    }
+
+    static double dot(float[] a, float[] b) {
+        double sum = 0.0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    private void addSubwords(float[] sum, String token) {
+        int[] tokenBuckets = trigramBuckets(token, buckets);
+        float[] subword = new float[dimension];
+        for (int bucket : tokenBuckets) {
+            addScaled(subword, bucketVectors, bucket * dimension, 1f);
+        }
+        normalize(subword);
+        // Unknown words are rare by definition, so they keep full weight
+        addScaled(sum, subword, 0, 1f);
+    }
+
+    private void addScaled(float[] target, float[] source, int offset, float factor) {
+        for (int i = 0; i < dimension; i++) {
+            target[i] += source[offset + i] * factor;
+        }
+    }
+
+    private static float[] readFloats(DataInputStream data, int count) throws IOException {
+        float[] values = new float[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = data.readFloat();
+        }
+        return values;
+    }
+}
@@ -0,0 +1,202 @@
+package com.jobboard.semantic;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Trains an {@link EmbeddingModel} from a text corpus on the CPU, in two passes
+ * over it and without any gradient descent, by random indexing:
+ * <ol>
+ *   <li>count every word and keep those seen at least {@code minCount} times</li>
+ *   <li>give each kept word a fixed sparse random "index" vector, and sum into
+ *       each word's context vector the index vectors of the words around it</li>
+ * </ol>
+ * Words used in the same company end up with similar context vectors, so
+ * "backend" and "server-side" come out close when resumes use them alike.
+ * Context words are weighted down by frequency, and the mean vector is removed
+ * so the words shared by every resume do not make everything look alike.
+ *
+ * Each character trigram then gets the sum of the vectors of the words that
+ * contain it, and each word is nudged towards its trigrams, so spelling variants
+ * sit together and unseen words can be built from their trigrams.
+ */
+public final class EmbeddingTrainer {
+
+    /** Nonzero components of an index vector, half of them +1 and half -1. */
+    private static final int INDEX_NONZEROS = 8;
+    /** Smoothing of the frequency weight a / (a + p(word)). */
+    private static final double WEIGHT_SMOOTHING = 1e-3;
+    /** Share of a word's trigram vector mixed into its own. */
+    private static final float SUBWORD_MIX = 0.3f;
+
+    private final int dimension;
+    private final int window;
+    private final int minCount;
+    private final int buckets;
+    private final long seed;
+
+    public EmbeddingTrainer(int dimension, int window, int minCount, int buckets, long seed) {
+        if (dimension < INDEX_NONZEROS || window < 1 || minCount < 1 || buckets < 1) {
+            throw new IllegalArgumentException("Dimension must be at least " + INDEX_NONZEROS
+                    + " and window, minCount and buckets positive");
+        }
+        this.dimension = dimension;
+        this.window = window;
+        this.minCount = minCount;
+        this.buckets = buckets;
+        this.seed = seed;
+    }
+
+    /**
+     * A corpus that can be read more than once, one document at a time.
+     */
+    @FunctionalInterface
+    public interface Corpus {
+
+        void forEachDocument(Consumer<String> consumer);
+    }
+
+    public EmbeddingModel train(Corpus corpus) {
+        // Pass 1: the vocabulary
+        Map<String, int[]> counts = new HashMap<>();
+        long[] totalTokens = new long[1];
+        corpus.forEachDocument(document -> {
+            for (String token : EmbeddingModel.tokenize(document)) {
+                counts.computeIfAbsent(token, key -> new int[1])[0]++;
+                totalTokens[0]++;
+            }
+        });
+
+        Map<String, Integer> terms = new HashMap<>();
+        List<String> vocabulary = new ArrayList<>();
+        List<Integer> termCounts = new ArrayList<>();
+        counts.forEach((token, count) -> {
+            if (count[0] >= minCount) {
+                terms.put(token, vocabulary.size());
+                vocabulary.add(token);
+                termCounts.add(count[0]);
+            }
+        });
+        counts.clear();
+
+        int termCount = vocabulary.size();
+        float[] weights = new float[termCount];
+        int[][] indexVectors = new int[termCount][];
+        for (int term = 0; term < termCount; term++) {
+            double probability = (double) termCounts.get(term) / Math.max(1, totalTokens[0]);
+            weights[term] = (float) (WEIGHT_SMOOTHING / (WEIGHT_SMOOTHING + probability));
+            indexVectors[term] = indexVector(vocabulary.get(term));
+        }
+
+        // Pass 2: context vectors
+        float[] contexts = new float[termCount * dimension];
+        corpus.forEachDocument(document -> {
+            List<String> tokens = EmbeddingModel.tokenize(document);
+            int[] ids = new int[tokens.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = terms.getOrDefault(tokens.get(i), -1);
+            }
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] < 0) {
+                    continue;
+                }
+                int offset = ids[i] * dimension;
+                for (int j = Math.max(0, i - window); j <= Math.min(ids.length - 1, i + window); j++) {
+                    if (j == i || ids[j] < 0) {
+                        continue;
+                    }
+                    float weight = weights[ids[j]];
+                    for (int encoded : indexVectors[ids[j]]) {
+                        contexts[offset + Math.abs(encoded) - 1] += encoded > 0 ? weight : -weight;
+                    }
+                }
+            }
+        });
+
+        // Unit length, then centred on the mean
+        float[] mean = new float[dimension];
+        for (int term = 0; term < termCount; term++) {
+            normalize(contexts, term * dimension);
+            for (int i = 0; i < dimension; i++) {
+                mean[i] += contexts[term * dimension + i] / termCount;
+            }
+        }
+        for (int term = 0; term < termCount; term++) {
+            for (int i = 0; i < dimension; i++) {
+                contexts[term * dimension + i] -= mean[i];
+            }
+            normalize(contexts, term * dimension);
+        }
+
+        // Trigram vectors from the words containing them, then words nudged towards theirs
+        float[] bucketVectors = new float[buckets * dimension];
+        int[][] termBuckets = new int[termCount][];
+        for (int term = 0; term < termCount; term++) {
+            termBuckets[term] = EmbeddingModel.trigramBuckets(vocabulary.get(term), buckets);
+            for (int bucket : termBuckets[term]) {
+                for (int i = 0; i < dimension; i++) {
+                    bucketVectors[bucket * dimension + i] += contexts[term * dimension + i];
+                }
+            }
+        }
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            normalize(bucketVectors, bucket * dimension);
+        }
+
+        float[] termVectors = new float[termCount * dimension];
+        float[] subword = new float[dimension];
+        for (int term = 0; term < termCount; term++) {
+            Arrays.fill(subword, 0f);
+            for (int bucket : termBuckets[term]) {
+                for (int i = 0; i < dimension; i++) {
+                    subword[i] += bucketVectors[bucket * dimension + i];
+                }
+            }
+            EmbeddingModel.normalize(subword);
+            int offset = term * dimension;
+            for (int i = 0; i < dimension; i++) {
+                termVectors[offset + i] = contexts[offset + i] + SUBWORD_MIX * subword[i];
+            }
+            normalize(termVectors, offset);
+        }
+
+        return new EmbeddingModel(dimension, terms, termVectors, weights, buckets, bucketVectors);
+    }
+
+    /**
+     * The word's index vector as signed, 1-based component numbers: +c adds to
+     * component c - 1, -c subtracts from it. Seeded by the word, so the same
+     * word always gets the same vector.
+     */
+    private int[] indexVector(String term) {
+        SplittableRandom random = new SplittableRandom(seed ^ (term.hashCode() * 0x9E3779B97F4A7C15L));
+        int[] encoded = new int[INDEX_NONZEROS];
+        int count = 0;
+        while (count < INDEX_NONZEROS) {
+            int component = random.nextInt(dimension) + 1;
+            boolean taken = false;
+            for (int i = 0; i < count; i++) {
+                taken |= Math.abs(encoded[i]) == component;
+            }
+            if (!taken) {
+                encoded[count] = count % 2 == 0 ? component : -component;
+                count++;
+            }
+        }
+        return encoded;
+    }
+
+    private void normalize(float[] vectors, int offset) {
+        double norm = 0.0;
+        for (int i = offset; i < offset + dimension; i++) {
+            norm += vectors[i] * vectors[i];
+        }
+        if (norm == 0.0) {
+            return;
+        }
+        float inverse = (float) (1.0 / Math.sqrt(norm));
+        for (int i = offset; i < offset + dimension; i++) {
+            vectors[i] *= inverse;
+        }
+    }
+}
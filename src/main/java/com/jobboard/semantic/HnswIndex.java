@@ -0,0 +1,409 @@
+package com.jobboard.semantic;
+
+import java.util.*;
+
+/**
+ * Approximate nearest-neighbour index over unit vectors, ranked by cosine
+ * similarity: a hierarchical navigable small world graph (Malkov and Yashunin).
+ * Every vector is a node on layer 0 and, with geometrically falling odds, on
+ * the layers above; a search descends greedily from the single node on the top
+ * layer and only explores a beam of {@code ef} candidates on layer 0, so it
+ * visits a few hundred nodes whatever the size of the index.
+ *
+ * Vectors are held in {@link QuantizedVectors}, one byte per component, and
+ * compared without converting them back to floats.
+ *
+ * Removing an id only marks its node deleted: it still routes searches but is
+ * never returned. Adding an id again removes the old node first. Once many
+ * nodes are deleted the owner should build a fresh index.
+ *
+ * Not thread-safe for writes: searches may run concurrently with each other,
+ * but not with {@link #add} or {@link #remove}.
+ */
+public final class HnswIndex {
+
+    private final int dimension;
+    private final int m;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final Random random;
+
+    private final QuantizedVectors vectors;
+    private long[] ids;
+    // Per node and layer: the neighbour count followed by the neighbours' ordinals
+    private int[][][] links;
+    private final Map<Long, Integer> nodes = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    /**
+     * @param m              neighbours kept per node on the upper layers; layer 0 keeps twice as many
+     * @param efConstruction beam width when linking a new node, trading build time for recall
+     * @param seed           seed for the layer draw, so a build is reproducible
+     */
+    public HnswIndex(int dimension, int m, int efConstruction, long seed) {
+        if (dimension < 1 || m < 2 || efConstruction < 1) {
+            throw new IllegalArgumentException("Dimension must be positive, m at least 2 and efConstruction positive");
+        }
+        this.dimension = dimension;
+        this.m = m;
+        this.efConstruction = efConstruction;
+        this.levelMultiplier = 1.0 / Math.log(m);
+        this.random = new Random(seed);
+        this.vectors = new QuantizedVectors(dimension, 1024);
+        this.ids = new long[1024];
+        this.links = new int[1024][][];
+    }
+
+    /**
+     * Adds a unit vector under the given id, replacing any vector it had.
+     */
+    public void add(long id, float[] vector) {
+        remove(id);
+
+        byte[] query = new byte[dimension];
+        float queryScale = QuantizedVectors.quantize(vector, query, 0);
+        int node = vectors.add(vector);
+        if (node == ids.length) {
+            ids = Arrays.copyOf(ids, node * 2);
+            links = Arrays.copyOf(links, node * 2);
+        }
+        ids[node] = id;
+        nodes.put(id, node);
+
+        int level = randomLevel();
+        links[node] = new int[level + 1][];
+        for (int layer = 0; layer <= level; layer++) {
+            links[node][layer] = new int[1 + maxLinks(layer)];
+        }
+
+        if (entryPoint < 0) {
+            entryPoint = node;
+            maxLevel = level;
+            return;
+        }
+
+        int closest = entryPoint;
+        for (int layer = maxLevel; layer > level; layer--) {
+            closest = greedyClosest(query, queryScale, closest, layer);
+        }
+        for (int layer = Math.min(level, maxLevel); layer >= 0; layer--) {
+            NodeHeap candidates = searchLayer(query, queryScale, closest, efConstruction, layer);
+            int[] found = candidates.drainBestFirst();
+            int[] selected = selectNeighbors(node, found, candidates.drainedScores(), maxLinks(layer));
+            int[] nodeLinks = links[node][layer];
+            nodeLinks[0] = selected.length;
+            System.arraycopy(selected, 0, nodeLinks, 1, selected.length);
+            for (int neighbor : selected) {
+                link(neighbor, node, layer);
+            }
+            closest = found[0];
+        }
+        if (level > maxLevel) {
+            entryPoint = node;
+            maxLevel = level;
+        }
+    }
+
+    /**
+     * Marks the id's node deleted.
+     *
+     * @return whether the id was in the index
+     */
+    public boolean remove(long id) {
+        Integer node = nodes.remove(id);
+        if (node == null) {
+            return false;
+        }
+        deleted.set(node);
+        return true;
+    }
+
+    public boolean contains(long id) {
+        return nodes.containsKey(id);
+    }
+
+    /**
+     * The {@code k} ids most similar to the query, best first. A larger
+     * {@code ef} explores more of the graph for better recall.
+     */
+    public List<Neighbor> search(float[] vector, int k, int ef) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException("Expected " + dimension + " dimensions, got " + vector.length);
+        }
+        if (k <= 0 || nodes.isEmpty()) {
+            return List.of();
+        }
+
+        byte[] query = new byte[dimension];
+        float queryScale = QuantizedVectors.quantize(vector, query, 0);
+        int closest = entryPoint;
+        for (int layer = maxLevel; layer > 0; layer--) {
+            closest = greedyClosest(query, queryScale, closest, layer);
+        }
+        NodeHeap candidates = searchLayer(query, queryScale, closest, Math.max(ef, k), 0);
+        int[] found = candidates.drainBestFirst();
+        float[] similarities = candidates.drainedScores();
+
+        List<Neighbor> neighbors = new ArrayList<>(Math.min(k, found.length));
+        for (int i = 0; i < found.length && neighbors.size() < k; i++) {
+            if (!deleted.get(found[i])) {
+                neighbors.add(new Neighbor(ids[found[i]], similarities[i]));
+            }
+        }
+        return neighbors;
+    }
+
+    /**
+     * Number of ids in the index, not counting deleted nodes.
+     */
+    public int size() {
+        return nodes.size();
+    }
+
+    public int deletedCount() {
+        return vectors.size() - nodes.size();
+    }
+
+    public int getDimension() {
+        return dimension;
+    }
+
+    /**
+     * Heap held per node, deleted ones included: its quantized vector, its id and
+     * its neighbour lists.
+     */
+    public long bytesPerVector() {
+        int count = vectors.size();
+        if (count == 0) {
+            return 0;
+        }
+        long linkBytes = 0;
+        for (int node = 0; node < count; node++) {
+            for (int[] layerLinks : links[node]) {
+                linkBytes += (long) layerLinks.length * Integer.BYTES;
+            }
+        }
+        return vectors.bytesPerVector() + Long.BYTES + linkBytes / count;
+    }
+
+    private int maxLinks(int layer) {
+        return layer == 0 ? 2 * m : m;
+    }
+
+    private int randomLevel() {
+        return (int) (-Math.log(1.0 - random.nextDouble()) * levelMultiplier);
+    }
+
+    // Walks to ever closer neighbours on one layer until none is closer
+    private int greedyClosest(byte[] query, float queryScale, int start, int layer) {
+        int current = start;
+        float best = vectors.dot(query, 0, queryScale, current);
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            int[] nodeLinks = links[current][layer];
+            for (int i = 1; i <= nodeLinks[0]; i++) {
+                float similarity = vectors.dot(query, 0, queryScale, nodeLinks[i]);
+                if (similarity > best) {
+                    best = similarity;
+                    current = nodeLinks[i];
+                    improved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Beam search on one layer: returns up to {@code ef} of the closest nodes
+     * found, as a heap with the least similar on top.
+     */
+    private NodeHeap searchLayer(byte[] query, float queryScale, int start, int ef, int layer) {
+        BitSet visited = new BitSet(vectors.size());
+        NodeHeap frontier = new NodeHeap(ef, false);
+        NodeHeap results = new NodeHeap(ef, true);
+
+        float startSimilarity = vectors.dot(query, 0, queryScale, start);
+        visited.set(start);
+        frontier.push(start, startSimilarity);
+        results.push(start, startSimilarity);
+
+        while (frontier.size() > 0) {
+            float similarity = frontier.topScore();
+            if (results.size() >= ef && similarity < results.topScore()) {
+                break;
+            }
+            int current = frontier.pop();
+            int[] nodeLinks = links[current][layer];
+            for (int i = 1; i <= nodeLinks[0]; i++) {
+                int neighbor = nodeLinks[i];
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+                float neighborSimilarity = vectors.dot(query, 0, queryScale, neighbor);
+                if (results.size() < ef || neighborSimilarity > results.topScore()) {
+                    frontier.push(neighbor, neighborSimilarity);
+                    results.push(neighbor, neighborSimilarity);
+                    if (results.size() > ef) {
+                        results.pop();
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Picks up to {@code max} neighbours for {@code node} from candidates sorted
+     * best first. A candidate is skipped while it is closer to an already chosen
+     * neighbour than to the node, which spreads links across directions and
+     * keeps clusters connected; skipped ones fill any remaining slots.
+     */
+    private int[] selectNeighbors(int node, int[] candidates, float[] similarities, int max) {
+        int[] selected = new int[Math.min(max, candidates.length)];
+        int count = 0;
+        int[] skipped = new int[candidates.length];
+        int skippedCount = 0;
+        for (int i = 0; i < candidates.length && count < selected.length; i++) {
+            int candidate = candidates[i];
+            if (candidate == node) {
+                continue;
+            }
+            boolean diverse = true;
+            for (int j = 0; j < count; j++) {
+                if (vectors.dot(candidate, selected[j]) > similarities[i]) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected[count++] = candidate;
+            } else {
+                skipped[skippedCount++] = candidate;
+            }
+        }
+        for (int i = 0; i < skippedCount && count < selected.length; i++) {
+            selected[count++] = skipped[i];
+        }
+        return count == selected.length ? selected : Arrays.copyOf(selected, count);
+    }
+
+    // Adds the reverse link, re-selecting the neighbour's links when it has no room left
+    private void link(int from, int to, int layer) {
+        int[] nodeLinks = links[from][layer];
+        int count = nodeLinks[0];
+        if (count < nodeLinks.length - 1) {
+            nodeLinks[++count] = to;
+            nodeLinks[0] = count;
+            return;
+        }
+
+        NodeHeap candidates = new NodeHeap(count + 1, true);
+        for (int i = 1; i <= count; i++) {
+            candidates.push(nodeLinks[i], vectors.dot(from, nodeLinks[i]));
+        }
+        candidates.push(to, vectors.dot(from, to));
+        int[] sorted = candidates.drainBestFirst();
+        int[] selected = selectNeighbors(from, sorted, candidates.drainedScores(), count);
+        nodeLinks[0] = selected.length;
+        System.arraycopy(selected, 0, nodeLinks, 1, selected.length);
+    }
+
+    /**
+     * Binary heap of node ordinals keyed by similarity, least similar on top for
+     * a result set or most similar on top for a search frontier.
+     */
+    private static final class NodeHeap {
+
+        private final boolean leastOnTop;
+        private int[] nodes;
+        private float[] scores;
+        private int size;
+        private float[] drained;
+
+        NodeHeap(int capacity, boolean leastOnTop) {
+            this.leastOnTop = leastOnTop;
+            this.nodes = new int[capacity + 1];
+            this.scores = new float[capacity + 1];
+        }
+
+        int size() {
+            return size;
+        }
+
+        float topScore() {
+            return scores[0];
+        }
+
+        void push(int node, float score) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+                scores = Arrays.copyOf(scores, size * 2);
+            }
+            int position = size++;
+            while (position > 0) {
+                int parent = (position - 1) >>> 1;
+                if (!above(score, scores[parent])) {
+                    break;
+                }
+                nodes[position] = nodes[parent];
+                scores[position] = scores[parent];
+                position = parent;
+            }
+            nodes[position] = node;
+            scores[position] = score;
+        }
+
+        int pop() {
+            int top = nodes[0];
+            size--;
+            int node = nodes[size];
+            float score = scores[size];
+            int position = 0;
+            while (true) {
+                int child = 2 * position + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && above(scores[child + 1], scores[child])) {
+                    child++;
+                }
+                if (!above(scores[child], score)) {
+                    break;
+                }
+                nodes[position] = nodes[child];
+                scores[position] = scores[child];
+                position = child;
+            }
+            nodes[position] = node;
+            scores[position] = score;
+            return top;
+        }
+
+        /**
+         * Empties a least-on-top heap into an array, most similar first; their
+         * similarities are then in {@link #drainedScores()}.
+         */
+        int[] drainBestFirst() {
+            int[] ordered = new int[size];
+            drained = new float[size];
+            for (int i = ordered.length - 1; i >= 0; i--) {
+                drained[i] = scores[0];
+                ordered[i] = pop();
+            }
+            return ordered;
+        }
+
+        float[] drainedScores() {
+            return drained;
+        }
+
+        private boolean above(float score, float other) {
+            return leastOnTop ? score < other : score > other;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.jobboard.semantic;
+
+/**
+ * An id found by a nearest-neighbour search, with its cosine similarity to the query.
+ */
+public record Neighbor(long id, float similarity) {
+}
@@ -1,40 +1,75 @@
 package com.jobboard.service;
 
-import com.jobboard.domain.Job;
 import com.jobboard.domain.User;
 import com.jobboard.dto.admin.PlatformStatsResponse;
 import com.jobboard.dto.user.UserResponse;
+import com.jobboard.event.UserAccessChangedEvent;
+import com.jobboard.exception.BadRequestException;
 import com.jobboard.exception.ResourceNotFoundException;
 import com.jobboard.repository.*;
+import com.jobboard.security.BoundedPasswordEncoder;
+import com.jobboard.skill.SkillTaxonomy;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class AdminService {
 
+    // How far back the activity series in the platform stats go
+    private static final int STATS_DAYS = 30;
+    private static final int STATS_HOURS = 48;
+
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
-    private CandidateRepository candidateRepository;
+    private PlatformStatsRepository platformStatsRepository;
+
+    @Autowired
+    private SkillTaxonomyService skillTaxonomyService;
+
+    @Autowired
+    private CandidateFeaturesService candidateFeaturesService;
+
+    @Autowired
+    private PublicJobCache publicJobCache;
+
+    @Autowired
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ResumeParsingService resumeParsingService;
+
+    @Autowired
+    private ResumeStore resumeStore;
+
+    @Autowired
+    private MatchScoreRecomputeService matchScoreRecomputeService;
 
     @Autowired
-    private RecruiterRepository recruiterRepository;
+    private JobRecommendationService jobRecommendationService;
 
     @Autowired
-    private JobRepository jobRepository;
+    private JobFeaturesCache jobFeaturesCache;
 
     @Autowired
-    private ApplicationRepository applicationRepository;
+    private SemanticMatchingService semanticMatchingService;
 
     @Autowired
-    private ResumeRepository resumeRepository;
+    private ApplicationEventPublisher eventPublisher;
 
     public Page<UserResponse> getAllUsers(Pageable pageable) {
         Page<User> users = userRepository.findAll(pageable);
@@ -46,26 +81,97 @@ public class AdminService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
         user.setIsActive(isActive);
+        if (!Boolean.TRUE.equals(isActive)) {
+            // Tokens issued so far stay revoked even if the user is reactivated later
+            user.setTokenVersion(user.getTokenVersion() + 1);
+        }
         userRepository.save(user);
+
+        eventPublisher.publishEvent(new UserAccessChangedEvent(
+                userId, Boolean.TRUE.equals(isActive), user.getTokenVersion()));
     }
 
+    @Transactional(readOnly = true)
     public PlatformStatsResponse getPlatformStats() {
-        Long totalUsers = userRepository.count();
-        Long totalCandidates = candidateRepository.count();
-        Long totalRecruiters = recruiterRepository.count();
-        Long totalJobs = jobRepository.count();
-        Long activeJobs = jobRepository.countByStatus(Job.JobStatus.ACTIVE);
-        Long totalApplications = applicationRepository.count();
-        Long totalResumes = resumeRepository.count();
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        LocalDateTime thisHour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime daysSince = today.minusDays(STATS_DAYS - 1);
+        LocalDateTime hoursSince = thisHour.minusHours(STATS_HOURS - 1);
+
+        PlatformStatsRepository.Snapshot snapshot = platformStatsRepository.read(daysSince, hoursSince);
 
         return new PlatformStatsResponse(
-                totalUsers,
-                totalCandidates,
-                totalRecruiters,
-                totalJobs,
-                activeJobs,
-                totalApplications,
-                totalResumes);
+                snapshot.total("users"),
+                snapshot.total("candidates"),
+                snapshot.total("recruiters"),
+                snapshot.total("jobs"),
+                snapshot.total("active_jobs"),
+                snapshot.total("applications"),
+                snapshot.total("resumes"),
+                fillBuckets(snapshot.buckets(PlatformStatsRepository.APPLICATIONS_PER_DAY),
+                        daysSince, today, ChronoUnit.DAYS),
+                fillBuckets(snapshot.buckets(PlatformStatsRepository.RESUME_UPLOADS_PER_HOUR),
+                        hoursSince, thisHour, ChronoUnit.HOURS));
+    }
+
+    public Map<String, Object> reloadSkillTaxonomy() {
+        SkillTaxonomy taxonomy;
+        try {
+            taxonomy = skillTaxonomyService.reload();
+        } catch (IOException | IllegalArgumentException ex) {
+            throw new BadRequestException("Skill taxonomy could not be loaded: " + ex.getMessage());
+        }
+
+        return Map.of(
+                "version", taxonomy.getVersion(),
+                "skills", taxonomy.getSkillCount(),
+                "terms", taxonomy.getTermCount());
+    }
+
+    public Map<String, Object> getMatchingIndexStats() {
+        return candidateFeaturesService.getStats();
+    }
+
+    public Map<String, Object> getMatchScoreRecomputeStats() {
+        return matchScoreRecomputeService.getStats();
+    }
+
+    public Map<String, Object> getJobRecommendationStats() {
+        return jobRecommendationService.getStats();
+    }
+
+    public Map<String, Object> getJobFeaturesStats() {
+        return jobFeaturesCache.getStats();
+    }
+
+    public Map<String, Object> getSemanticMatchingStats() {
+        return semanticMatchingService.getStats();
+    }
+
+    public Map<String, Object> getJobCacheStats() {
+        return publicJobCache.getStats();
+    }
+
+    public Map<String, Object> getPasswordHashingStats() {
+        return passwordEncoder.getStats();
+    }
+
+    public Map<String, Object> getResumeParsingStats() {
+        return resumeParsingService.getStats();
+    }
+
+    public Map<String, Object> getResumeUploadStats() {
+        return resumeStore.getStats();
+    }
+
+    // Every bucket from first to last, with zero for those that saw no activity
+    private static Map<LocalDateTime, Long> fillBuckets(Map<LocalDateTime, Long> counts, LocalDateTime first,
+                                                        LocalDateTime last, ChronoUnit unit) {
+        Map<LocalDateTime, Long> buckets = new LinkedHashMap<>();
+        for (LocalDateTime bucket = first; !bucket.isAfter(last); bucket = bucket.plus(1, unit)) {
+            buckets.put(bucket, counts.getOrDefault(bucket, 0L));
+        }
+        return buckets;
     }
 
     private UserResponse convertToUserResponse(User user) {
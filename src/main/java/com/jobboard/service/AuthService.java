@@ -14,6 +14,8 @@ import com.jobboard.repository.RecruiterRepository;
 import com.jobboard.repository.RoleRepository;
 import com.jobboard.repository.UserRepository;
 import com.jobboard.security.JwtTokenProvider;
+import com.jobboard.security.UserPrincipal;
+import io.jsonwebtoken.Claims;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -116,17 +118,25 @@ public class AuthService {
     }
 
     public JwtAuthenticationResponse refreshToken(String refreshToken) {
-        if (!tokenProvider.validateToken(refreshToken) || !tokenProvider.isRefreshToken(refreshToken)) {
+        Claims claims = tokenProvider.parseToken(refreshToken);
+        if (claims == null || !tokenProvider.isRefreshToken(claims)) {
             throw new BadRequestException("Invalid refresh token");
         }
 
-        Long userId = tokenProvider.getUserIdFromToken(refreshToken);
+        Long userId = tokenProvider.getUserId(claims);
         User user = userRepository.findByIdWithRoles(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
+        // The user row is loaded anyway, so check revocation against it rather than the in-memory view
+        if (Boolean.FALSE.equals(user.getIsActive())
+                || tokenProvider.getTokenVersion(claims) < user.getTokenVersion()) {
+            throw new BadRequestException("Invalid refresh token");
+        }
+
         // Create new authentication
+        UserPrincipal userPrincipal = UserPrincipal.create(user);
         Authentication authentication = new UsernamePasswordAuthenticationToken(
-                user.getEmail(), null, null);
+                userPrincipal, null, userPrincipal.getAuthorities());
 
         String newJwt = tokenProvider.generateToken(authentication);
         String newRefreshToken = tokenProvider.generateRefreshToken(authentication);
@@ -0,0 +1,379 @@
+package com.jobboard.service;
+
+import com.jobboard.domain.ImportedResume;
+import com.jobboard.domain.Resume;
+import com.jobboard.dto.recruiter.BulkImportResponse;
+import com.jobboard.dto.recruiter.BulkImportResponse.FileFailure;
+import com.jobboard.repository.ImportedResumeRepository;
+import com.jobboard.repository.ResumeBatchRepository;
+import com.jobboard.repository.ResumeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Imports large batches of resume PDFs from a ZIP stream or a local directory.
+ *
+ * Files are read one at a time, kept in the {@link ResumeStore} under their
+ * content hash, parsed on a pool sized to the core count (or not at all when the
+ * same file was parsed before) and
+ * written in JDBC batches by a single writer. A semaphore caps how many documents
+ * (raw bytes or parsed text) are held in memory at once; reading stops until the
+ * writer has flushed enough of them. Nothing is attached to a profile here:
+ * each resume is held as an {@link ImportedResume} under the email found in it
+ * until the candidate with that account email claims it.
+ */
+@Service
+public class BulkResumeImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkResumeImportService.class);
+
+    private static final int MAX_REPORTED_FAILURES = 1000;
+    private static final int PROGRESS_INTERVAL = 1000;
+    private static final long WRITER_POLL_MILLIS = 200;
+
+    @Autowired
+    private ResumeParsingService resumeParsingService;
+
+    @Autowired
+    private ResumeBatchRepository resumeBatchRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private ImportedResumeRepository importedResumeRepository;
+
+    @Autowired
+    private ResumeStore resumeStore;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${resume.import.parse-threads}")
+    private int parseThreads;
+
+    @Value("${resume.import.max-in-flight}")
+    private int maxInFlight;
+
+    @Value("${resume.import.batch-size}")
+    private int batchSize;
+
+    @Value("${resume.import.max-file-size}")
+    private DataSize maxFileSize;
+
+    /**
+     * @param importedBy user id of the recruiter running the import, or null from the command line
+     */
+    public BulkImportResponse importZip(InputStream in, Long importedBy) throws IOException {
+        ZipInputStream zip = new ZipInputStream(new BufferedInputStream(in));
+        return run(() -> nextZipEntry(zip), importedBy);
+    }
+
+    public BulkImportResponse importDirectory(Path directory, Long importedBy) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            throw new IOException("Not a directory: " + directory);
+        }
+
+        try (Stream<Path> files = Files.walk(directory)) {
+            Iterator<Path> paths = files.filter(Files::isRegularFile).iterator();
+            return run(() -> nextFile(paths), importedBy);
+        }
+    }
+
+    private BulkImportResponse run(EntryReader reader, Long importedBy) throws IOException {
+        ImportRun importRun = new ImportRun(importedBy);
+        int threads = parseThreads > 0 ? parseThreads : Runtime.getRuntime().availableProcessors();
+        ForkJoinPool parsePool = new ForkJoinPool(threads);
+        ExecutorService writerExecutor = Executors.newSingleThreadExecutor(
+                new CustomizableThreadFactory("resume-import-writer-"));
+
+        try {
+            Future<?> writer = writerExecutor.submit(() -> {
+                writeBatches(importRun);
+                return null;
+            });
+
+            while (true) {
+                importRun.inFlight.acquire();
+                ImportEntry entry = reader.next();
+                if (entry == null) {
+                    importRun.inFlight.release();
+                    break;
+                }
+
+                importRun.totalFiles.incrementAndGet();
+                if (entry.error() != null) {
+                    importRun.fail(entry.name(), entry.error());
+                    importRun.inFlight.release();
+                    continue;
+                }
+
+                importRun.totalBytes.addAndGet(entry.content().length);
+                parsePool.execute(() -> parse(entry, importRun));
+            }
+
+            parsePool.shutdown();
+            parsePool.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+            importRun.parsed.put(ParsedEntry.END);
+            writer.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Resume import was interrupted", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Resume import writer failed", ex.getCause());
+        } finally {
+            parsePool.shutdownNow();
+            writerExecutor.shutdownNow();
+        }
+
+        BulkImportResponse response = importRun.toResponse();
+        logger.info("Imported {} of {} resumes in {} ms ({} docs/s, {} bytes/s), {} failed",
+                response.getImported(), response.getTotalFiles(), response.getElapsedMillis(),
+                Math.round(response.getDocsPerSecond()), Math.round(response.getBytesPerSecond()),
+                response.getFailed());
+        return response;
+    }
+
+    private void parse(ImportEntry entry, ImportRun importRun) {
+        ResumeStore.StoredFile storedFile = null;
+        boolean handedOff = false;
+        try {
+            storedFile = resumeStore.store(new ByteArrayInputStream(entry.content()));
+
+            // Career-fair dumps repeat files, so take the text of an earlier copy when there is one
+            String text = previousText(storedFile.contentHash());
+            resumeStore.recordParse(text != null);
+            if (text == null) {
+                text = resumeParsingService.extractTextFromFile(storedFile.path());
+            }
+            Map<String, Object> structuredData = resumeParsingService.extractStructuredData(text);
+
+            Object email = structuredData.get("email");
+            if (email == null) {
+                importRun.fail(entry.name(), "No email address found to identify the candidate");
+                return;
+            }
+
+            ImportedResume resume = new ImportedResume(email.toString().toLowerCase(Locale.ROOT),
+                    importRun.importedBy, storedFile.path().toString(), entry.name());
+            resume.setContentHash(storedFile.contentHash());
+            resume.setParsedText(text);
+            resume.setSkillsJson(structuredData);
+
+            importRun.parsed.put(new ParsedEntry(entry.name(), resume, !storedFile.duplicate()));
+            handedOff = true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable ex) {
+            // Parsers also fail with Errors, e.g. a StackOverflowError on a deeply nested document
+            importRun.fail(entry.name(), "Could not parse: "
+                    + (ex.getMessage() != null ? ex.getMessage() : ex.getClass().getSimpleName()));
+            if (ex instanceof VirtualMachineError error) {
+                throw error;
+            }
+        } finally {
+            // Once handed off the writer owns the file and the permit; otherwise nothing else will free them
+            if (!handedOff) {
+                if (storedFile != null && !storedFile.duplicate()) {
+                    discard(storedFile.path());
+                }
+                importRun.inFlight.release();
+            }
+        }
+    }
+
+    // Text of a resume or import with the same content, or null when this file is new
+    private String previousText(String contentHash) {
+        return resumeRepository.findFirstByContentHashAndStatusOrderByCreatedAtDesc(
+                        contentHash, Resume.ResumeStatus.PARSED)
+                .map(Resume::getParsedText)
+                .or(() -> importedResumeRepository.findFirstByContentHashOrderByCreatedAtDesc(contentHash)
+                        .map(ImportedResume::getParsedText))
+                .orElse(null);
+    }
+
+    private void writeBatches(ImportRun importRun) throws InterruptedException {
+        // Never wait for more documents than the reader is allowed to hold
+        int flushSize = Math.max(1, Math.min(batchSize, maxInFlight));
+        List<ParsedEntry> batch = new ArrayList<>(flushSize);
+
+        while (true) {
+            ParsedEntry entry = importRun.parsed.poll(WRITER_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            if (entry == ParsedEntry.END) {
+                flush(batch, importRun);
+                return;
+            }
+            if (entry != null) {
+                batch.add(entry);
+            }
+            if (batch.size() >= flushSize || (entry == null && !batch.isEmpty())) {
+                flush(batch, importRun);
+            }
+        }
+    }
+
+    private void flush(List<ParsedEntry> batch, ImportRun importRun) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<ImportedResume> resumes = batch.stream().map(ParsedEntry::resume).toList();
+            transactionTemplate.executeWithoutResult(status -> resumeBatchRepository.insertAll(resumes));
+
+            int imported = importRun.imported.addAndGet(resumes.size());
+            if (imported / PROGRESS_INTERVAL != (imported - resumes.size()) / PROGRESS_INTERVAL) {
+                logger.info("Imported {} resumes so far", imported);
+            }
+        } catch (Exception ex) {
+            logger.error("Could not write batch of {} resumes", batch.size(), ex);
+            failAll(batch, "Could not save: " + ex.getMessage(), importRun);
+        } finally {
+            release(batch, importRun);
+        }
+    }
+
+    private void failAll(List<ParsedEntry> entries, String reason, ImportRun importRun) {
+        for (ParsedEntry entry : entries) {
+            // Files that were already in the store may belong to other resumes
+            if (entry.newFile()) {
+                discard(Path.of(entry.resume().getFilePath()));
+            }
+            importRun.fail(entry.fileName(), reason);
+        }
+    }
+
+    private void release(List<ParsedEntry> batch, ImportRun importRun) {
+        importRun.inFlight.release(batch.size());
+        batch.clear();
+    }
+
+    private ImportEntry nextZipEntry(ZipInputStream zip) throws IOException {
+        ZipEntry zipEntry;
+        while ((zipEntry = zip.getNextEntry()) != null) {
+            String name = zipEntry.getName();
+            if (zipEntry.isDirectory() || isIgnored(name)) {
+                continue;
+            }
+            if (!isPdf(name)) {
+                return ImportEntry.failed(name, "Only PDF files are allowed");
+            }
+            return readEntry(name, zip);
+        }
+        return null;
+    }
+
+    private ImportEntry nextFile(Iterator<Path> paths) throws IOException {
+        while (paths.hasNext()) {
+            Path path = paths.next();
+            String name = path.toString();
+            if (isIgnored(name)) {
+                continue;
+            }
+            if (!isPdf(name)) {
+                return ImportEntry.failed(name, "Only PDF files are allowed");
+            }
+            if (Files.size(path) > maxFileSize.toBytes()) {
+                return ImportEntry.failed(name, "File is larger than " + maxFileSize);
+            }
+            try (InputStream in = Files.newInputStream(path)) {
+                return readEntry(name, in);
+            }
+        }
+        return null;
+    }
+
+    private ImportEntry readEntry(String name, InputStream in) throws IOException {
+        // Read one byte past the limit so oversized entries are detected without buffering them
+        long limit = maxFileSize.toBytes();
+        byte[] content = in.readNBytes((int) Math.min(Integer.MAX_VALUE - 8, limit + 1));
+        if (content.length > limit) {
+            return ImportEntry.failed(name, "File is larger than " + maxFileSize);
+        }
+        return new ImportEntry(name, content, null);
+    }
+
+    private static boolean isIgnored(String name) {
+        String fileName = name.substring(Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\')) + 1);
+        return name.startsWith("__MACOSX/") || fileName.startsWith(".");
+    }
+
+    private static boolean isPdf(String name) {
+        return name.toLowerCase(Locale.ROOT).endsWith(".pdf");
+    }
+
+    private static void discard(Path filePath) {
+        try {
+            Files.deleteIfExists(filePath);
+        } catch (IOException ex) {
+            logger.warn("Could not delete {}", filePath, ex);
+        }
+    }
+
+    @FunctionalInterface
+    private interface EntryReader {
+        // Returns null once the source is exhausted
+        ImportEntry next() throws IOException;
+    }
+
+    private record ImportEntry(String name, byte[] content, String error) {
+
+        static ImportEntry failed(String name, String error) {
+            return new ImportEntry(name, null, error);
+        }
+    }
+
+    private record ParsedEntry(String fileName, ImportedResume resume, boolean newFile) {
+
+        static final ParsedEntry END = new ParsedEntry(null, null, false);
+    }
+
+    private final class ImportRun {
+
+        final Long importedBy;
+        final long startedAt = System.nanoTime();
+        final Semaphore inFlight = new Semaphore(maxInFlight);
+        final BlockingQueue<ParsedEntry> parsed = new LinkedBlockingQueue<>();
+        final AtomicInteger totalFiles = new AtomicInteger();
+        final AtomicInteger imported = new AtomicInteger();
+        final AtomicInteger failed = new AtomicInteger();
+        final AtomicLong totalBytes = new AtomicLong();
+        final Queue<FileFailure> failures = new ConcurrentLinkedQueue<>();
+
+        ImportRun(Long importedBy) {
+            this.importedBy = importedBy;
+        }
+
+        void fail(String fileName, String reason) {
+            if (failed.incrementAndGet() <= MAX_REPORTED_FAILURES) {
+                failures.add(new FileFailure(fileName, reason));
+            }
+        }
+
+        BulkImportResponse toResponse() {
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            return new BulkImportResponse(totalFiles.get(), imported.get(), failed.get(), totalBytes.get(),
+                    elapsedMillis, List.copyOf(failures));
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.jobboard.service;
+
+import com.jobboard.domain.Candidate;
+import com.jobboard.event.CandidateProfileChangedEvent;
+import com.jobboard.matching.CandidateFeatures;
+import com.jobboard.matching.CandidatePool;
+import com.jobboard.matching.SkillIndex;
+import com.jobboard.repository.CandidateRankingRepository;
+import com.jobboard.skill.SkillTaxonomy;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Holds one {@link CandidateFeatures} snapshot per candidate, loaded over JDBC,
+ * together with the inverted {@link SkillIndex} built from the same snapshots.
+ *
+ * The whole pool is loaded on startup (or on first use) and again when the skill
+ * taxonomy changes. After that, candidates whose profile changed are reloaded in
+ * one batch the next time the pool is read, and their postings are updated in
+ * place.
+ */
+@Service
+public class CandidateFeaturesService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CandidateFeaturesService.class);
+
+    @Autowired
+    private CandidateRankingRepository candidateRankingRepository;
+
+    @Autowired
+    private SkillTaxonomyService skillTaxonomyService;
+
+    @Value("${matching.index.load-on-startup}")
+    private boolean loadOnStartup;
+
+    private final Set<Long> changed = ConcurrentHashMap.newKeySet();
+    private volatile PoolState state;
+
+    /**
+     * Cached features for the candidate, or features built from the entity when the
+     * cache has none or holds a stale copy.
+     */
+    public CandidateFeatures getFeatures(Candidate candidate, SkillTaxonomy taxonomy) {
+        PoolState current = state;
+        if (current != null && candidate.getId() != null && !changed.contains(candidate.getId())) {
+            CandidateFeatures cached = current.features.get(candidate.getId());
+            if (cached != null && cached.getTaxonomyVersion() == taxonomy.getVersion()) {
+                return cached;
+            }
+        }
+        return CandidateFeatures.of(candidate, taxonomy);
+    }
+
+    /**
+     * Every candidate's features as of the given taxonomy. Candidates with no
+     * resume skills, positions or degrees are not part of the pool.
+     */
+    public CandidatePool getPool(SkillTaxonomy taxonomy) {
+        return currentState(taxonomy).pool();
+    }
+
+    public SkillIndex getIndex(SkillTaxonomy taxonomy) {
+        return currentState(taxonomy).index;
+    }
+
+    /**
+     * A pool of just the given candidates, for scoring an index shortlist.
+     */
+    public CandidatePool getPool(SkillTaxonomy taxonomy, RoaringBitmap candidateIds) {
+        PoolState current = currentState(taxonomy);
+        long[] ids = new long[candidateIds.getCardinality()];
+        CandidateFeatures[] features = new CandidateFeatures[ids.length];
+        int[] size = new int[1];
+        candidateIds.forEach((int candidateId) -> {
+            CandidateFeatures candidateFeatures = current.features.get((long) candidateId);
+            // Removed since the shortlist was taken
+            if (candidateFeatures != null) {
+                ids[size[0]] = candidateId;
+                features[size[0]] = candidateFeatures;
+                size[0]++;
+            }
+        });
+        return new CandidatePool(taxonomy.getVersion(), Arrays.copyOf(ids, size[0]),
+                Arrays.copyOf(features, size[0]));
+    }
+
+    public void evict(Long candidateId) {
+        changed.add(candidateId);
+    }
+
+    // Evicting after commit keeps a concurrent reader from caching the old rows again
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCandidateProfileChanged(CandidateProfileChangedEvent event) {
+        evict(event.candidateId());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (loadOnStartup) {
+            currentState(skillTaxonomyService.current());
+        }
+    }
+
+    /**
+     * Size of the cached pool and its skill index, for capacity planning.
+     */
+    public Map<String, Object> getStats() {
+        PoolState current = state;
+        if (current == null) {
+            return Map.of("loaded", false);
+        }
+
+        long postings = current.index.getPostingCount();
+        long indexBytes = current.index.getSizeInBytes();
+        return Map.of(
+                "loaded", true,
+                "taxonomyVersion", current.taxonomyVersion,
+                "candidates", current.features.size(),
+                "pendingChanges", changed.size(),
+                "indexedSkills", current.index.getSkillCount(),
+                "postings", postings,
+                "indexBytes", indexBytes,
+                "indexBytesPerPosting", postings > 0 ? (double) indexBytes / postings : 0.0);
+    }
+
+    private PoolState currentState(SkillTaxonomy taxonomy) {
+        PoolState current = state;
+        if (current != null && current.taxonomyVersion == taxonomy.getVersion() && changed.isEmpty()) {
+            return current;
+        }
+        return refresh(taxonomy);
+    }
+
+    private synchronized PoolState refresh(SkillTaxonomy taxonomy) {
+        PoolState current = state;
+        if (current == null || current.taxonomyVersion != taxonomy.getVersion()) {
+            state = load(taxonomy);
+        } else if (!changed.isEmpty()) {
+            List<Long> candidateIds = new ArrayList<>(changed);
+            changed.removeAll(candidateIds);
+            Map<Long, CandidateFeatures> reloaded = candidateRankingRepository.loadFeatures(candidateIds, taxonomy);
+            for (Long candidateId : candidateIds) {
+                CandidateFeatures candidateFeatures = reloaded.get(candidateId);
+                CandidateFeatures previous = candidateFeatures != null
+                        ? current.features.put(candidateId, candidateFeatures)
+                        : current.features.remove(candidateId);
+                current.index.update(candidateId, previous, candidateFeatures);
+            }
+            current.invalidatePool();
+        }
+        return state;
+    }
+
+    private PoolState load(SkillTaxonomy taxonomy) {
+        long startedAt = System.nanoTime();
+        // Changes committed while loading are picked up by the next refresh
+        changed.clear();
+
+        PoolState loaded = new PoolState(taxonomy.getVersion());
+        candidateRankingRepository.loadAllFeatures(taxonomy, (candidateId, candidateFeatures) -> {
+            loaded.features.put(candidateId, candidateFeatures);
+            loaded.index.update(candidateId, null, candidateFeatures);
+        });
+        loaded.index.optimize();
+
+        logger.info("Loaded features for {} candidates in {} ms; skill index holds {} postings in {} KB",
+                loaded.features.size(), (System.nanoTime() - startedAt) / 1_000_000,
+                loaded.index.getPostingCount(), loaded.index.getSizeInBytes() / 1024);
+        return loaded;
+    }
+
+    private static final class PoolState {
+
+        final long taxonomyVersion;
+        final ConcurrentMap<Long, CandidateFeatures> features = new ConcurrentHashMap<>();
+        final SkillIndex index = new SkillIndex();
+        private volatile CandidatePool pool;
+
+        PoolState(long taxonomyVersion) {
+            this.taxonomyVersion = taxonomyVersion;
+        }
+
+        // The array view is only rebuilt when a full scan needs it
+        CandidatePool pool() {
+            CandidatePool current = pool;
+            if (current == null) {
+                synchronized (this) {
+                    current = pool;
+                    if (current == null) {
+                        current = snapshot();
+                        pool = current;
+                    }
+                }
+            }
+            return current;
+        }
+
+        void invalidatePool() {
+            pool = null;
+        }
+
+        private CandidatePool snapshot() {
+            List<Map.Entry<Long, CandidateFeatures>> entries = new ArrayList<>(features.entrySet());
+            long[] candidateIds = new long[entries.size()];
+            CandidateFeatures[] candidateFeatures = new CandidateFeatures[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                candidateIds[i] = entries.get(i).getKey();
+                candidateFeatures[i] = entries.get(i).getValue();
+            }
+            return new CandidatePool(taxonomyVersion, candidateIds, candidateFeatures);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.jobboard.service;
+
+import com.jobboard.matching.CandidatePool;
+import com.jobboard.matching.CandidateRanker;
+import com.jobboard.matching.JobFeatures;
+import com.jobboard.matching.MatchScorer;
+import com.jobboard.matching.RankedCandidate;
+import com.jobboard.matching.SkillIndex;
+import com.jobboard.skill.SkillTaxonomy;
+import jakarta.annotation.PreDestroy;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Ranks the entire candidate pool for a job, whether or not candidates applied.
+ *
+ * Candidates are first narrowed through the skill index: those holding every
+ * required skill, then those holding any of the job's skills. A shortlist is
+ * only trusted when its K-th best score beats the highest score anyone left out
+ * could reach, so the result is always the exact top K; otherwise the next wider
+ * set is scored, and finally the whole pool.
+ *
+ * Scoring runs on a dedicated fork/join pool so a large ranking never starves
+ * the common pool used by parallel streams elsewhere.
+ */
+@Service
+public class CandidateRankingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CandidateRankingService.class);
+
+    @Autowired
+    private CandidateFeaturesService candidateFeaturesService;
+
+    private final ForkJoinPool rankingPool;
+
+    public CandidateRankingService(@Value("${matching.ranking.parallelism}") int parallelism) {
+        this.rankingPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * The best {@code limit} candidates for a job compiled against the given taxonomy.
+     */
+    public List<RankedCandidate> rankCandidates(JobFeatures jobFeatures, SkillTaxonomy taxonomy, int limit,
+            int currentEpochMonth) {
+        long startedAt = System.nanoTime();
+        SkillIndex index = candidateFeaturesService.getIndex(taxonomy);
+
+        if (jobFeatures.getRequiredSkillCount() > 0) {
+            List<RankedCandidate> ranked = rankShortlist(index.allOf(jobFeatures.requiredSkillIds()), jobFeatures,
+                    taxonomy, limit, currentEpochMonth, MatchScorer.maxScoreMissingRequiredSkill(jobFeatures));
+            if (ranked != null) {
+                logger.debug("Ranked candidates with all required skills in {} ms", elapsedMillis(startedAt));
+                return ranked;
+            }
+        }
+
+        if (jobFeatures.getSkillCount() > 0) {
+            List<RankedCandidate> ranked = rankShortlist(index.anyOf(jobFeatures.skillIds()), jobFeatures,
+                    taxonomy, limit, currentEpochMonth, MatchScorer.maxScoreWithoutJobSkills(jobFeatures));
+            if (ranked != null) {
+                logger.debug("Ranked candidates with any job skill in {} ms", elapsedMillis(startedAt));
+                return ranked;
+            }
+        }
+
+        CandidatePool pool = candidateFeaturesService.getPool(taxonomy);
+        List<RankedCandidate> ranked = CandidateRanker.topK(pool, jobFeatures, limit, currentEpochMonth,
+                rankingPool);
+        logger.debug("Ranked all {} candidates in {} ms", pool.size(), elapsedMillis(startedAt));
+        return ranked;
+    }
+
+    /**
+     * Top K of the shortlist, or null when a candidate outside it, scoring at most
+     * {@code outsideMaxScore}, could still belong in the result.
+     */
+    private List<RankedCandidate> rankShortlist(RoaringBitmap shortlist, JobFeatures jobFeatures,
+            SkillTaxonomy taxonomy, int limit, int currentEpochMonth, double outsideMaxScore) {
+        if (shortlist.getCardinality() < limit) {
+            return null;
+        }
+
+        CandidatePool pool = candidateFeaturesService.getPool(taxonomy, shortlist);
+        List<RankedCandidate> ranked = CandidateRanker.topK(pool, jobFeatures, limit, currentEpochMonth,
+                rankingPool);
+        if (ranked.size() < limit || ranked.get(ranked.size() - 1).totalScore() <= outsideMaxScore) {
+            return null;
+        }
+        return ranked;
+    }
+
+    private static long elapsedMillis(long startedAt) {
+        return (System.nanoTime() - startedAt) / 1_000_000;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rankingPool.shutdownNow();
+    }
+}
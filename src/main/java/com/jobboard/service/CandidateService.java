@@ -6,26 +6,28 @@ import com.jobboard.dto.candidate.*;
 import com.jobboard.dto.job.JobResponse;
 import com.jobboard.dto.user.UserResponse;
 import com.jobboard.exception.BadRequestException;
+import com.jobboard.event.CandidateProfileChangedEvent;
+import com.jobboard.event.ResumeUploadedEvent;
 import com.jobboard.exception.ResourceNotFoundException;
+import com.jobboard.exception.TooManyRequestsException;
+import com.jobboard.matching.RankedJob;
+import com.jobboard.semantic.Neighbor;
 import com.jobboard.repository.*;
 
-import org.apache.tika.exception.TikaException;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -59,8 +61,23 @@ public class CandidateService {
     @Autowired
     private MatchingService matchingService;
 
-    @Value("${file.upload.dir}")
-    private String uploadDir;
+    @Autowired
+    private JobRecommendationService jobRecommendationService;
+
+    @Autowired
+    private SemanticMatchingService semanticMatchingService;
+
+    @Autowired
+    private ResumeIngestionPipeline resumeIngestionPipeline;
+
+    @Autowired
+    private ResumeStore resumeStore;
+
+    @Autowired
+    private ImportedResumeRepository importedResumeRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
     public CandidateProfileResponse getProfile(Long userId) {
         Candidate candidate = candidateRepository.findByUserId(userId)
@@ -83,7 +100,7 @@ public class CandidateService {
         return convertToCandidateProfileResponse(savedCandidate);
     }
 
-    public Resume uploadResume(Long userId, MultipartFile file) throws IOException, TikaException {
+    public ResumeStatusResponse uploadResume(Long userId, MultipartFile file) throws IOException {
         Candidate candidate = candidateRepository.findByUserId(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Candidate profile not found"));
 
@@ -97,37 +114,99 @@ public class CandidateService {
             throw new BadRequestException("Only PDF files are allowed");
         }
 
-        // Create upload directory if it doesn't exist
-        Path uploadPath = Paths.get(uploadDir);
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
+        ResumeStore.StoredFile storedFile = resumeStore.store(file);
+
+        // The same file sent again as the current resume is answered with the existing one
+        Resume latest = resumeRepository.findFirstByCandidateIdOrderByCreatedAtDesc(candidate.getId()).orElse(null);
+        if (latest != null && storedFile.contentHash().equals(latest.getContentHash())
+                && latest.getStatus() != Resume.ResumeStatus.FAILED) {
+            resumeStore.recordParse(true);
+            return convertToResumeStatusResponse(latest);
+        }
+
+        Resume resume = new Resume(candidate, storedFile.path().toString(), file.getOriginalFilename());
+        resume.setContentHash(storedFile.contentHash());
+
+        // Someone already uploaded this file, so take its text and skills instead of parsing again
+        Resume parsed = resumeRepository.findFirstByContentHashAndStatusOrderByCreatedAtDesc(
+                storedFile.contentHash(), Resume.ResumeStatus.PARSED).orElse(null);
+        if (parsed != null) {
+            copyParseResults(parsed, resume);
+            Resume savedResume = resumeRepository.save(resume);
+            resumeStore.recordParse(true);
+            eventPublisher.publishEvent(new CandidateProfileChangedEvent(candidate.getId()));
+            return convertToResumeStatusResponse(savedResume);
+        }
+
+        // Refuse before queueing when the parsers are already backed up; the stored file is reused on retry
+        if (resumeIngestionPipeline.isSaturated()) {
+            throw new TooManyRequestsException("Too many resumes are being processed, please try again shortly");
         }
 
-        // Generate unique filename
-        String originalFilename = file.getOriginalFilename();
-        String fileExtension = originalFilename.substring(originalFilename.lastIndexOf("."));
-        String uniqueFilename = UUID.randomUUID().toString() + fileExtension;
-        Path filePath = uploadPath.resolve(uniqueFilename);
+        // Parsing happens in the background once this commits
+        resume.setStatus(Resume.ResumeStatus.PENDING);
 
-        // Save file
-        Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+        Resume savedResume = resumeRepository.save(resume);
+        resumeStore.recordParse(false);
+        eventPublisher.publishEvent(new ResumeUploadedEvent(savedResume.getId(), storedFile.path()));
 
-        // Parse resume content
-        String parsedText = resumeParsingService.extractTextFromFile(file);
-        Map<String, Object> structuredData = resumeParsingService.extractStructuredData(parsedText);
+        return convertToResumeStatusResponse(savedResume);
+    }
 
-        // Create resume record
-        Resume resume = new Resume(candidate, filePath.toString(), originalFilename);
-        resume.setParsedText(parsedText);
-        resume.setSkillsJson(structuredData);
+    @Transactional(readOnly = true)
+    public ResumeStatusResponse getResumeStatus(Long userId, Long resumeId) {
+        Resume resume = resumeRepository.findById(resumeId)
+                .filter(r -> r.getCandidate().getUser().getId().equals(userId))
+                .orElseThrow(() -> new ResourceNotFoundException("Resume not found"));
+
+        return convertToResumeStatusResponse(resume);
+    }
+
+    /**
+     * Bulk-imported resumes that name this candidate's account email and are
+     * waiting for them to claim or decline.
+     */
+    @Transactional(readOnly = true)
+    public List<ImportedResumeResponse> getImportedResumes(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        return importedResumeRepository.findByEmailOrderByCreatedAtDesc(importEmail(user)).stream()
+                .map(this::convertToImportedResumeResponse)
+                .toList();
+    }
+
+    /**
+     * Adds an imported resume to the candidate's profile. This is the only way an
+     * import reaches a profile, so nobody else can change a candidate's skills
+     * and match scores by putting their email into a PDF.
+     */
+    public ResumeStatusResponse claimImportedResume(Long userId, Long importId) {
+        Candidate candidate = candidateRepository.findByUserId(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Candidate profile not found"));
+        ImportedResume imported = importedResumeRepository.findByIdAndEmail(importId, importEmail(candidate.getUser()))
+                .orElseThrow(() -> new ResourceNotFoundException("Imported resume not found"));
+
+        Resume resume = new Resume(candidate, imported.getFilePath(), imported.getFileName());
+        resume.setContentHash(imported.getContentHash());
+        resume.setParsedText(imported.getParsedText());
+        resume.setSkillsJson(imported.getSkillsJson());
+        resume.setResumeSkills(resumeParsingService.extractSkills(resume, imported.getParsedText()));
+        resume.setStatus(Resume.ResumeStatus.PARSED);
 
         Resume savedResume = resumeRepository.save(resume);
+        importedResumeRepository.delete(imported);
+        eventPublisher.publishEvent(new CandidateProfileChangedEvent(candidate.getId()));
+        return convertToResumeStatusResponse(savedResume);
+    }
 
-        // Extract and save skills
-        List<ResumeSkill> skills = resumeParsingService.extractSkills(savedResume, parsedText);
-        savedResume.setResumeSkills(skills);
+    public void declineImportedResume(Long userId, Long importId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        ImportedResume imported = importedResumeRepository.findByIdAndEmail(importId, importEmail(user))
+                .orElseThrow(() -> new ResourceNotFoundException("Imported resume not found"));
 
-        return savedResume;
+        importedResumeRepository.delete(imported);
     }
 
     public Resume getCurrentResume(Long userId) {
@@ -149,7 +228,9 @@ public class CandidateService {
         education.setEndDate(request.getEndDate());
         education.setGpa(request.getGpa());
 
-        return educationRepository.save(education);
+        Education savedEducation = educationRepository.save(education);
+        eventPublisher.publishEvent(new CandidateProfileChangedEvent(candidate.getId()));
+        return savedEducation;
     }
 
     public Experience addExperience(Long userId, ExperienceRequest request) {
@@ -162,29 +243,40 @@ public class CandidateService {
         experience.setEndDate(request.getEndDate());
         experience.setIsCurrent(request.getIsCurrent());
 
-        return experienceRepository.save(experience);
+        Experience savedExperience = experienceRepository.save(experience);
+        eventPublisher.publishEvent(new CandidateProfileChangedEvent(candidate.getId()));
+        return savedExperience;
     }
 
-    public List<JobResponse> getRecommendedJobs(Long userId, Pageable pageable) {
+    /**
+     * One page of the candidate's ranked recommendations. Pages are cut from the
+     * same memoized ranking, so they do not overlap while the profile and listed
+     * jobs stay the same; the ranking itself decides the order.
+     */
+    public Page<JobResponse> getRecommendedJobs(Long userId, RecommendationMode mode, Pageable pageable) {
         Candidate candidate = candidateRepository.findByUserId(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Candidate profile not found"));
 
-        // Get candidate skills
-        List<String> candidateSkills = candidate.getResumes().stream()
-                .flatMap(resume -> resume.getResumeSkills().stream())
-                .map(ResumeSkill::getSkillName)
-                .collect(Collectors.toList());
-
-        if (candidateSkills.isEmpty()) {
-            return List.of();
+        List<Long> ranked = mode == RecommendationMode.SEMANTIC
+                ? semanticMatchingService.findSimilarJobs(candidate).stream().map(Neighbor::id).toList()
+                : jobRecommendationService.getRecommendations(candidate).stream().map(RankedJob::jobId).toList();
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        List<Long> page = ranked.subList(from, to);
+        if (page.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ranked.size());
         }
 
-        // Find jobs with matching skills
-        List<Job> matchingJobs = jobRepository.findJobsBySkills(candidateSkills);
-
-        return matchingJobs.stream()
+        // Only the jobs on this page are loaded; one delisted since ranking is skipped
+        Map<Long, Job> jobs = jobRepository.findAllByIdWithSkills(page)
+                .stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        List<JobResponse> content = page.stream()
+                .map(jobs::get)
+                .filter(job -> job != null && job.getStatus() == Job.JobStatus.ACTIVE)
                 .map(this::convertToJobResponse)
                 .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, ranked.size());
     }
 
     public Application applyForJob(Long userId, Long jobId, ApplicationRequest request) {
@@ -232,6 +324,42 @@ public class CandidateService {
                 candidate.getWebsite());
     }
 
+    private void copyParseResults(Resume source, Resume target) {
+        target.setParsedText(source.getParsedText());
+        target.setSkillsJson(source.getSkillsJson());
+        for (ResumeSkill sourceSkill : source.getResumeSkills()) {
+            ResumeSkill skill = new ResumeSkill(target, sourceSkill.getSkillName());
+            skill.setSkillId(sourceSkill.getSkillId());
+            skill.setProficiency(sourceSkill.getProficiency());
+            skill.setYearsExp(sourceSkill.getYearsExp());
+            target.getResumeSkills().add(skill);
+        }
+        target.setStatus(Resume.ResumeStatus.PARSED);
+    }
+
+    // Imports are keyed by the lowercased email read from the document
+    private static String importEmail(User user) {
+        return user.getEmail().toLowerCase(Locale.ROOT);
+    }
+
+    private ImportedResumeResponse convertToImportedResumeResponse(ImportedResume imported) {
+        return new ImportedResumeResponse(
+                imported.getId(),
+                imported.getFileName(),
+                imported.getEmail(),
+                imported.getCreatedAt());
+    }
+
+    private ResumeStatusResponse convertToResumeStatusResponse(Resume resume) {
+        return new ResumeStatusResponse(
+                resume.getId(),
+                resume.getFileName(),
+                resume.getStatus(),
+                resume.getStatusMessage(),
+                resume.getCreatedAt(),
+                resume.getUpdatedAt());
+    }
+
     private UserResponse convertToUserResponse(User user) {
         return new UserResponse(
                 user.getId(),
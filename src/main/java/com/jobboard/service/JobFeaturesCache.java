@@ -0,0 +1,94 @@
+package com.jobboard.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.jobboard.domain.Job;
+import com.jobboard.event.JobChangedEvent;
+import com.jobboard.matching.JobFeatures;
+import com.jobboard.skill.SkillTaxonomy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compiled {@link JobFeatures} by job id, so scoring a job again does not rebuild
+ * its skill arrays and bitsets from the entity each time.
+ *
+ * An entry is only used for the same taxonomy version and the same
+ * {@link Job#getUpdatedAt()} as the job asked about; anything else is compiled
+ * again and replaces it. That covers a reader holding a job loaded before a
+ * change, which could otherwise cache the old features after the
+ * {@link JobChangedEvent} has dropped them.
+ */
+@Service
+public class JobFeaturesCache {
+
+    private final Cache<Long, Entry> features;
+
+    private final AtomicLong staleEntries = new AtomicLong();
+
+    public JobFeaturesCache(@Value("${matching.job-features.cache-size}") long cacheSize) {
+        this.features = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .recordStats()
+                .build();
+    }
+
+    public JobFeatures get(Job job, SkillTaxonomy taxonomy) {
+        // Not saved yet, so there is nothing to key on or invalidate
+        if (job.getId() == null) {
+            return JobFeatures.of(job, taxonomy);
+        }
+
+        Entry entry = features.get(job.getId(), id -> compile(job, taxonomy));
+        if (entry.isFor(job, taxonomy)) {
+            return entry.features();
+        }
+
+        staleEntries.incrementAndGet();
+        Entry fresh = compile(job, taxonomy);
+        features.put(job.getId(), fresh);
+        return fresh.features();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        features.invalidate(event.jobId());
+    }
+
+    /**
+     * Size, hit ratio and how often an entry was found out of date.
+     */
+    public Map<String, Object> getStats() {
+        CacheStats cacheStats = features.stats();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("entries", features.estimatedSize());
+        stats.put("hitRatio", cacheStats.hitRate());
+        stats.put("hits", cacheStats.hitCount());
+        stats.put("misses", cacheStats.missCount());
+        stats.put("staleEntries", staleEntries.get());
+        stats.put("evictions", cacheStats.evictionCount());
+        stats.put("averageLoadMillis", cacheStats.averageLoadPenalty() / 1_000_000.0);
+        return stats;
+    }
+
+    private static Entry compile(Job job, SkillTaxonomy taxonomy) {
+        return new Entry(job.getUpdatedAt(), JobFeatures.of(job, taxonomy));
+    }
+
+    private record Entry(LocalDateTime updatedAt, JobFeatures features) {
+
+        boolean isFor(Job job, SkillTaxonomy taxonomy) {
+            return features.getTaxonomyVersion() == taxonomy.getVersion()
+                    && Objects.equals(updatedAt, job.getUpdatedAt());
+        }
+    }
+}
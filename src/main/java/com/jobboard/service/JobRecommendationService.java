@@ -0,0 +1,199 @@
+package com.jobboard.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.jobboard.domain.Candidate;
+import com.jobboard.domain.Job;
+import com.jobboard.event.CandidateProfileChangedEvent;
+import com.jobboard.event.JobChangedEvent;
+import com.jobboard.matching.CandidateFeatures;
+import com.jobboard.matching.JobFeatures;
+import com.jobboard.matching.JobPool;
+import com.jobboard.matching.JobRanker;
+import com.jobboard.matching.RankedJob;
+import com.jobboard.repository.JobRepository;
+import com.jobboard.skill.SkillTaxonomy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Recommends listed jobs to candidates, best match first.
+ *
+ * Every listed job's {@link JobFeatures} are held in memory and compiled once,
+ * so a recommendation scores the candidate against all of them in one scan and
+ * keeps only the best {@code matching.recommendations.max-results}. Changed
+ * jobs are reloaded in one batch the next time the catalog is read.
+ *
+ * Each candidate's ranking is memoized and served page by page, so paging
+ * through it is stable and costs one scan. An entry is dropped when the
+ * candidate's profile changes and is ignored once the catalog it was ranked
+ * against has changed.
+ */
+@Service
+public class JobRecommendationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobRecommendationService.class);
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private CandidateFeaturesService candidateFeaturesService;
+
+    @Autowired
+    private SkillTaxonomyService skillTaxonomyService;
+
+    private final int maxResults;
+    private final Cache<Long, Recommendations> recommendations;
+
+    private final Set<Long> changedJobs = ConcurrentHashMap.newKeySet();
+    private volatile Catalog catalog;
+
+    public JobRecommendationService(@Value("${matching.recommendations.max-results}") int maxResults,
+                                    @Value("${matching.recommendations.cache-size}") long cacheSize,
+                                    @Value("${matching.recommendations.expire-after-write}") Duration expireAfterWrite) {
+        this.maxResults = maxResults;
+        this.recommendations = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * The candidate's best listed jobs, best first, at most
+     * {@code matching.recommendations.max-results} of them.
+     */
+    public List<RankedJob> getRecommendations(Candidate candidate) {
+        SkillTaxonomy taxonomy = skillTaxonomyService.current();
+        Catalog current = currentCatalog(taxonomy);
+
+        Recommendations cached = recommendations.getIfPresent(candidate.getId());
+        if (cached != null && cached.catalogVersion() == current.version) {
+            return cached.jobs();
+        }
+
+        // Loaded through the cache so a profile change committed meanwhile drops the result
+        return recommendations.asMap().compute(candidate.getId(), (candidateId, previous) -> {
+            if (previous != null && previous.catalogVersion() == current.version) {
+                return previous;
+            }
+            CandidateFeatures features = candidateFeaturesService.getFeatures(candidate, taxonomy);
+            List<RankedJob> ranked = JobRanker.topK(features, current.pool, maxResults,
+                    CandidateFeatures.epochMonth(LocalDate.now()));
+            return new Recommendations(current.version, ranked);
+        }).jobs();
+    }
+
+    public int getMaxResults() {
+        return maxResults;
+    }
+
+    // After commit, so the next ranking reads the new profile
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCandidateProfileChanged(CandidateProfileChangedEvent event) {
+        recommendations.invalidate(event.candidateId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        // A job that is not and was not listed cannot appear in any recommendation
+        if (event.wasListed() || event.listed()) {
+            changedJobs.add(event.jobId());
+        }
+    }
+
+    /**
+     * Size of the job catalog and hit ratio of the per-candidate rankings.
+     */
+    public Map<String, Object> getStats() {
+        Catalog current = catalog;
+        CacheStats cacheStats = recommendations.stats();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("loaded", current != null);
+        stats.put("catalogVersion", current != null ? current.version : 0L);
+        stats.put("jobs", current != null ? current.pool.size() : 0);
+        stats.put("pendingJobChanges", changedJobs.size());
+        stats.put("maxResults", maxResults);
+        stats.put("cachedCandidates", recommendations.estimatedSize());
+        stats.put("hitRatio", cacheStats.hitRate());
+        stats.put("evictions", cacheStats.evictionCount());
+        return stats;
+    }
+
+    private Catalog currentCatalog(SkillTaxonomy taxonomy) {
+        Catalog current = catalog;
+        if (current != null && current.pool.getTaxonomyVersion() == taxonomy.getVersion() && changedJobs.isEmpty()) {
+            return current;
+        }
+        return refresh(taxonomy);
+    }
+
+    private synchronized Catalog refresh(SkillTaxonomy taxonomy) {
+        Catalog current = catalog;
+        long nextVersion = current != null ? current.version + 1 : 1;
+        if (current == null || current.pool.getTaxonomyVersion() != taxonomy.getVersion()) {
+            long startedAt = System.nanoTime();
+            // Changes committed while loading are picked up by the next refresh
+            changedJobs.clear();
+            Map<Long, JobFeatures> features = new HashMap<>();
+            for (Job job : jobRepository.findAllActiveWithSkills()) {
+                features.put(job.getId(), JobFeatures.of(job, taxonomy));
+            }
+            catalog = new Catalog(nextVersion, features, taxonomy.getVersion());
+            logger.info("Loaded features for {} listed jobs in {} ms", features.size(),
+                    (System.nanoTime() - startedAt) / 1_000_000);
+        } else if (!changedJobs.isEmpty()) {
+            List<Long> jobIds = new ArrayList<>(changedJobs);
+            changedJobs.removeAll(jobIds);
+            Map<Long, JobFeatures> features = new HashMap<>(current.features);
+            jobIds.forEach(features::remove);
+            for (Job job : jobRepository.findAllByIdWithSkills(jobIds)) {
+                if (job.getStatus() == Job.JobStatus.ACTIVE) {
+                    features.put(job.getId(), JobFeatures.of(job, taxonomy));
+                }
+            }
+            catalog = new Catalog(nextVersion, features, taxonomy.getVersion());
+        }
+        return catalog;
+    }
+
+    private record Recommendations(long catalogVersion, List<RankedJob> jobs) {
+    }
+
+    /**
+     * Listed jobs' features by id, plus the array view scanned per candidate.
+     * Replaced, never modified, so a ranking in progress keeps a consistent view.
+     */
+    private static final class Catalog {
+
+        final long version;
+        final Map<Long, JobFeatures> features;
+        final JobPool pool;
+
+        Catalog(long version, Map<Long, JobFeatures> features, long taxonomyVersion) {
+            this.version = version;
+            this.features = features;
+            long[] jobIds = new long[features.size()];
+            JobFeatures[] jobFeatures = new JobFeatures[features.size()];
+            int next = 0;
+            for (Map.Entry<Long, JobFeatures> entry : features.entrySet()) {
+                jobIds[next] = entry.getKey();
+                jobFeatures[next] = entry.getValue();
+                next++;
+            }
+            this.pool = new JobPool(taxonomyVersion, jobIds, jobFeatures);
+        }
+    }
+}
@@ -4,26 +4,53 @@ import com.jobboard.domain.*;
 import com.jobboard.dto.application.ApplicationResponse;
 import com.jobboard.dto.job.*;
 import com.jobboard.dto.user.UserResponse;
+import com.jobboard.event.JobChangedEvent;
 import com.jobboard.exception.BadRequestException;
 import com.jobboard.exception.ResourceNotFoundException;
+import com.jobboard.matching.CandidateFeatures;
+import com.jobboard.matching.JobFeatures;
+import com.jobboard.matching.MatchScorer;
+import com.jobboard.matching.RankedCandidate;
+import com.jobboard.matching.ScoreDetails;
+import com.jobboard.matching.ScoringProfile;
 import com.jobboard.repository.*;
+import com.jobboard.skill.SkillTaxonomy;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class JobService {
 
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+
     @Autowired
     private JobRepository jobRepository;
 
+    @Autowired
+    private JobSearchRepository jobSearchRepository;
+
+    @Autowired
+    private PublicJobCache publicJobCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Autowired
     private RecruiterRepository recruiterRepository;
 
@@ -33,9 +60,27 @@ public class JobService {
     @Autowired
     private MatchScoreRepository matchScoreRepository;
 
+    @Autowired
+    private MatchScoreWriteRepository matchScoreWriteRepository;
+
     @Autowired
     private MatchingService matchingService;
 
+    @Autowired
+    private SkillTaxonomyService skillTaxonomyService;
+
+    @Autowired
+    private CandidateRankingService candidateRankingService;
+
+    @Autowired
+    private CandidateRankingRepository candidateRankingRepository;
+
+    @Autowired
+    private JobFeaturesCache jobFeaturesCache;
+
+    @Value("${matching.ranking.max-results}")
+    private int maxRankingResults;
+
     public JobResponse createJob(Long userId, JobRequest request) {
         Recruiter recruiter = recruiterRepository.findByUserId(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Recruiter profile not found"));
@@ -48,15 +93,19 @@ public class JobService {
         job.setJobType(request.getJobType());
         job.setRemote(request.getRemote());
         job.setExpiresAt(request.getExpiresAt());
+        applyScoringProfile(job, request.getScoringProfile());
+        JobFeatures.deriveRequirements(job);
 
         Job savedJob = jobRepository.save(job);
 
         // Add job skills
         if (request.getSkills() != null && !request.getSkills().isEmpty()) {
+            SkillTaxonomy taxonomy = skillTaxonomyService.current();
             List<JobSkill> jobSkills = request.getSkills().stream()
                     .map(skillRequest -> {
                         JobSkill jobSkill = new JobSkill(savedJob, skillRequest.getSkillName(),
                                 skillRequest.getRequired());
+                        jobSkill.setSkillId(resolveSkillId(taxonomy, skillRequest.getSkillName()));
                         jobSkill.setMinYears(skillRequest.getMinYears());
                         jobSkill.setWeight(skillRequest.getWeight());
                         return jobSkill;
@@ -66,7 +115,8 @@ public class JobService {
             savedJob.setJobSkills(jobSkills);
         }
 
-        return convertToJobResponse(savedJob);
+        eventPublisher.publishEvent(new JobChangedEvent(savedJob.getId(), false, isListed(savedJob)));
+        return convertToRecruiterJobResponse(savedJob);
     }
 
     public Page<JobResponse> getRecruiterJobs(Long userId, Pageable pageable) {
@@ -74,7 +124,7 @@ public class JobService {
                 .orElseThrow(() -> new ResourceNotFoundException("Recruiter profile not found"));
 
         Page<Job> jobs = jobRepository.findByRecruiterId(recruiter.getId(), pageable);
-        return jobs.map(this::convertToJobResponse);
+        return jobs.map(this::convertToRecruiterJobResponse);
     }
 
     public JobResponse getJob(Long jobId) {
@@ -92,6 +142,7 @@ public class JobService {
         if (!job.getRecruiter().getUser().getId().equals(userId)) {
             throw new BadRequestException("You can only update your own job postings");
         }
+        boolean wasListed = isListed(job);
 
         job.setTitle(request.getTitle());
         job.setDescription(request.getDescription());
@@ -102,13 +153,20 @@ public class JobService {
         job.setJobType(request.getJobType());
         job.setRemote(request.getRemote());
         job.setExpiresAt(request.getExpiresAt());
+        // Left out keeps the current profile, like skills; changing it rescores through JobChangedEvent
+        if (request.getScoringProfile() != null) {
+            applyScoringProfile(job, request.getScoringProfile());
+        }
+        JobFeatures.deriveRequirements(job);
 
         // Update job skills
         if (request.getSkills() != null) {
             job.getJobSkills().clear();
+            SkillTaxonomy taxonomy = skillTaxonomyService.current();
             List<JobSkill> jobSkills = request.getSkills().stream()
                     .map(skillRequest -> {
                         JobSkill jobSkill = new JobSkill(job, skillRequest.getSkillName(), skillRequest.getRequired());
+                        jobSkill.setSkillId(resolveSkillId(taxonomy, skillRequest.getSkillName()));
                         jobSkill.setMinYears(skillRequest.getMinYears());
                         jobSkill.setWeight(skillRequest.getWeight());
                         return jobSkill;
@@ -118,8 +176,11 @@ public class JobService {
             job.setJobSkills(jobSkills);
         }
 
+        // Set here rather than by auditing so a skills-only change still moves it; cached features key on it
+        job.setUpdatedAt(LocalDateTime.now());
         Job savedJob = jobRepository.save(job);
-        return convertToJobResponse(savedJob);
+        eventPublisher.publishEvent(new JobChangedEvent(savedJob.getId(), wasListed, isListed(savedJob)));
+        return convertToRecruiterJobResponse(savedJob);
     }
 
     public void deleteJob(Long userId, Long jobId) {
@@ -132,9 +193,16 @@ public class JobService {
         }
 
         jobRepository.delete(job);
+        eventPublisher.publishEvent(new JobChangedEvent(jobId, isListed(job), false));
     }
 
-    public List<CandidateMatchResponse> getRankedCandidates(Long userId, Long jobId) {
+    /**
+     * One page of stored match scores for the job, best first. Pages are keyed by
+     * the last (score, candidate id) returned rather than an offset, so deep pages
+     * cost the same as the first and stay stable while scores are added.
+     */
+    @Transactional(readOnly = true)
+    public CandidateMatchPage getRankedCandidates(Long userId, Long jobId, String cursor, int size) {
         Job job = jobRepository.findById(jobId)
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
 
@@ -143,11 +211,110 @@ public class JobService {
             throw new BadRequestException("You can only view candidates for your own job postings");
         }
 
-        List<MatchScore> matchScores = matchScoreRepository.findByJobIdWithCandidateDetails(jobId);
+        if (size < 1 || size > maxRankingResults) {
+            throw new BadRequestException("Size must be between 1 and " + maxRankingResults);
+        }
+
+        // One extra row tells whether another page follows
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<CandidateMatchResponse> candidates;
+        if (cursor == null || cursor.isBlank()) {
+            candidates = matchScoreRepository.findRankedCandidates(jobId, limit);
+        } else {
+            BigDecimal afterScore;
+            Long afterCandidateId;
+            try {
+                int separator = cursor.indexOf('_');
+                afterScore = new BigDecimal(cursor.substring(0, separator));
+                afterCandidateId = Long.valueOf(cursor.substring(separator + 1));
+            } catch (NumberFormatException | IndexOutOfBoundsException ex) {
+                throw new BadRequestException("Invalid cursor: " + cursor);
+            }
+            candidates = matchScoreRepository.findRankedCandidatesAfter(jobId, afterScore, afterCandidateId, limit);
+        }
+
+        String nextCursor = null;
+        if (candidates.size() > size) {
+            candidates = candidates.subList(0, size);
+            CandidateMatchResponse last = candidates.get(size - 1);
+            nextCursor = last.getTotalScore().toPlainString() + "_" + last.getCandidateId();
+        }
+
+        return new CandidateMatchPage(new ArrayList<>(candidates), nextCursor);
+    }
+
+    /**
+     * Best matches for the job across every candidate, including those who have
+     * not applied. Scores are computed on the fly and not stored.
+     */
+    @Transactional(readOnly = true)
+    public List<CandidateMatchResponse> getTopCandidates(Long userId, Long jobId, int limit) {
+        Job job = jobRepository.findByIdWithSkills(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
+
+        // Verify ownership
+        if (!job.getRecruiter().getUser().getId().equals(userId)) {
+            throw new BadRequestException("You can only view candidates for your own job postings");
+        }
+
+        if (limit < 1 || limit > maxRankingResults) {
+            throw new BadRequestException("Limit must be between 1 and " + maxRankingResults);
+        }
+
+        SkillTaxonomy taxonomy = skillTaxonomyService.current();
+        JobFeatures jobFeatures = jobFeaturesCache.get(job, taxonomy);
+        int currentMonth = CandidateFeatures.epochMonth(LocalDate.now());
+        LocalDateTime calculatedAt = LocalDateTime.now();
+
+        List<RankedCandidate> ranked = candidateRankingService.rankCandidates(jobFeatures, taxonomy, limit,
+                currentMonth);
+        Map<Long, CandidateMatchResponse> summaries = candidateRankingRepository.findMatchSummaries(jobId,
+                ranked.stream().map(RankedCandidate::candidateId).collect(Collectors.toList()));
+
+        List<CandidateMatchResponse> candidates = new ArrayList<>(ranked.size());
+        for (RankedCandidate rankedCandidate : ranked) {
+            // Candidates deleted since the pool was loaded have no summary
+            CandidateMatchResponse response = summaries.get(rankedCandidate.candidateId());
+            if (response == null) {
+                continue;
+            }
+            CandidateFeatures features = rankedCandidate.features();
+            response.setTotalScore(toScore(rankedCandidate.totalScore()));
+            response.setSkillScore(toScore(MatchScorer.skillScore(features, jobFeatures)));
+            response.setExperienceScore(toScore(MatchScorer.experienceScore(features, jobFeatures, currentMonth)));
+            response.setEducationScore(toScore(MatchScorer.educationScore(features, jobFeatures)));
+            response.setCalculatedAt(calculatedAt);
+            candidates.add(response);
+        }
+        return candidates;
+    }
+
+    /**
+     * How a candidate's stored score for the job was made up, rendered from its
+     * compact details. A row stored without details, or for a different set of
+     * job skills, is scored again from the candidate's current profile.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getScoreBreakdown(Long userId, Long jobId, Long candidateId) {
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
+
+        // Verify ownership
+        if (!job.getRecruiter().getUser().getId().equals(userId)) {
+            throw new BadRequestException("You can only view candidates for your own job postings");
+        }
 
-        return matchScores.stream()
-                .map(this::convertToCandidateMatchResponse)
-                .collect(Collectors.toList());
+        ScoreDetails details = matchScoreWriteRepository.findDetails(candidateId, jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Match score not found"))
+                .details();
+        SkillTaxonomy taxonomy = skillTaxonomyService.current();
+        JobFeatures jobFeatures = jobFeaturesCache.get(job, taxonomy);
+        if (details == null || !details.isFor(jobFeatures)) {
+            CandidateFeatures candidateFeatures = candidateRankingRepository.loadFeatures(List.of(candidateId), taxonomy)
+                    .getOrDefault(candidateId, CandidateFeatures.builder(taxonomy).build());
+            details = ScoreDetails.of(candidateFeatures, jobFeatures, CandidateFeatures.epochMonth(LocalDate.now()));
+        }
+        return matchingService.describe(job, details);
     }
 
     public Page<ApplicationResponse> getJobApplications(Long userId, Long jobId, Pageable pageable) {
@@ -176,21 +343,128 @@ public class JobService {
         return applicationRepository.save(application);
     }
 
+    @Transactional(readOnly = true)
     public Page<JobResponse> searchJobs(String title, String location, Job.JobType jobType,
             Boolean remote, BigDecimal salaryMin, Pageable pageable) {
-        Page<Job> jobs = jobRepository.searchJobs(title, location, jobType, remote, salaryMin, pageable);
-        return jobs.map(this::convertToJobResponse);
+        String normalizedTitle = PublicJobCache.normalize(title);
+        String normalizedLocation = PublicJobCache.normalize(location);
+        PublicJobCache.SearchKey key = new PublicJobCache.SearchKey(null, normalizedTitle, normalizedLocation,
+                jobType, remote, salaryMin,
+                pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + pageable.getSort());
+
+        return publicJobCache.getSearch(key, () -> jobRepository
+                .searchJobs(normalizedTitle, normalizedLocation, jobType, remote, salaryMin, pageable)
+                .map(this::convertToJobResponse));
+    }
+
+    /**
+     * Full-text search over title, description and requirements, best match first.
+     * Pages are keyed by the last (rank, job id) returned rather than an offset.
+     */
+    @Transactional(readOnly = true)
+    public JobSearchPage fullTextSearchJobs(String query, String location, Job.JobType jobType,
+            Boolean remote, BigDecimal salaryMin, String cursor, int size) {
+        String normalizedQuery = PublicJobCache.normalize(query);
+        if (normalizedQuery == null) {
+            throw new BadRequestException("Search query must not be blank");
+        }
+        String normalizedLocation = PublicJobCache.normalize(location);
+        PublicJobCache.SearchKey key = new PublicJobCache.SearchKey(normalizedQuery, null, normalizedLocation,
+                jobType, remote, salaryMin, cursor + ":" + size);
+
+        return publicJobCache.getSearch(key, () -> loadFullTextPage(
+                normalizedQuery, normalizedLocation, jobType, remote, salaryMin, cursor, size));
+    }
+
+    private JobSearchPage loadFullTextPage(String query, String location, Job.JobType jobType,
+            Boolean remote, BigDecimal salaryMin, String cursor, int size) {
+        if (size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new BadRequestException("Size must be between 1 and " + MAX_SEARCH_PAGE_SIZE);
+        }
+
+        Float afterRank = null;
+        Long afterJobId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                int separator = cursor.indexOf('_');
+                afterRank = Float.valueOf(cursor.substring(0, separator));
+                afterJobId = Long.valueOf(cursor.substring(separator + 1));
+            } catch (NumberFormatException | IndexOutOfBoundsException ex) {
+                throw new BadRequestException("Invalid cursor: " + cursor);
+            }
+        }
+
+        // One extra row tells whether another page follows
+        List<JobSearchRepository.Hit> hits = jobSearchRepository.search(
+                query, location, jobType, remote, salaryMin, afterRank, afterJobId, size + 1);
+        if (hits.isEmpty()) {
+            return new JobSearchPage(List.of(), null);
+        }
+
+        String nextCursor = null;
+        if (hits.size() > size) {
+            hits = hits.subList(0, size);
+            JobSearchRepository.Hit last = hits.get(size - 1);
+            nextCursor = last.rank() + "_" + last.jobId();
+        }
+
+        Map<Long, Job> jobs = jobRepository.findAllByIdWithSkills(
+                        hits.stream().map(JobSearchRepository.Hit::jobId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(Job::getId, job -> job));
+
+        List<JobResponse> results = new ArrayList<>();
+        for (JobSearchRepository.Hit hit : hits) {
+            Job job = jobs.get(hit.jobId());
+            // Skip jobs deleted between the two queries
+            if (job != null) {
+                results.add(convertToJobResponse(job));
+            }
+        }
+        return new JobSearchPage(results, nextCursor);
     }
 
+    @Transactional(readOnly = true)
     public JobResponse getPublicJob(Long jobId) {
-        Job job = jobRepository.findByIdWithSkills(jobId)
-                .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
+        return publicJobCache.getJob(jobId, () -> {
+            Job job = jobRepository.findByIdWithSkills(jobId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
+
+            if (job.getStatus() != Job.JobStatus.ACTIVE) {
+                throw new ResourceNotFoundException("Job is not available");
+            }
+
+            return convertToJobResponse(job);
+        });
+    }
+
+    private boolean isListed(Job job) {
+        return job.getStatus() == Job.JobStatus.ACTIVE;
+    }
+
+    private BigDecimal toScore(double score) {
+        return BigDecimal.valueOf(score).setScale(2, RoundingMode.HALF_UP);
+    }
 
-        if (job.getStatus() != Job.JobStatus.ACTIVE) {
-            throw new ResourceNotFoundException("Job is not available");
+    private Integer resolveSkillId(SkillTaxonomy taxonomy, String skillName) {
+        int skillId = taxonomy.idOf(skillName);
+        return skillId != SkillTaxonomy.UNKNOWN ? skillId : null;
+    }
+
+    // Compiled here so a bad profile fails the request instead of the first scoring run
+    private void applyScoringProfile(Job job, ScoringProfile scoringProfile) {
+        try {
+            job.setScoringProfile(scoringProfile);
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Invalid scoring profile: " + ex.getMessage());
         }
+    }
 
-        return convertToJobResponse(job);
+    // Scoring profiles are the recruiter's business and stay out of public and cached responses
+    private JobResponse convertToRecruiterJobResponse(Job job) {
+        JobResponse response = convertToJobResponse(job);
+        response.setScoringProfile(job.getEvaluator().getProfile());
+        return response;
     }
 
     private JobResponse convertToJobResponse(Job job) {
@@ -236,37 +510,4 @@ public class JobService {
         response.setMatchScore(application.getMatchScore());
         return response;
     }
-
-    private CandidateMatchResponse convertToCandidateMatchResponse(MatchScore matchScore) {
-        Candidate candidate = matchScore.getCandidate();
-        User user = candidate.getUser();
-
-        CandidateMatchResponse response = new CandidateMatchResponse();
-        response.setCandidateId(candidate.getId());
-        response.setFirstName(user.getFirstName());
-        response.setLastName(user.getLastName());
-        response.setEmail(user.getEmail());
-        response.setLocation(candidate.getLocation());
-        response.setTotalScore(matchScore.getTotalScore());
-        response.setSkillScore(matchScore.getSkillScore());
-        response.setExperienceScore(matchScore.getExpScore());
-        response.setEducationScore(matchScore.getEduScore());
-        response.setCalculatedAt(matchScore.getCalculatedAt());
-
-        // Check if candidate has applied
-        boolean hasApplied = applicationRepository.existsByCandidateIdAndJobId(
-                candidate.getId(), matchScore.getJob().getId());
-        response.setHasApplied(hasApplied);
-
-        if (hasApplied) {
-            Application application = applicationRepository.findByCandidateIdAndJobId(
-                    candidate.getId(), matchScore.getJob().getId()).orElse(null);
-            if (application != null) {
-                response.setApplicationStatus(application.getStatus());
-                response.setAppliedAt(application.getAppliedAt());
-            }
-        }
-
-        return response;
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,81 @@
+package com.jobboard.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with logarithmic buckets from 0.1 ms to about
+ * 20 minutes, each 25% wider than the one before. Percentiles are interpolated
+ * within their bucket, so they are off by less than a bucket width, which is
+ * plenty for telling a 50 ms parse from a 5 s one.
+ */
+public class LatencyHistogram {
+
+    private static final double MIN_MILLIS = 0.1;
+    private static final double GROWTH = 1.25;
+    private static final int BUCKETS = 74;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public void record(long nanos) {
+        counts.incrementAndGet(bucketOf(nanos));
+        totalNanos.addAndGet(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Count, mean, p50, p90, p99 and max, in milliseconds.
+     */
+    public Map<String, Object> snapshot() {
+        long[] snapshot = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("count", count);
+        stats.put("meanMillis", count > 0 ? totalNanos.get() / 1_000_000.0 / count : 0.0);
+        stats.put("p50Millis", percentile(snapshot, count, 0.50));
+        stats.put("p90Millis", percentile(snapshot, count, 0.90));
+        stats.put("p99Millis", percentile(snapshot, count, 0.99));
+        stats.put("maxMillis", maxNanos.get() / 1_000_000.0);
+        return stats;
+    }
+
+    private double percentile(long[] snapshot, long count, double quantile) {
+        if (count == 0) {
+            return 0.0;
+        }
+        long rank = (long) Math.ceil(quantile * count);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                double lower = i > 0 ? upperBoundMillis(i - 1) : 0.0;
+                double fraction = (double) (rank - (seen - snapshot[i])) / snapshot[i];
+                // The top bucket is open-ended, and no estimate is above the slowest sample
+                return Math.min(lower + fraction * (upperBoundMillis(i) - lower), maxNanos.get() / 1_000_000.0);
+            }
+        }
+        return maxNanos.get() / 1_000_000.0;
+    }
+
+    private static int bucketOf(long nanos) {
+        double millis = nanos / 1_000_000.0;
+        if (millis <= MIN_MILLIS) {
+            return 0;
+        }
+        int bucket = (int) Math.ceil(Math.log(millis / MIN_MILLIS) / Math.log(GROWTH));
+        return Math.min(bucket, BUCKETS - 1);
+    }
+
+    private static double upperBoundMillis(int bucket) {
+        return MIN_MILLIS * Math.pow(GROWTH, bucket);
+    }
+}
@@ -0,0 +1,255 @@
+package com.jobboard.service;
+
+import com.jobboard.domain.Candidate;
+import com.jobboard.domain.Job;
+import com.jobboard.domain.MatchScore;
+import com.jobboard.event.CandidateProfileChangedEvent;
+import com.jobboard.event.JobChangedEvent;
+import com.jobboard.matching.CandidateFeatures;
+import com.jobboard.matching.JobFeatures;
+import com.jobboard.repository.CandidateRankingRepository;
+import com.jobboard.repository.JobRepository;
+import com.jobboard.repository.MatchScoreWriteRepository;
+import com.jobboard.repository.MatchScoreWriteRepository.Pair;
+import com.jobboard.skill.SkillTaxonomy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps stored match scores in line with the profiles and jobs they were
+ * computed from. A candidate or job change marks its id dirty; a background
+ * worker takes every dirty id at once, so a burst of edits to the same profile
+ * costs one recomputation, and rescores only the pairs that already have a
+ * score, in batches. Lag is measured from the first change to an id until the
+ * batch holding its last pair is written; an id without stored scores has no
+ * pairs to write and records none.
+ *
+ * Dirty ids live in memory on the instance that saw the change, so changes not
+ * yet recomputed when the instance stops are lost until the pair is touched again.
+ */
+@Service
+public class MatchScoreRecomputeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MatchScoreRecomputeService.class);
+
+    @Autowired
+    private MatchScoreWriteRepository matchScoreWriteRepository;
+
+    @Autowired
+    private CandidateRankingRepository candidateRankingRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private MatchingService matchingService;
+
+    @Autowired
+    private SkillTaxonomyService skillTaxonomyService;
+
+    @Autowired
+    private JobFeaturesCache jobFeaturesCache;
+
+    @Value("${matching.recompute.batch-size}")
+    private int batchSize;
+
+    // Id to the System.nanoTime() of its first change since it was last recomputed
+    private final ConcurrentMap<Long, Long> dirtyCandidates = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Long> dirtyJobs = new ConcurrentHashMap<>();
+
+    private final LatencyHistogram lag = new LatencyHistogram();
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder pairsRecomputed = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final AtomicLong lastRunNanos = new AtomicLong();
+
+    // Marked after commit, so the worker never reads the rows from before the change
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCandidateProfileChanged(CandidateProfileChangedEvent event) {
+        dirtyCandidates.putIfAbsent(event.candidateId(), System.nanoTime());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        dirtyJobs.putIfAbsent(event.jobId(), System.nanoTime());
+    }
+
+    /**
+     * Rescores every stored pair involving a dirty candidate or job and returns
+     * how many pairs were written. Ids marked while this runs wait for the next run.
+     */
+    @Scheduled(fixedDelayString = "${matching.recompute.interval}")
+    public synchronized int recomputeDirty() {
+        if (dirtyCandidates.isEmpty() && dirtyJobs.isEmpty()) {
+            return 0;
+        }
+
+        long startedAt = System.nanoTime();
+        // Taken out before reading, so a change committed from here on marks its id again
+        Map<Long, Long> candidates = drain(dirtyCandidates);
+        Map<Long, Long> jobs = drain(dirtyJobs);
+
+        int written;
+        List<Long> lags = new ArrayList<>();
+        try {
+            written = recompute(candidates, jobs, lags);
+        } catch (RuntimeException ex) {
+            failures.increment();
+            requeue(dirtyCandidates, candidates);
+            requeue(dirtyJobs, jobs);
+            logger.warn("Could not recompute match scores for {} candidates and {} jobs; will retry",
+                    candidates.size(), jobs.size(), ex);
+            return 0;
+        }
+
+        // Recorded only once the whole run succeeded, as a failed run requeues every id
+        lags.forEach(lag::record);
+        long finishedAt = System.nanoTime();
+        runs.increment();
+        lastRunNanos.set(finishedAt - startedAt);
+        logger.debug("Recomputed {} match scores for {} candidates and {} jobs in {} ms",
+                written, candidates.size(), jobs.size(), (finishedAt - startedAt) / 1_000_000);
+        return written;
+    }
+
+    /**
+     * Dirty ids still waiting, how long the oldest has waited, work done so far,
+     * and the lag from a change to its fresh scores.
+     */
+    public Map<String, Object> getStats() {
+        long now = System.nanoTime();
+        long oldest = now;
+        for (long since : dirtyCandidates.values()) {
+            oldest = Math.min(oldest, since);
+        }
+        for (long since : dirtyJobs.values()) {
+            oldest = Math.min(oldest, since);
+        }
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("pendingCandidates", dirtyCandidates.size());
+        stats.put("pendingJobs", dirtyJobs.size());
+        stats.put("oldestPendingMillis", (now - oldest) / 1_000_000);
+        stats.put("runs", runs.sum());
+        stats.put("batches", batches.sum());
+        stats.put("pairsRecomputed", pairsRecomputed.sum());
+        stats.put("failures", failures.sum());
+        stats.put("lastRunMillis", lastRunNanos.get() / 1_000_000.0);
+        stats.put("lag", lag.snapshot());
+        stats.put("writes", matchScoreWriteRepository.getStats());
+        return stats;
+    }
+
+    private int recompute(Map<Long, Long> candidates, Map<Long, Long> jobs, List<Long> lags) {
+        // Sorted by job so each batch touches few jobs; a pair found through both keys is scored once
+        List<Pair> pairs = new ArrayList<>(new LinkedHashSet<>(
+                matchScoreWriteRepository.findPairs(candidates.keySet(), jobs.keySet())));
+        pairs.sort(Comparator.comparingLong(Pair::jobId).thenComparingLong(Pair::candidateId));
+
+        // Position of each id's last pair, so its lag ends with the batch that writes that pair
+        Map<Long, Integer> lastCandidatePair = new HashMap<>();
+        Map<Long, Integer> lastJobPair = new HashMap<>();
+        for (int i = 0; i < pairs.size(); i++) {
+            lastCandidatePair.put(pairs.get(i).candidateId(), i);
+            lastJobPair.put(pairs.get(i).jobId(), i);
+        }
+
+        SkillTaxonomy taxonomy = skillTaxonomyService.current();
+        int currentMonth = CandidateFeatures.epochMonth(LocalDate.now());
+        CandidateFeatures noFeatures = CandidateFeatures.builder(taxonomy).build();
+        Map<Long, ScoredJob> scoredJobs = new HashMap<>();
+
+        int written = 0;
+        for (int from = 0; from < pairs.size(); from += batchSize) {
+            int to = Math.min(from + batchSize, pairs.size());
+            List<Pair> batch = pairs.subList(from, to);
+            loadJobs(batch, scoredJobs, taxonomy);
+
+            Set<Long> batchCandidateIds = new HashSet<>();
+            for (Pair pair : batch) {
+                batchCandidateIds.add(pair.candidateId());
+            }
+            Map<Long, CandidateFeatures> features = candidateRankingRepository.loadFeatures(batchCandidateIds, taxonomy);
+
+            List<MatchScore> scores = new ArrayList<>(batch.size());
+            for (Pair pair : batch) {
+                ScoredJob scoredJob = scoredJobs.get(pair.jobId());
+                // Deleted since the pairs were read; its scores went with it
+                if (scoredJob == null) {
+                    continue;
+                }
+                MatchScore score = matchingService.score(features.getOrDefault(pair.candidateId(), noFeatures),
+                        scoredJob.job(), scoredJob.features(), currentMonth);
+                Candidate candidate = new Candidate();
+                candidate.setId(pair.candidateId());
+                score.setCandidate(candidate);
+                scores.add(score);
+            }
+
+            matchScoreWriteRepository.upsertAll(scores);
+            long writtenAt = System.nanoTime();
+            for (int i = from; i < to; i++) {
+                Pair pair = pairs.get(i);
+                Long candidateSince = candidates.get(pair.candidateId());
+                if (candidateSince != null && lastCandidatePair.get(pair.candidateId()) == i) {
+                    lags.add(writtenAt - candidateSince);
+                }
+                Long jobSince = jobs.get(pair.jobId());
+                if (jobSince != null && lastJobPair.get(pair.jobId()) == i) {
+                    lags.add(writtenAt - jobSince);
+                }
+            }
+            batches.increment();
+            pairsRecomputed.add(scores.size());
+            written += scores.size();
+        }
+        return written;
+    }
+
+    private void loadJobs(List<Pair> batch, Map<Long, ScoredJob> scoredJobs, SkillTaxonomy taxonomy) {
+        Set<Long> missing = new HashSet<>();
+        for (Pair pair : batch) {
+            if (!scoredJobs.containsKey(pair.jobId())) {
+                missing.add(pair.jobId());
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        for (Job job : jobRepository.findAllByIdWithSkills(missing)) {
+            scoredJobs.put(job.getId(), new ScoredJob(job, jobFeaturesCache.get(job, taxonomy)));
+        }
+    }
+
+    private static Map<Long, Long> drain(ConcurrentMap<Long, Long> dirty) {
+        Map<Long, Long> drained = new HashMap<>();
+        for (Long id : new ArrayList<>(dirty.keySet())) {
+            Long since = dirty.remove(id);
+            if (since != null) {
+                drained.put(id, since);
+            }
+        }
+        return drained;
+    }
+
+    // Keeps the original change time, so lag covers the failed attempt too
+    private static void requeue(ConcurrentMap<Long, Long> dirty, Map<Long, Long> drained) {
+        drained.forEach((id, since) -> dirty.merge(id, since, Math::min));
+    }
+
+    private record ScoredJob(Job job, JobFeatures features) {
+    }
+}
@@ -0,0 +1,171 @@
+package com.jobboard.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.jobboard.domain.Job;
+import com.jobboard.dto.job.JobResponse;
+import com.jobboard.dto.job.JobSearchPage;
+import com.jobboard.event.JobChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caches the public job endpoints: single jobs by id and search result pages by
+ * normalized query. Both caches are bounded by the estimated size of what they
+ * hold and evict with Caffeine's W-TinyLFU policy, so a burst of one-off
+ * searches does not push out the popular ones.
+ *
+ * Entries are dropped by {@link JobChangedEvent}s; the expiry is only a safety
+ * net. A changed job only touches its own entry unless it was or is listed, in
+ * which case any search page may include it and all pages are dropped.
+ */
+@Service
+public class PublicJobCache {
+
+    // Rough JVM footprint of a job response without its text fields, and of one skill
+    private static final int JOB_OVERHEAD_BYTES = 320;
+    private static final int SKILL_BYTES = 120;
+    private static final int PAGE_OVERHEAD_BYTES = 200;
+
+    private final Cache<Long, JobResponse> jobs;
+    private final Cache<SearchKey, Object> searches;
+
+    // Bumped on every search invalidation so a page loaded from older rows is not kept
+    private final AtomicLong searchGeneration = new AtomicLong();
+
+    public PublicJobCache(@Value("${jobs.cache.jobs-max-size}") DataSize jobsMaxSize,
+                          @Value("${jobs.cache.search-max-size}") DataSize searchMaxSize,
+                          @Value("${jobs.cache.expire-after-write}") Duration expireAfterWrite) {
+        this.jobs = Caffeine.newBuilder()
+                .maximumWeight(jobsMaxSize.toBytes())
+                .weigher((Long jobId, JobResponse job) -> weigh(job))
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        this.searches = Caffeine.newBuilder()
+                .maximumWeight(searchMaxSize.toBytes())
+                .weigher((SearchKey key, Object page) -> weighPage(page))
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    public JobResponse getJob(Long jobId, Supplier<JobResponse> loader) {
+        return jobs.get(jobId, id -> loader.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T getSearch(SearchKey key, Supplier<T> loader) {
+        long generation = searchGeneration.get();
+        T page = (T) searches.get(key, k -> loader.get());
+        if (searchGeneration.get() != generation) {
+            searches.invalidate(key);
+        }
+        return page;
+    }
+
+    // After commit, so a concurrent reader cannot cache the old rows again
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        jobs.invalidate(event.jobId());
+        if (event.wasListed() || event.listed()) {
+            searchGeneration.incrementAndGet();
+            searches.invalidateAll();
+        }
+    }
+
+    /**
+     * Hit ratio, evictions, load times and size of both caches.
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("jobs", stats(jobs));
+        stats.put("searches", stats(searches));
+        return stats;
+    }
+
+    /**
+     * Lower-cases and trims free-text parameters so equivalent searches share an
+     * entry; blank values become {@code null}.
+     */
+    public static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static Map<String, Object> stats(Cache<?, ?> cache) {
+        CacheStats cacheStats = cache.stats();
+        Policy.Eviction<?, ?> eviction = cache.policy().eviction().orElseThrow();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("entries", cache.estimatedSize());
+        stats.put("weightedBytes", eviction.weightedSize().orElse(0L));
+        stats.put("maxBytes", eviction.getMaximum());
+        stats.put("hitRatio", cacheStats.hitRate());
+        stats.put("hits", cacheStats.hitCount());
+        stats.put("misses", cacheStats.missCount());
+        stats.put("evictions", cacheStats.evictionCount());
+        stats.put("evictedBytes", cacheStats.evictionWeight());
+        stats.put("loads", cacheStats.loadCount());
+        stats.put("loadFailures", cacheStats.loadFailureCount());
+        stats.put("averageLoadMillis", cacheStats.averageLoadPenalty() / 1_000_000.0);
+        return stats;
+    }
+
+    private static int weigh(JobResponse job) {
+        long chars = length(job.getTitle()) + length(job.getDescription()) + length(job.getRequirements())
+                + length(job.getLocation()) + length(job.getRecruiterCompany());
+        int skills = job.getSkills() != null ? job.getSkills().size() : 0;
+        return (int) Math.min(Integer.MAX_VALUE, JOB_OVERHEAD_BYTES + 2 * chars + (long) SKILL_BYTES * skills);
+    }
+
+    private static int weighPage(Object page) {
+        List<JobResponse> content;
+        if (page instanceof Page<?> springPage) {
+            content = springPage.getContent().stream().map(JobResponse.class::cast).toList();
+        } else if (page instanceof JobSearchPage searchPage) {
+            content = searchPage.getJobs();
+        } else {
+            throw new IllegalArgumentException("Unsupported search result " + page.getClass());
+        }
+
+        long weight = PAGE_OVERHEAD_BYTES;
+        for (JobResponse job : content) {
+            weight += weigh(job);
+        }
+        return (int) Math.min(Integer.MAX_VALUE, weight);
+    }
+
+    private static long length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    /**
+     * Normalized search parameters plus the requested page. {@code page} is the
+     * page number, size and sort for filter searches, or the cursor and size for
+     * full-text searches.
+     */
+    public record SearchKey(String query, String title, String location, Job.JobType jobType, Boolean remote,
+                            BigDecimal salaryMin, String page) {
+
+        public SearchKey {
+            salaryMin = salaryMin != null ? salaryMin.stripTrailingZeros() : null;
+        }
+    }
+}
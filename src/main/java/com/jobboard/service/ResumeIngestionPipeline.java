@@ -0,0 +1,180 @@
+package com.jobboard.service;
+
+import com.jobboard.domain.Resume;
+import com.jobboard.domain.ResumeSkill;
+import com.jobboard.event.CandidateProfileChangedEvent;
+import com.jobboard.event.ResumeUploadedEvent;
+import com.jobboard.repository.ResumeRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses uploaded resumes in the background, in three stages that each run on
+ * their own bounded pool: Tika text extraction, skill and structured-data
+ * extraction, and persistence.
+ *
+ * Uploads are refused up front once the parse queue is full. Later stages push
+ * back on the stage feeding them: when their queue is full the submitting thread
+ * runs the task itself, which slows intake instead of dropping work.
+ */
+@Service
+public class ResumeIngestionPipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumeIngestionPipeline.class);
+
+    private static final int MAX_STATUS_MESSAGE_LENGTH = 500;
+
+    @Autowired
+    private ResumeParsingService resumeParsingService;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private final ThreadPoolExecutor parseExecutor;
+    private final ThreadPoolExecutor extractExecutor;
+    private final ThreadPoolExecutor persistExecutor;
+
+    public ResumeIngestionPipeline(@Value("${resume.ingestion.parse-threads}") int parseThreads,
+            @Value("${resume.ingestion.extract-threads}") int extractThreads,
+            @Value("${resume.ingestion.persist-threads}") int persistThreads,
+            @Value("${resume.ingestion.queue-capacity}") int queueCapacity) {
+        this.parseExecutor = boundedExecutor("resume-parse-", parseThreads, queueCapacity,
+                new ThreadPoolExecutor.AbortPolicy());
+        this.extractExecutor = boundedExecutor("resume-extract-", extractThreads, queueCapacity,
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.persistExecutor = boundedExecutor("resume-persist-", persistThreads, queueCapacity,
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Whether a new upload would have to wait for queue space.
+     */
+    public boolean isSaturated() {
+        return parseExecutor.getQueue().remainingCapacity() == 0;
+    }
+
+    public int getQueuedCount() {
+        return parseExecutor.getQueue().size() + extractExecutor.getQueue().size()
+                + persistExecutor.getQueue().size();
+    }
+
+    // Runs once the upload transaction has committed, so the PENDING row is visible to the workers
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResumeUploaded(ResumeUploadedEvent event) {
+        try {
+            parseExecutor.execute(() -> parse(event));
+        } catch (RejectedExecutionException ex) {
+            markFailed(event.resumeId(), "Resume parser is busy, please upload again");
+        }
+    }
+
+    private void parse(ResumeUploadedEvent event) {
+        try {
+            String text = resumeParsingService.extractTextFromFile(event.filePath());
+            extractExecutor.execute(() -> extract(event.resumeId(), text));
+        } catch (Throwable ex) {
+            logger.warn("Could not parse resume {}", event.resumeId(), ex);
+            markFailed(event.resumeId(), "Could not read resume: " + reason(ex));
+            rethrowIfFatal(ex);
+        }
+    }
+
+    private void extract(Long resumeId, String text) {
+        try {
+            Map<String, Object> structuredData = resumeParsingService.extractStructuredData(text);
+            // Skills are attached to the managed resume in the persistence stage
+            List<ResumeSkill> skills = resumeParsingService.extractSkills(null, text);
+            persistExecutor.execute(() -> persist(resumeId, text, structuredData, skills));
+        } catch (Throwable ex) {
+            logger.warn("Could not extract skills from resume {}", resumeId, ex);
+            markFailed(resumeId, "Could not extract skills: " + reason(ex));
+            rethrowIfFatal(ex);
+        }
+    }
+
+    private void persist(Long resumeId, String text, Map<String, Object> structuredData, List<ResumeSkill> skills) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> resumeRepository.findById(resumeId)
+                    .ifPresent(resume -> {
+                        resume.setParsedText(text);
+                        resume.setSkillsJson(structuredData);
+                        skills.forEach(skill -> skill.setResume(resume));
+                        resume.getResumeSkills().addAll(skills);
+                        resume.setStatus(Resume.ResumeStatus.PARSED);
+                        resume.setStatusMessage(null);
+                        eventPublisher.publishEvent(new CandidateProfileChangedEvent(resume.getCandidate().getId()));
+                    }));
+        } catch (Throwable ex) {
+            logger.error("Could not save parsed resume {}", resumeId, ex);
+            markFailed(resumeId, "Could not save parsed resume");
+            rethrowIfFatal(ex);
+        }
+    }
+
+    private void markFailed(Long resumeId, String message) {
+        String statusMessage = message.length() > MAX_STATUS_MESSAGE_LENGTH
+                ? message.substring(0, MAX_STATUS_MESSAGE_LENGTH)
+                : message;
+        try {
+            transactionTemplate.executeWithoutResult(status -> resumeRepository.findById(resumeId)
+                    .ifPresent(resume -> {
+                        resume.setStatus(Resume.ResumeStatus.FAILED);
+                        resume.setStatusMessage(statusMessage);
+                    }));
+        } catch (Exception ex) {
+            logger.error("Could not mark resume {} as failed", resumeId, ex);
+        }
+    }
+
+    // Errors such as a StackOverflowError in a malformed PDF often carry no message
+    private static String reason(Throwable ex) {
+        return ex.getMessage() != null ? ex.getMessage() : ex.getClass().getSimpleName();
+    }
+
+    // The resume is marked FAILED first, so only a broken VM takes the worker down with it
+    private static void rethrowIfFatal(Throwable ex) {
+        if (ex instanceof VirtualMachineError error) {
+            throw error;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // Drain in pipeline order so work handed downstream is not lost
+        for (ThreadPoolExecutor executor : List.of(parseExecutor, extractExecutor, persistExecutor)) {
+            executor.shutdown();
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private static ThreadPoolExecutor boundedExecutor(String threadPrefix, int threads, int queueCapacity,
+            RejectedExecutionHandler rejectionHandler) {
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory(threadPrefix),
+                rejectionHandler);
+    }
+}
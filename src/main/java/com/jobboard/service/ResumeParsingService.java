@@ -2,45 +2,323 @@ package com.jobboard.service;
 
 import com.jobboard.domain.Resume;
 import com.jobboard.domain.ResumeSkill;
-import org.apache.tika.Tika;
+import com.jobboard.skill.SkillMatcher.SkillMatch;
+import com.jobboard.skill.SkillTaxonomy;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.apache.tika.exception.TikaException;
+import org.apache.tika.exception.WriteLimitReachedException;
+import org.apache.tika.fork.ForkParser;
+import org.apache.tika.io.TikaInputStream;
+import org.apache.tika.metadata.Metadata;
+import org.apache.tika.parser.AutoDetectParser;
+import org.apache.tika.parser.ParseContext;
+import org.apache.tika.parser.Parser;
+import org.apache.tika.sax.BodyContentHandler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+/**
+ * Extracts resume text with Tika and finds skills and contact details in it.
+ *
+ * Text extraction runs in-process by default, bounded by a character cap and a
+ * deadline: the caller stops waiting once it passes, even for a parser that
+ * spins without producing text, and the parse thread is interrupted. With
+ * {@code resume.parsing.workers} above zero it runs in that many forked JVMs
+ * instead, each with its own heap limit. A worker that runs out of memory or
+ * overruns the timeout is killed and replaced without touching the application,
+ * and every worker is replaced after a fixed number of documents so slow leaks
+ * in the parsers do not accumulate.
+ */
 @Service
 public class ResumeParsingService {
 
-    private final Tika tika = new Tika();
-
-    // Common programming skills and technologies
-    private static final Set<String> TECH_SKILLS = Set.of(
-            "java", "python", "javascript", "typescript", "c++", "c#", "php", "ruby", "go", "rust",
-            "spring", "spring boot", "react", "angular", "vue", "node.js", "express", "django", "flask",
-            "mysql", "postgresql", "mongodb", "redis", "elasticsearch", "docker", "kubernetes",
-            "aws", "azure", "gcp", "jenkins", "git", "linux", "html", "css", "sql", "nosql",
-            "microservices", "rest", "graphql", "junit", "testing", "agile", "scrum", "devops");
+    private final Parser autoDetectParser = new AutoDetectParser();
+    private Parser parser = autoDetectParser;
+
+    // Daemon threads, so a parse abandoned at the timeout cannot keep the JVM alive
+    private final ExecutorService inProcessParses = Executors.newCachedThreadPool(parseThreadFactory());
+
+    @Autowired
+    private SkillTaxonomyService skillTaxonomyService;
+
+    // Text beyond the limit is dropped; a document still being parsed after the timeout fails
+    @Value("${resume.parsing.max-chars}")
+    private int maxChars;
+
+    @Value("${resume.parsing.timeout}")
+    private Duration timeout;
+
+    @Value("${resume.parsing.workers}")
+    private int workers;
+
+    @Value("${resume.parsing.worker-heap}")
+    private DataSize workerHeap;
+
+    @Value("${resume.parsing.worker-max-documents}")
+    private int workerMaxDocuments;
+
+    private final LatencyHistogram parseLatency = new LatencyHistogram();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder truncated = new LongAdder();
+    private final LongAdder allocatedBytes = new LongAdder();
+    private final AtomicLong maxAllocatedBytes = new AtomicLong();
+
+    // How far around a skill mention we look for years and proficiency hints
+    private static final int YEARS_WINDOW = 32;
+    private static final int CONTEXT_WINDOW = 50;
+
+    // Patterns like "5 years of Java experience", "Java (3 years)" and "Java - 3 years",
+    // matched relative to a skill occurrence rather than against the whole text
+    private static final Pattern YEARS_BEFORE_SKILL = Pattern.compile(
+            "\\b(\\d+)\\s+years?\\s+(?:of\\s+)?\\z", Pattern.CASE_INSENSITIVE);
+    private static final Pattern[] YEARS_AFTER_SKILL = {
+            Pattern.compile("\\s*\\(\\s*(\\d+)\\s+years?\\)", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("\\s*-\\s*(\\d+)\\s+years?", Pattern.CASE_INSENSITIVE)
+    };
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(
+            "\\b[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Z|a-z]{2,}\\b");
+    private static final Pattern PHONE_PATTERN = Pattern.compile(
+            "\\b(?:\\+?1[-.]?)?\\(?([0-9]{3})\\)?[-.]?([0-9]{3})[-.]?([0-9]{4})\\b");
+    private static final Pattern[] TOTAL_EXPERIENCE_PATTERNS = {
+            Pattern.compile("(\\d+)\\s+years?\\s+(?:of\\s+)?(?:total\\s+)?experience", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("(\\d+)\\+\\s+years?\\s+experience", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("over\\s+(\\d+)\\s+years?\\s+experience", Pattern.CASE_INSENSITIVE)
+    };
 
     public String extractTextFromFile(MultipartFile file) throws IOException, TikaException {
-        return tika.parseToString(file.getInputStream());
+        try (InputStream stream = TikaInputStream.get(file.getInputStream())) {
+            return extractText(stream);
+        }
     }
 
-    public List<ResumeSkill> extractSkills(Resume resume, String text) {
-        List<ResumeSkill> skills = new ArrayList<>();
-        String lowerText = text.toLowerCase();
+    public String extractTextFromFile(Path path) throws IOException, TikaException {
+        try (InputStream stream = TikaInputStream.get(path)) {
+            return extractText(stream);
+        }
+    }
+
+    @PostConstruct
+    public void startWorkers() {
+        if (workers <= 0) {
+            return;
+        }
+        ForkParser forkParser = new ForkParser(ResumeParsingService.class.getClassLoader(), autoDetectParser);
+        forkParser.setPoolSize(workers);
+        forkParser.setJavaCommand(List.of(ProcessHandle.current().info().command().orElse("java"),
+                "-Xmx" + workerHeap.toMegabytes() + "m", "-XX:+ExitOnOutOfMemoryError"));
+        // Enforced inside the worker, so it also stops parsers that loop without producing text;
+        // the worker checks every pulse, five seconds by default
+        forkParser.setServerParseTimeoutMillis(timeout.toMillis());
+        forkParser.setServerPulseMillis(Math.min(timeout.toMillis(), 1000));
+        forkParser.setMaxFilesProcessedPerServer(workerMaxDocuments);
+        parser = forkParser;
+    }
+
+    @PreDestroy
+    public void stopWorkers() {
+        if (parser instanceof ForkParser forkParser) {
+            forkParser.close();
+        }
+        inProcessParses.shutdownNow();
+    }
+
+    /**
+     * Parse latency percentiles over all documents, failure counts and, for
+     * in-process parsing, the memory each document allocated.
+     */
+    public Map<String, Object> getStats() {
+        boolean forked = parser instanceof ForkParser;
+        Map<String, Object> latency = parseLatency.snapshot();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("mode", forked ? "forked" : "in-process");
+        stats.put("workers", forked ? workers : 0);
+        stats.put("latency", latency);
+        stats.put("failures", failures.sum());
+        stats.put("timeouts", timeouts.sum());
+        stats.put("truncated", truncated.sum());
+        if (!forked) {
+            long documents = (Long) latency.get("count");
+            stats.put("averageAllocatedMb", documents > 0 ? allocatedBytes.sum() / 1048576.0 / documents : 0.0);
+            stats.put("maxAllocatedMb", maxAllocatedBytes.get() / 1048576.0);
+        }
+        return stats;
+    }
+
+    /**
+     * Streams the document through the parser into a single buffer, stopping at
+     * {@code maxChars}. Nothing else holds the text, so a large upload costs at
+     * most the capped text rather than the whole document plus copies of it.
+     */
+    private String extractText(InputStream stream) throws IOException, TikaException {
+        BoundedTextHandler handler = new BoundedTextHandler(maxChars, System.nanoTime() + timeout.toNanos());
+
+        long startedAt = System.nanoTime();
+        try {
+            if (parser instanceof ForkParser) {
+                parse(stream, handler);
+                // A worker that exits at the timeout ends the call without an error and no text
+                if (System.nanoTime() - startedAt > timeout.toNanos()) {
+                    throw new TikaException("Text extraction timed out", new ExtractionTimeoutException());
+                }
+            } else {
+                parseWithDeadline(stream, handler);
+            }
+        } catch (SAXException ex) {
+            if (stoppedAtLimit(ex, startedAt)) {
+                return handler.text();
+            }
+            throw new TikaException("Could not parse document", ex);
+        } catch (TikaException | IOException ex) {
+            if (stoppedAtLimit(ex, startedAt)) {
+                return handler.text();
+            }
+            throw ex;
+        } finally {
+            parseLatency.record(System.nanoTime() - startedAt);
+        }
+        return handler.text();
+    }
+
+    private void parse(InputStream stream, BoundedTextHandler handler)
+            throws IOException, SAXException, TikaException {
+        ParseContext context = new ParseContext();
+        context.set(Parser.class, autoDetectParser);
+        parser.parse(stream, new BodyContentHandler(handler), new Metadata(), context);
+    }
+
+    // The handler only sees the deadline when text comes out, so the wait for the parse is bounded too
+    private void parseWithDeadline(InputStream stream, BoundedTextHandler handler)
+            throws IOException, SAXException, TikaException {
+        Future<?> parse = inProcessParses.submit(() -> {
+            long allocatedBefore = threadAllocatedBytes();
+            try {
+                parse(stream, handler);
+            } finally {
+                recordAllocation(allocatedBefore);
+            }
+            return null;
+        });
+        try {
+            parse.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            parse.cancel(true);
+            throw new TikaException("Text extraction timed out", new ExtractionTimeoutException());
+        } catch (InterruptedException ex) {
+            parse.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while extracting text");
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            } else if (cause instanceof SAXException saxException) {
+                throw saxException;
+            } else if (cause instanceof TikaException tikaException) {
+                throw tikaException;
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new TikaException("Could not parse document", cause);
+        }
+    }
+
+    // True when the parser only stopped at the character cap; any other failure is counted
+    private boolean stoppedAtLimit(Exception ex, long startedAt) throws TikaException {
+        if (hasCause(ex, ExtractionTimeoutException.class) || System.nanoTime() - startedAt > timeout.toNanos()) {
+            timeouts.increment();
+            throw new TikaException("Text extraction took longer than " + timeout.toSeconds() + "s");
+        }
+        // Parsers wrap the handler's exceptions, so look for the limit anywhere in the chain
+        if (WriteLimitReachedException.isWriteLimitReached(ex)) {
+            truncated.increment();
+            return true;
+        }
+        failures.increment();
+        return false;
+    }
+
+    // Bytes allocated by this thread so far, or -1 where the JVM does not track it
+    private long threadAllocatedBytes() {
+        if (parser instanceof ForkParser
+                || !(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads)
+                || !threads.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        return threads.getCurrentThreadAllocatedBytes();
+    }
+
+    private void recordAllocation(long allocatedBefore) {
+        long allocatedAfter = threadAllocatedBytes();
+        if (allocatedBefore < 0 || allocatedAfter < 0) {
+            return;
+        }
+        long allocated = allocatedAfter - allocatedBefore;
+        allocatedBytes.add(allocated);
+        maxAllocatedBytes.accumulateAndGet(allocated, Math::max);
+    }
+
+    private static CustomizableThreadFactory parseThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("resume-tika-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
 
-        for (String skill : TECH_SKILLS) {
-            if (containsSkill(lowerText, skill)) {
-                ResumeSkill resumeSkill = new ResumeSkill(resume, skill);
-                resumeSkill.setYearsExp(extractYearsOfExperience(text, skill));
-                resumeSkill.setProficiency(determineProficiency(text, skill));
-                skills.add(resumeSkill);
+    private static boolean hasCause(Throwable throwable, Class<? extends Throwable> type) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return true;
             }
         }
+        return false;
+    }
+
+    public List<ResumeSkill> extractSkills(Resume resume, String text) {
+        SkillTaxonomy taxonomy = skillTaxonomyService.current();
+
+        // Group occurrences per canonical skill in order of first appearance
+        Map<Integer, List<SkillMatch>> occurrences = new LinkedHashMap<>();
+        for (SkillMatch match : taxonomy.findSkills(text)) {
+            occurrences.computeIfAbsent(match.id(), id -> new ArrayList<>()).add(match);
+        }
+
+        List<ResumeSkill> skills = new ArrayList<>(occurrences.size());
+        for (Map.Entry<Integer, List<SkillMatch>> entry : occurrences.entrySet()) {
+            ResumeSkill resumeSkill = new ResumeSkill(resume, taxonomy.nameOf(entry.getKey()));
+            resumeSkill.setSkillId(entry.getKey());
+            resumeSkill.setYearsExp(extractYearsOfExperience(text, entry.getValue()));
+            resumeSkill.setProficiency(determineProficiency(text, entry.getValue().get(0)));
+            skills.add(resumeSkill);
+        }
 
         return skills;
     }
@@ -75,34 +353,30 @@ public class ResumeParsingService {
         return data;
     }
 
-    private boolean containsSkill(String text, String skill) {
-        // Use word boundaries to avoid partial matches
-        Pattern pattern = Pattern.compile("\\b" + Pattern.quote(skill) + "\\b", Pattern.CASE_INSENSITIVE);
-        return pattern.matcher(text).find();
-    }
-
-    private Integer extractYearsOfExperience(String text, String skill) {
-        // Look for patterns like "5 years of Java experience" or "Java (3 years)"
-        String[] patterns = {
-                "\\b(\\d+)\\s+years?\\s+(?:of\\s+)?" + Pattern.quote(skill),
-                Pattern.quote(skill) + "\\s*\\(\\s*(\\d+)\\s+years?\\)",
-                Pattern.quote(skill) + "\\s*-\\s*(\\d+)\\s+years?"
-        };
+    private Integer extractYearsOfExperience(String text, List<SkillMatch> matches) {
+        Matcher before = YEARS_BEFORE_SKILL.matcher(text).useTransparentBounds(true);
+        for (SkillMatch match : matches) {
+            before.region(Math.max(0, match.start() - YEARS_WINDOW), match.start());
+            if (before.find()) {
+                return Integer.parseInt(before.group(1));
+            }
+        }
 
-        for (String patternStr : patterns) {
-            Pattern pattern = Pattern.compile(patternStr, Pattern.CASE_INSENSITIVE);
-            Matcher matcher = pattern.matcher(text);
-            if (matcher.find()) {
-                return Integer.parseInt(matcher.group(1));
+        for (Pattern pattern : YEARS_AFTER_SKILL) {
+            Matcher after = pattern.matcher(text);
+            for (SkillMatch match : matches) {
+                after.region(match.end(), Math.min(text.length(), match.end() + YEARS_WINDOW));
+                if (after.lookingAt()) {
+                    return Integer.parseInt(after.group(1));
+                }
             }
         }
 
         return null;
     }
 
-    private ResumeSkill.SkillProficiency determineProficiency(String text, String skill) {
-        String lowerText = text.toLowerCase();
-        String skillContext = extractSkillContext(lowerText, skill);
+    private ResumeSkill.SkillProficiency determineProficiency(String text, SkillMatch firstMatch) {
+        String skillContext = extractSkillContext(text, firstMatch);
 
         if (skillContext.contains("expert") || skillContext.contains("advanced") ||
                 skillContext.contains("senior") || skillContext.contains("lead")) {
@@ -118,20 +392,15 @@ public class ResumeParsingService {
         return ResumeSkill.SkillProficiency.INTERMEDIATE; // Default
     }
 
-    private String extractSkillContext(String text, String skill) {
-        int skillIndex = text.indexOf(skill.toLowerCase());
-        if (skillIndex == -1)
-            return "";
-
-        int start = Math.max(0, skillIndex - 50);
-        int end = Math.min(text.length(), skillIndex + skill.length() + 50);
+    private String extractSkillContext(String text, SkillMatch match) {
+        int start = Math.max(0, match.start() - CONTEXT_WINDOW);
+        int end = Math.min(text.length(), match.end() + CONTEXT_WINDOW);
 
-        return text.substring(start, end);
+        return text.substring(start, end).toLowerCase();
     }
 
     private String extractEmail(String text) {
-        Pattern pattern = Pattern.compile("\\b[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Z|a-z]{2,}\\b");
-        Matcher matcher = pattern.matcher(text);
+        Matcher matcher = EMAIL_PATTERN.matcher(text);
         if (matcher.find()) {
             return matcher.group();
         }
@@ -139,8 +408,7 @@ public class ResumeParsingService {
     }
 
     private String extractPhone(String text) {
-        Pattern pattern = Pattern.compile("\\b(?:\\+?1[-.]?)?\\(?([0-9]{3})\\)?[-.]?([0-9]{3})[-.]?([0-9]{4})\\b");
-        Matcher matcher = pattern.matcher(text);
+        Matcher matcher = PHONE_PATTERN.matcher(text);
         if (matcher.find()) {
             return matcher.group();
         }
@@ -148,14 +416,7 @@ public class ResumeParsingService {
     }
 
     private Integer extractTotalExperience(String text) {
-        String[] patterns = {
-                "(\\d+)\\s+years?\\s+(?:of\\s+)?(?:total\\s+)?experience",
-                "(\\d+)\\+\\s+years?\\s+experience",
-                "over\\s+(\\d+)\\s+years?\\s+experience"
-        };
-
-        for (String patternStr : patterns) {
-            Pattern pattern = Pattern.compile(patternStr, Pattern.CASE_INSENSITIVE);
+        for (Pattern pattern : TOTAL_EXPERIENCE_PATTERNS) {
             Matcher matcher = pattern.matcher(text);
             if (matcher.find()) {
                 return Integer.parseInt(matcher.group(1));
@@ -182,4 +443,53 @@ public class ResumeParsingService {
 
         return null;
     }
-}
\ No newline at end of file
+
+    /**
+     * Collects body text up to a character limit and gives up once the deadline
+     * passes. The deadline is checked whenever the parser emits text, which is
+     * frequent for the text-heavy documents resumes are.
+     */
+    private static class BoundedTextHandler extends DefaultHandler {
+
+        private static final int INITIAL_CAPACITY = 16 * 1024;
+
+        private final StringBuilder text;
+        private final int maxChars;
+        private final long deadlineNanos;
+
+        BoundedTextHandler(int maxChars, long deadlineNanos) {
+            this.text = new StringBuilder(Math.min(maxChars, INITIAL_CAPACITY));
+            this.maxChars = maxChars;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) throws SAXException {
+            if (System.nanoTime() - deadlineNanos > 0) {
+                throw new ExtractionTimeoutException();
+            }
+            int remaining = maxChars - text.length();
+            if (length > remaining) {
+                text.append(ch, start, remaining);
+                throw new WriteLimitReachedException(maxChars);
+            }
+            text.append(ch, start, length);
+        }
+
+        @Override
+        public void ignorableWhitespace(char[] ch, int start, int length) throws SAXException {
+            characters(ch, start, length);
+        }
+
+        String text() {
+            return text.toString();
+        }
+    }
+
+    private static class ExtractionTimeoutException extends SAXException {
+
+        ExtractionTimeoutException() {
+            super("Text extraction timed out");
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.jobboard.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Content-addressed storage for uploaded resumes. Each upload is hashed while
+ * it is copied to disk and kept under its SHA-256, so sending the same file
+ * again stores nothing new. Also counts how often an upload could reuse an
+ * earlier parse of the same file instead of going through Tika again.
+ */
+@Service
+public class ResumeStore {
+
+    private static final String EXTENSION = ".pdf";
+
+    private final Path uploadPath;
+
+    private final LongAdder uploads = new LongAdder();
+    private final LongAdder duplicateFiles = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+    private final LongAdder parseReuses = new LongAdder();
+    private final LongAdder parses = new LongAdder();
+
+    public ResumeStore(@Value("${file.upload.dir}") String uploadDir) {
+        this.uploadPath = Paths.get(uploadDir);
+    }
+
+    /**
+     * Copies the upload into the store in one pass, hashing it on the way.
+     */
+    public StoredFile store(MultipartFile file) throws IOException {
+        return store(file.getInputStream());
+    }
+
+    /**
+     * Stores the content read from the stream, which is closed afterwards.
+     */
+    public StoredFile store(InputStream content) throws IOException {
+        Files.createDirectories(uploadPath);
+
+        Path tempFile = Files.createTempFile(uploadPath, "upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(content, digest)) {
+                Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            long size = Files.size(tempFile);
+            String contentHash = HexFormat.of().formatHex(digest.digest());
+            Path target = uploadPath.resolve(contentHash + EXTENSION);
+
+            uploads.increment();
+            if (Files.exists(target)) {
+                duplicateFiles.increment();
+                bytesSaved.add(size);
+                return new StoredFile(target, contentHash, size, true);
+            }
+            // Same name means same content, so losing a race to a concurrent upload is harmless
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return new StoredFile(target, contentHash, size, false);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Records whether an upload reused an earlier parse of the same content.
+     */
+    public void recordParse(boolean reused) {
+        (reused ? parseReuses : parses).increment();
+    }
+
+    /**
+     * Uploads, duplicate files and the disk they would have taken, and the share
+     * of uploads that skipped parsing.
+     */
+    public Map<String, Object> getStats() {
+        long reused = parseReuses.sum();
+        long total = reused + parses.sum();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("uploads", uploads.sum());
+        stats.put("duplicateFiles", duplicateFiles.sum());
+        stats.put("bytesSaved", bytesSaved.sum());
+        stats.put("parseReuses", reused);
+        stats.put("parses", parses.sum());
+        stats.put("hitRate", total > 0 ? (double) reused / total : 0.0);
+        return stats;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    public record StoredFile(Path path, String contentHash, long size, boolean duplicate) {
+    }
+}
@@ -0,0 +1,327 @@
+package com.jobboard.service;
+
+import com.jobboard.domain.Candidate;
+import com.jobboard.domain.Experience;
+import com.jobboard.domain.Job;
+import com.jobboard.domain.JobSkill;
+import com.jobboard.event.JobChangedEvent;
+import com.jobboard.exception.BadRequestException;
+import com.jobboard.matching.CandidateFeatures;
+import com.jobboard.repository.JobRepository;
+import com.jobboard.repository.ResumeRepository;
+import com.jobboard.semantic.EmbeddingModel;
+import com.jobboard.semantic.EmbeddingTrainer;
+import com.jobboard.semantic.HnswIndex;
+import com.jobboard.semantic.Neighbor;
+import com.jobboard.skill.SkillTaxonomy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Semantic matching of candidates to listed jobs, for profiles that describe the
+ * same work in different words: "Server-side developer" for "Backend Engineer",
+ * or "Postgres" for "PostgreSQL".
+ *
+ * Texts are embedded with word vectors trained offline from the parsed text of
+ * our own resumes (see {@link com.jobboard.cli.EmbeddingTrainingRunner}); there
+ * is no external model and no network call. Every listed job's title and
+ * skills are embedded into an in-process {@link HnswIndex}, so finding a
+ * candidate's nearest jobs is a graph search over quantized vectors rather than
+ * a scan. Changed jobs are re-embedded the next time the index is read, and the
+ * index is rebuilt once a quarter of its nodes are stale.
+ *
+ * Off unless {@code matching.semantic.enabled} is set and a model file exists.
+ */
+@Service
+public class SemanticMatchingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SemanticMatchingService.class);
+
+    private static final long INDEX_SEED = 42;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private CandidateFeaturesService candidateFeaturesService;
+
+    @Autowired
+    private SkillTaxonomyService skillTaxonomyService;
+
+    private final boolean enabled;
+    private final Path modelPath;
+    private final int m;
+    private final int efConstruction;
+    private final int efSearch;
+    private final int maxResults;
+    private final EmbeddingTrainer trainer;
+
+    private final Set<Long> changedJobs = ConcurrentHashMap.newKeySet();
+    // Searches share the index; re-embedding changed jobs and rebuilding take it exclusively
+    private final ReadWriteLock indexLock = new ReentrantReadWriteLock();
+    private volatile EmbeddingModel model;
+    private HnswIndex index;
+    private volatile long lastBuildMillis;
+
+    private final AtomicLong searches = new AtomicLong();
+    private final AtomicLong searchNanos = new AtomicLong();
+
+    public SemanticMatchingService(@Value("${matching.semantic.enabled}") boolean enabled,
+                                   @Value("${matching.semantic.model-path}") String modelPath,
+                                   @Value("${matching.semantic.hnsw.m}") int m,
+                                   @Value("${matching.semantic.hnsw.ef-construction}") int efConstruction,
+                                   @Value("${matching.semantic.hnsw.ef-search}") int efSearch,
+                                   @Value("${matching.semantic.max-results}") int maxResults,
+                                   @Value("${matching.semantic.training.dimension}") int dimension,
+                                   @Value("${matching.semantic.training.window}") int window,
+                                   @Value("${matching.semantic.training.min-count}") int minCount,
+                                   @Value("${matching.semantic.training.buckets}") int buckets) {
+        this.enabled = enabled;
+        this.modelPath = Paths.get(modelPath);
+        this.m = m;
+        this.efConstruction = efConstruction;
+        this.efSearch = efSearch;
+        this.maxResults = maxResults;
+        this.trainer = new EmbeddingTrainer(dimension, window, minCount, buckets, INDEX_SEED);
+    }
+
+    /**
+     * The listed jobs closest in meaning to the candidate's positions and skills,
+     * most similar first, at most {@code matching.semantic.max-results} of them.
+     */
+    public List<Neighbor> findSimilarJobs(Candidate candidate) {
+        EmbeddingModel current = requireModel();
+        float[] query = current.embed(candidateText(candidate));
+        if (isZero(query)) {
+            return List.of();
+        }
+
+        refreshIndex(current);
+        indexLock.readLock().lock();
+        try {
+            // Dropped by a model swapped in since the refresh; the next call rebuilds it
+            if (index == null) {
+                return List.of();
+            }
+            long startedAt = System.nanoTime();
+            List<Neighbor> neighbors = index.search(query, maxResults, Math.max(efSearch, maxResults));
+            searchNanos.addAndGet(System.nanoTime() - startedAt);
+            searches.incrementAndGet();
+            return neighbors;
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Cosine similarity of two texts' embeddings, from -1 to 1.
+     */
+    public double similarity(String a, String b) {
+        return requireModel().similarity(a, b);
+    }
+
+    /**
+     * Trains a model from every resume's parsed text, replaces the model file and
+     * starts using it. Reads the corpus twice, streaming it both times.
+     */
+    @Transactional(readOnly = true)
+    public EmbeddingModel trainModel() throws IOException {
+        long startedAt = System.nanoTime();
+        EmbeddingModel trained = trainer.train(consumer -> {
+            try (Stream<String> texts = resumeRepository.streamParsedTexts()) {
+                texts.forEach(consumer);
+            }
+        });
+
+        Path directory = modelPath.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, "embeddings", ".tmp");
+        try (OutputStream out = Files.newOutputStream(temporary)) {
+            trained.write(out);
+        }
+        Files.move(temporary, modelPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        logger.info("Trained embeddings for {} terms in {} ms, written to {}", trained.getTermCount(),
+                (System.nanoTime() - startedAt) / 1_000_000, modelPath);
+
+        useModel(trained);
+        return trained;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        // A job that is not and was not listed is not and was not in the index
+        if (event.wasListed() || event.listed()) {
+            changedJobs.add(event.jobId());
+        }
+    }
+
+    /**
+     * Model size, index size and memory, and search latency.
+     */
+    public Map<String, Object> getStats() {
+        EmbeddingModel current = model;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("modelLoaded", current != null);
+        stats.put("modelTerms", current != null ? current.getTermCount() : 0);
+        stats.put("dimension", current != null ? current.getDimension() : 0);
+
+        indexLock.readLock().lock();
+        try {
+            stats.put("indexedJobs", index != null ? index.size() : 0);
+            stats.put("deletedNodes", index != null ? index.deletedCount() : 0);
+            stats.put("bytesPerVector", index != null ? index.bytesPerVector() : 0L);
+        } finally {
+            indexLock.readLock().unlock();
+        }
+        stats.put("pendingJobChanges", changedJobs.size());
+        stats.put("lastBuildMillis", lastBuildMillis);
+
+        long count = searches.get();
+        stats.put("searches", count);
+        stats.put("averageSearchMicros", count > 0 ? searchNanos.get() / 1_000.0 / count : 0.0);
+        return stats;
+    }
+
+    private EmbeddingModel requireModel() {
+        if (!enabled) {
+            throw new BadRequestException("Semantic matching is not enabled");
+        }
+        EmbeddingModel current = model;
+        if (current == null) {
+            current = loadModel();
+        }
+        return current;
+    }
+
+    private synchronized EmbeddingModel loadModel() {
+        if (model != null) {
+            return model;
+        }
+        if (!Files.exists(modelPath)) {
+            throw new BadRequestException("Semantic matching is not available until embeddings are trained");
+        }
+        try (InputStream in = Files.newInputStream(modelPath)) {
+            EmbeddingModel loaded = EmbeddingModel.read(in);
+            logger.info("Loaded embeddings for {} terms from {}", loaded.getTermCount(), modelPath);
+            useModel(loaded);
+            return loaded;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read embeddings from " + modelPath, e);
+        }
+    }
+
+    // Vectors from another model are not comparable, so the index starts over
+    private void useModel(EmbeddingModel next) {
+        indexLock.writeLock().lock();
+        try {
+            model = next;
+            index = null;
+        } finally {
+            indexLock.writeLock().unlock();
+        }
+    }
+
+    private void refreshIndex(EmbeddingModel current) {
+        indexLock.readLock().lock();
+        try {
+            if (index != null && changedJobs.isEmpty()) {
+                return;
+            }
+        } finally {
+            indexLock.readLock().unlock();
+        }
+
+        indexLock.writeLock().lock();
+        try {
+            if (index == null || index.deletedCount() > index.size() / 4) {
+                buildIndex(current);
+            } else if (!changedJobs.isEmpty()) {
+                List<Long> jobIds = new ArrayList<>(changedJobs);
+                changedJobs.removeAll(jobIds);
+                jobIds.forEach(index::remove);
+                for (Job job : jobRepository.findAllByIdWithSkills(jobIds)) {
+                    if (job.getStatus() == Job.JobStatus.ACTIVE) {
+                        addJob(current, job);
+                    }
+                }
+            }
+        } finally {
+            indexLock.writeLock().unlock();
+        }
+    }
+
+    private void buildIndex(EmbeddingModel current) {
+        long startedAt = System.nanoTime();
+        // Changes committed while loading are picked up by the next refresh
+        changedJobs.clear();
+        index = new HnswIndex(current.getDimension(), m, efConstruction, INDEX_SEED);
+        for (Job job : jobRepository.findAllActiveWithSkills()) {
+            addJob(current, job);
+        }
+        lastBuildMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        logger.info("Indexed embeddings of {} listed jobs in {} ms", index.size(), lastBuildMillis);
+    }
+
+    private void addJob(EmbeddingModel current, Job job) {
+        float[] vector = current.embed(jobText(job));
+        if (!isZero(vector)) {
+            index.add(job.getId(), vector);
+        }
+    }
+
+    private static String jobText(Job job) {
+        StringBuilder text = new StringBuilder(job.getTitle() != null ? job.getTitle() : "");
+        for (JobSkill jobSkill : job.getJobSkills()) {
+            text.append(' ').append(jobSkill.getSkillName());
+        }
+        return text.toString();
+    }
+
+    private String candidateText(Candidate candidate) {
+        StringBuilder text = new StringBuilder();
+        for (Experience experience : candidate.getExperiences()) {
+            if (experience.getPosition() != null) {
+                text.append(experience.getPosition()).append(' ');
+            }
+        }
+        SkillTaxonomy taxonomy = skillTaxonomyService.current();
+        CandidateFeatures features = candidateFeaturesService.getFeatures(candidate, taxonomy);
+        for (int i = 0; i < features.getSkillCount(); i++) {
+            text.append(taxonomy.nameOf(features.skillIdAt(i))).append(' ');
+        }
+        return text.toString();
+    }
+
+    private static boolean isZero(float[] vector) {
+        for (float component : vector) {
+            if (component != 0f) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,77 @@
+package com.jobboard.service;
+
+import com.jobboard.skill.SkillTaxonomy;
+import com.jobboard.skill.SkillTaxonomyLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the active skill taxonomy and swaps it when the source file changes.
+ *
+ * Callers take one snapshot with {@link #current()} per unit of work; a reload
+ * compiles the new taxonomy off to the side and publishes it with a single
+ * reference swap, so parsing and matching never wait on it.
+ */
+@Service
+public class SkillTaxonomyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillTaxonomyService.class);
+
+    private final Resource location;
+    private final AtomicReference<SkillTaxonomy> current = new AtomicReference<>();
+    private volatile long lastModified;
+
+    public SkillTaxonomyService(@Value("${skills.taxonomy.location}") Resource location) throws IOException {
+        this.location = location;
+        reload();
+    }
+
+    public SkillTaxonomy current() {
+        return current.get();
+    }
+
+    /**
+     * Recompiles the taxonomy from its source. A file that fails to load or compile
+     * leaves the previous taxonomy in place.
+     */
+    public synchronized SkillTaxonomy reload() throws IOException {
+        long modified = lastModified();
+        SkillTaxonomy previous = current.get();
+        long version = previous != null ? previous.getVersion() + 1 : 1;
+
+        SkillTaxonomy taxonomy = SkillTaxonomyLoader.load(location, version);
+        current.set(taxonomy);
+        lastModified = modified;
+
+        logger.info("Loaded skill taxonomy v{} with {} skills and {} terms from {}",
+                version, taxonomy.getSkillCount(), taxonomy.getTermCount(), location.getDescription());
+        return taxonomy;
+    }
+
+    @Scheduled(fixedDelayString = "${skills.taxonomy.refresh-interval}")
+    public void reloadIfModified() {
+        try {
+            if (lastModified() > lastModified) {
+                reload();
+            }
+        } catch (IOException | IllegalArgumentException ex) {
+            logger.error("Could not reload skill taxonomy from {}", location.getDescription(), ex);
+        }
+    }
+
+    private long lastModified() {
+        try {
+            return location.lastModified();
+        } catch (IOException ex) {
+            // Resources inside a jar have no modification time and are never reloaded
+            return 0L;
+        }
+    }
+}
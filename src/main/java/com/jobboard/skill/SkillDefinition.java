@@ -0,0 +1,14 @@
+package com.jobboard.skill;
+
+import java.util.List;
+
+/**
+ * One entry of the skill taxonomy file: a canonical skill, the other names it is
+ * known by and, optionally, the broader skill it implies (e.g. spring boot -> spring).
+ */
+public record SkillDefinition(int id, String name, List<String> aliases, Integer parent) {
+
+    public SkillDefinition {
+        aliases = aliases != null ? List.copyOf(aliases) : List.of();
+    }
+}
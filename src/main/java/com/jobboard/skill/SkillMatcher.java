@@ -0,0 +1,211 @@
+package com.jobboard.skill;
+
+import java.util.*;
+
+/**
+ * Multi-pattern matcher over a fixed skill dictionary (Aho-Corasick).
+ *
+ * The automaton is compiled once and is immutable, so a single instance can be
+ * shared by every parsing thread. Matching is case-insensitive, runs in one pass
+ * over the text and only reports occurrences that sit on word boundaries, so
+ * "java" is not reported inside "javascript".
+ */
+public final class SkillMatcher {
+
+    private static final int ROOT = 0;
+    private static final int[] NO_OUTPUT = new int[0];
+
+    // Per-state sorted transition labels and their target states
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] fail;
+    // Pattern indices recognised in each state, including those reached through fail links
+    private final int[][] outputs;
+
+    private final int[] patternIds;
+    private final int[] patternLengths;
+    private final boolean[] wordStart;
+    private final boolean[] wordEnd;
+
+    private SkillMatcher(char[][] labels, int[][] targets, int[] fail, int[][] outputs,
+            int[] patternIds, int[] patternLengths, boolean[] wordStart, boolean[] wordEnd) {
+        this.labels = labels;
+        this.targets = targets;
+        this.fail = fail;
+        this.outputs = outputs;
+        this.patternIds = patternIds;
+        this.patternLengths = patternLengths;
+        this.wordStart = wordStart;
+        this.wordEnd = wordEnd;
+    }
+
+    /**
+     * Compiles a matcher for the given terms. Each term is reported with the id it is
+     * mapped to; several terms (aliases) may share the same id.
+     */
+    public static SkillMatcher compile(Map<String, Integer> termIds) {
+        List<Map<Character, Integer>> trie = new ArrayList<>();
+        List<List<Integer>> terminal = new ArrayList<>();
+        trie.add(new HashMap<>());
+        terminal.add(new ArrayList<>());
+
+        int[] patternIds = new int[termIds.size()];
+        int[] patternLengths = new int[termIds.size()];
+        boolean[] wordStart = new boolean[termIds.size()];
+        boolean[] wordEnd = new boolean[termIds.size()];
+
+        int pattern = 0;
+        for (Map.Entry<String, Integer> entry : termIds.entrySet()) {
+            String term = entry.getKey();
+            if (term == null || term.isBlank()) {
+                throw new IllegalArgumentException("Skill terms must not be blank");
+            }
+
+            int state = ROOT;
+            for (int i = 0; i < term.length(); i++) {
+                char c = normalize(term.charAt(i));
+                Integer next = trie.get(state).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new HashMap<>());
+                    terminal.add(new ArrayList<>());
+                    trie.get(state).put(c, next);
+                }
+                state = next;
+            }
+
+            terminal.get(state).add(pattern);
+            patternIds[pattern] = entry.getValue();
+            patternLengths[pattern] = term.length();
+            wordStart[pattern] = isWordChar(term.charAt(0));
+            wordEnd[pattern] = isWordChar(term.charAt(term.length() - 1));
+            pattern++;
+        }
+
+        int stateCount = trie.size();
+        char[][] labels = new char[stateCount][];
+        int[][] targets = new int[stateCount][];
+        for (int state = 0; state < stateCount; state++) {
+            TreeMap<Character, Integer> sorted = new TreeMap<>(trie.get(state));
+            labels[state] = new char[sorted.size()];
+            targets[state] = new int[sorted.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : sorted.entrySet()) {
+                labels[state][i] = edge.getKey();
+                targets[state][i] = edge.getValue();
+                i++;
+            }
+        }
+
+        // Breadth-first construction of fail links; outputs are merged along the way
+        int[] fail = new int[stateCount];
+        int[][] outputs = new int[stateCount][];
+        outputs[ROOT] = NO_OUTPUT;
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[ROOT]) {
+            fail[child] = ROOT;
+            outputs[child] = toArray(terminal.get(child), NO_OUTPUT);
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int i = 0; i < labels[state].length; i++) {
+                char c = labels[state][i];
+                int child = targets[state][i];
+
+                int f = fail[state];
+                int next = transition(labels, targets, f, c);
+                while (next < 0 && f != ROOT) {
+                    f = fail[f];
+                    next = transition(labels, targets, f, c);
+                }
+                fail[child] = next < 0 ? ROOT : next;
+                outputs[child] = toArray(terminal.get(child), outputs[fail[child]]);
+                queue.add(child);
+            }
+        }
+
+        return new SkillMatcher(labels, targets, fail, outputs, patternIds, patternLengths, wordStart, wordEnd);
+    }
+
+    /**
+     * Compiles a matcher where each term is reported with its position in the list.
+     */
+    public static SkillMatcher compile(List<String> terms) {
+        Map<String, Integer> termIds = new LinkedHashMap<>();
+        for (int i = 0; i < terms.size(); i++) {
+            termIds.put(terms.get(i), i);
+        }
+        return compile(termIds);
+    }
+
+    /**
+     * Finds every dictionary term in the text, ordered by end offset.
+     */
+    public List<SkillMatch> findAll(CharSequence text) {
+        List<SkillMatch> matches = new ArrayList<>();
+        int length = text.length();
+        int state = ROOT;
+
+        for (int pos = 0; pos < length; pos++) {
+            char c = normalize(text.charAt(pos));
+
+            int next = transition(labels, targets, state, c);
+            while (next < 0 && state != ROOT) {
+                state = fail[state];
+                next = transition(labels, targets, state, c);
+            }
+            state = next < 0 ? ROOT : next;
+
+            for (int pattern : outputs[state]) {
+                int start = pos - patternLengths[pattern] + 1;
+                int end = pos + 1;
+                if (wordStart[pattern] && start > 0 && isWordChar(text.charAt(start - 1))) {
+                    continue;
+                }
+                if (wordEnd[pattern] && end < length && isWordChar(text.charAt(end))) {
+                    continue;
+                }
+                matches.add(new SkillMatch(patternIds[pattern], start, end));
+            }
+        }
+
+        return matches;
+    }
+
+    public int stateCount() {
+        return fail.length;
+    }
+
+    private static int transition(char[][] labels, int[][] targets, int state, char c) {
+        int index = Arrays.binarySearch(labels[state], c);
+        return index >= 0 ? targets[state][index] : -1;
+    }
+
+    private static int[] toArray(List<Integer> own, int[] inherited) {
+        if (own.isEmpty()) {
+            return inherited;
+        }
+        int[] merged = new int[own.size() + inherited.length];
+        for (int i = 0; i < own.size(); i++) {
+            merged[i] = own.get(i);
+        }
+        System.arraycopy(inherited, 0, merged, own.size(), inherited.length);
+        return merged;
+    }
+
+    private static char normalize(char c) {
+        return Character.isWhitespace(c) ? ' ' : Character.toLowerCase(c);
+    }
+
+    static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    /**
+     * A single occurrence of a dictionary term; {@code end} is exclusive.
+     */
+    public record SkillMatch(int id, int start, int end) {
+    }
+}
@@ -0,0 +1,167 @@
+package com.jobboard.skill;
+
+import com.jobboard.skill.SkillMatcher.SkillMatch;
+
+import java.util.*;
+
+/**
+ * Immutable, compiled view of the skill taxonomy.
+ *
+ * Every name and alias resolves to a canonical integer id, and the text matcher
+ * reports canonical ids directly, so "K8s" and "Kubernetes" are the same skill
+ * everywhere downstream. Instances are swapped as a whole on reload and never
+ * mutated, so readers need no locking.
+ */
+public final class SkillTaxonomy {
+
+    public static final int UNKNOWN = -1;
+
+    private static final int[] NO_ANCESTORS = new int[0];
+
+    private final long version;
+    private final Map<Integer, String> names;
+    private final Map<String, Integer> lookup;
+    private final Map<Integer, int[]> ancestors;
+    private final SkillMatcher matcher;
+    private final int termCount;
+
+    private SkillTaxonomy(long version, Map<Integer, String> names, Map<String, Integer> lookup,
+            Map<Integer, int[]> ancestors, SkillMatcher matcher, int termCount) {
+        this.version = version;
+        this.names = names;
+        this.lookup = lookup;
+        this.ancestors = ancestors;
+        this.matcher = matcher;
+        this.termCount = termCount;
+    }
+
+    public static SkillTaxonomy compile(Collection<SkillDefinition> definitions, long version) {
+        Map<Integer, String> names = new HashMap<>();
+        Map<Integer, Integer> parents = new HashMap<>();
+        Map<String, Integer> terms = new LinkedHashMap<>();
+
+        for (SkillDefinition definition : definitions) {
+            if (definition.name() == null || definition.name().isBlank()) {
+                throw new IllegalArgumentException("Skill " + definition.id() + " has no name");
+            }
+            String name = normalize(definition.name());
+            if (names.put(definition.id(), name) != null) {
+                throw new IllegalArgumentException("Duplicate skill id " + definition.id());
+            }
+            if (definition.parent() != null) {
+                parents.put(definition.id(), definition.parent());
+            }
+
+            addTerm(terms, name, definition.id());
+            for (String alias : definition.aliases()) {
+                addTerm(terms, normalize(alias), definition.id());
+            }
+        }
+
+        // Spelling variants such as "springboot" or "nodejs" resolve on lookup too,
+        // unless two different skills collapse to the same key
+        Map<String, Integer> lookup = new HashMap<>(terms);
+        Set<String> ambiguous = new HashSet<>();
+        for (Map.Entry<String, Integer> term : terms.entrySet()) {
+            String compact = compact(term.getKey());
+            Integer existing = lookup.putIfAbsent(compact, term.getValue());
+            if (existing != null && !existing.equals(term.getValue()) && !terms.containsKey(compact)) {
+                ambiguous.add(compact);
+            }
+        }
+        ambiguous.forEach(lookup::remove);
+
+        Map<Integer, int[]> ancestors = new HashMap<>();
+        for (Integer id : names.keySet()) {
+            ancestors.put(id, resolveAncestors(id, parents, names));
+        }
+
+        return new SkillTaxonomy(version, Map.copyOf(names), Map.copyOf(lookup), Map.copyOf(ancestors),
+                SkillMatcher.compile(terms), terms.size());
+    }
+
+    /**
+     * Resolves a skill name or alias to its canonical id, or {@link #UNKNOWN}.
+     */
+    public int idOf(String name) {
+        if (name == null) {
+            return UNKNOWN;
+        }
+        String key = normalize(name);
+        Integer id = lookup.get(key);
+        if (id == null) {
+            id = lookup.get(compact(key));
+        }
+        return id != null ? id : UNKNOWN;
+    }
+
+    public String nameOf(int id) {
+        return names.get(id);
+    }
+
+    public boolean contains(int id) {
+        return names.containsKey(id);
+    }
+
+    /**
+     * All broader skills implied by the given one, nearest first.
+     */
+    public int[] ancestorsOf(int id) {
+        return ancestors.getOrDefault(id, NO_ANCESTORS);
+    }
+
+    /**
+     * Finds every skill mentioned in the text; match ids are canonical skill ids.
+     */
+    public List<SkillMatch> findSkills(CharSequence text) {
+        return matcher.findAll(text);
+    }
+
+    public Set<Integer> skillIds() {
+        return names.keySet();
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int getSkillCount() {
+        return names.size();
+    }
+
+    public int getTermCount() {
+        return termCount;
+    }
+
+    private static void addTerm(Map<String, Integer> terms, String term, int id) {
+        Integer existing = terms.putIfAbsent(term, id);
+        if (existing != null && existing != id) {
+            throw new IllegalArgumentException(
+                    "Term '" + term + "' is used by skills " + existing + " and " + id);
+        }
+    }
+
+    private static int[] resolveAncestors(int id, Map<Integer, Integer> parents, Map<Integer, String> names) {
+        List<Integer> chain = new ArrayList<>();
+        Integer parent = parents.get(id);
+        while (parent != null) {
+            if (!names.containsKey(parent)) {
+                throw new IllegalArgumentException("Skill " + id + " refers to unknown parent " + parent);
+            }
+            if (parent == id || chain.contains(parent)) {
+                throw new IllegalArgumentException("Skill " + id + " is part of a parent cycle");
+            }
+            chain.add(parent);
+            parent = parents.get(parent);
+        }
+        return chain.isEmpty() ? NO_ANCESTORS : chain.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    static String normalize(String term) {
+        return term.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static String compact(String key) {
+        return key.replaceAll("[\\s.\\-_]", "");
+    }
+}
@@ -0,0 +1,42 @@
+package com.jobboard.skill;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Reads the skill taxonomy JSON file:
+ *
+ * <pre>
+ * { "skills": [ { "id": 12, "name": "spring boot", "aliases": ["springboot"], "parent": 11 } ] }
+ * </pre>
+ */
+public final class SkillTaxonomyLoader {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private SkillTaxonomyLoader() {
+    }
+
+    public static SkillTaxonomy load(Resource resource, long version) throws IOException {
+        try (InputStream in = resource.getInputStream()) {
+            return load(in, version);
+        }
+    }
+
+    public static SkillTaxonomy load(InputStream in, long version) throws IOException {
+        TaxonomyFile file = MAPPER.readValue(in, TaxonomyFile.class);
+        if (file.skills() == null || file.skills().isEmpty()) {
+            throw new IOException("Skill taxonomy contains no skills");
+        }
+        return SkillTaxonomy.compile(file.skills(), version);
+    }
+
+    private record TaxonomyFile(List<SkillDefinition> skills) {
+    }
+}
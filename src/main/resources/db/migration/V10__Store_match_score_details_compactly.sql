@@ -0,0 +1,5 @@
+-- Score details are stored as a few bytes (see ScoreDetails) instead of a JSON document per row, and the
+-- readable breakdown is rendered from them on request. Existing details are dropped; a breakdown for a row
+-- without details is worked out again from the candidate's current profile.
+ALTER TABLE match_scores ADD COLUMN details BYTEA;
+ALTER TABLE match_scores DROP COLUMN details_json;
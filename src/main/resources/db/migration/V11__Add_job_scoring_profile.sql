@@ -0,0 +1,2 @@
+-- Per-job scoring trade-offs; NULL scores with the default profile.
+ALTER TABLE jobs ADD COLUMN scoring_profile JSONB;
@@ -0,0 +1,21 @@
+-- Requirements read from the job text, derived when the job is saved so scoring
+-- never re-parses it. Existing rows are backfilled with the same keyword rules.
+ALTER TABLE jobs ADD COLUMN required_experience_months INTEGER;
+ALTER TABLE jobs ADD COLUMN required_education_level INTEGER;
+
+UPDATE jobs SET required_experience_months = 12 * CASE
+        WHEN text LIKE '%senior%' OR text LIKE '%lead%' THEN 5
+        WHEN text LIKE '%mid-level%' OR text LIKE '%intermediate%' THEN 3
+        WHEN text LIKE '%junior%' OR text LIKE '%entry%' THEN 1
+        ELSE 2
+    END
+FROM (SELECT id AS job_id, lower(coalesce(description, '') || ' ' || coalesce(requirements, '')) AS text FROM jobs) job_text
+WHERE jobs.id = job_text.job_id;
+
+-- EducationLevel ordinals; -1 when no degree is asked for
+UPDATE jobs SET required_education_level = CASE
+        WHEN lower(requirements) LIKE '%phd%' OR lower(requirements) LIKE '%doctorate%' THEN 4
+        WHEN lower(requirements) LIKE '%master%' OR lower(requirements) LIKE '%mba%' THEN 3
+        WHEN lower(requirements) LIKE '%bachelor%' OR lower(requirements) LIKE '%degree%' THEN 2
+        ELSE -1
+    END;
@@ -0,0 +1,7 @@
+-- Canonical skill ids from the skill taxonomy (see skills/taxonomy.json).
+-- Rows written before the taxonomy existed keep a NULL id and are resolved by name.
+ALTER TABLE resume_skills ADD COLUMN skill_id INTEGER;
+ALTER TABLE job_skills ADD COLUMN skill_id INTEGER;
+
+CREATE INDEX idx_resume_skills_skill_id ON resume_skills(skill_id);
+CREATE INDEX idx_job_skills_skill_id ON job_skills(skill_id);
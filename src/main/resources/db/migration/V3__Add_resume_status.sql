@@ -0,0 +1,5 @@
+-- Resumes are parsed in the background after upload; existing rows were parsed inline.
+ALTER TABLE resumes ADD COLUMN status VARCHAR(20) NOT NULL DEFAULT 'PARSED';
+ALTER TABLE resumes ADD COLUMN status_message VARCHAR(500);
+
+CREATE INDEX idx_resumes_status ON resumes(status);
@@ -0,0 +1,16 @@
+-- Resumes from bulk imports are held here, keyed by the email printed in them,
+-- until the candidate with that account email confirms them. Until then they
+-- are not part of any profile and do not affect matching.
+CREATE TABLE imported_resumes (
+    id BIGSERIAL PRIMARY KEY,
+    email VARCHAR(255) NOT NULL,
+    imported_by BIGINT,
+    file_path VARCHAR(500) NOT NULL,
+    file_name VARCHAR(255) NOT NULL,
+    parsed_text TEXT,
+    skills_json JSONB,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (imported_by) REFERENCES users(id) ON DELETE SET NULL
+);
+
+CREATE INDEX idx_imported_resumes_email ON imported_resumes(email);
@@ -0,0 +1,2 @@
+-- Serves ranked-candidate pages for a job straight from the index, including the keyset seek.
+CREATE INDEX idx_match_scores_job_ranking ON match_scores(job_id, total_score DESC, candidate_id);
@@ -0,0 +1,12 @@
+-- One weighted document per job so a query can match words spread across title, description
+-- and requirements. The per-column title/description indexes are superseded by this one.
+ALTER TABLE jobs ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(description, '')), 'B') ||
+    setweight(to_tsvector('english', coalesce(requirements, '')), 'C')
+) STORED;
+
+CREATE INDEX idx_jobs_search_vector ON jobs USING gin(search_vector);
+
+DROP INDEX idx_jobs_title_fulltext;
+DROP INDEX idx_jobs_description_fulltext;
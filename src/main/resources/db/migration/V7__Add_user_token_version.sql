@@ -0,0 +1,2 @@
+-- Tokens carry the version they were issued with; bumping it revokes every older token of the user.
+ALTER TABLE users ADD COLUMN token_version INTEGER NOT NULL DEFAULT 0;
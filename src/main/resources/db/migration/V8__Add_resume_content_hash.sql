@@ -0,0 +1,9 @@
+-- Uploads are stored under their SHA-256 so identical files share one copy and one parse.
+ALTER TABLE resumes ADD COLUMN content_hash VARCHAR(64);
+
+CREATE INDEX idx_resumes_content_hash ON resumes(content_hash);
+
+-- Imports go into the same store, so a later upload or import of the file can reuse their parse
+ALTER TABLE imported_resumes ADD COLUMN content_hash VARCHAR(64);
+
+CREATE INDEX idx_imported_resumes_content_hash ON imported_resumes(content_hash);
@@ -0,0 +1,119 @@
+-- Platform statistics are kept up to date by triggers instead of counting whole tables on every read.
+-- Each counter is split over 16 slots picked by backend pid, so concurrent inserts from different
+-- connections rarely wait on the same row; readers sum the slots.
+CREATE TABLE platform_counters (
+    name VARCHAR(32) NOT NULL,
+    slot SMALLINT NOT NULL,
+    value BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (name, slot)
+);
+
+-- Event counts per time bucket, e.g. applications per day and resume uploads per hour
+CREATE TABLE activity_buckets (
+    metric VARCHAR(32) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    slot SMALLINT NOT NULL,
+    count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (metric, bucket_start, slot)
+);
+
+CREATE FUNCTION bump_counter(counter_name TEXT, delta BIGINT) RETURNS void AS $$
+BEGIN
+    INSERT INTO platform_counters (name, slot, value)
+    VALUES (counter_name, pg_backend_pid() % 16, delta)
+    ON CONFLICT (name, slot) DO UPDATE SET value = platform_counters.value + EXCLUDED.value;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION bump_bucket(metric_name TEXT, bucket TIMESTAMP, delta BIGINT) RETURNS void AS $$
+BEGIN
+    INSERT INTO activity_buckets (metric, bucket_start, slot, count)
+    VALUES (metric_name, bucket, pg_backend_pid() % 16, delta)
+    ON CONFLICT (metric, bucket_start, slot) DO UPDATE SET count = activity_buckets.count + EXCLUDED.count;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Row count of the table, named by the trigger argument
+CREATE FUNCTION count_rows() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM bump_counter(TG_ARGV[0], 1);
+    ELSE
+        PERFORM bump_counter(TG_ARGV[0], -1);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION count_active_jobs() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        IF OLD.status = 'ACTIVE' THEN
+            PERFORM bump_counter('active_jobs', -1);
+        END IF;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        IF NEW.status = 'ACTIVE' THEN
+            PERFORM bump_counter('active_jobs', 1);
+        END IF;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION record_application() RETURNS trigger AS $$
+BEGIN
+    PERFORM bump_bucket('applications_per_day', date_trunc('day', NEW.applied_at), 1);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION record_resume_upload() RETURNS trigger AS $$
+BEGIN
+    PERFORM bump_bucket('resume_uploads_per_hour', date_trunc('hour', NEW.created_at), 1);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER users_count AFTER INSERT OR DELETE ON users
+    FOR EACH ROW EXECUTE FUNCTION count_rows('users');
+CREATE TRIGGER candidates_count AFTER INSERT OR DELETE ON candidates
+    FOR EACH ROW EXECUTE FUNCTION count_rows('candidates');
+CREATE TRIGGER recruiters_count AFTER INSERT OR DELETE ON recruiters
+    FOR EACH ROW EXECUTE FUNCTION count_rows('recruiters');
+CREATE TRIGGER jobs_count AFTER INSERT OR DELETE ON jobs
+    FOR EACH ROW EXECUTE FUNCTION count_rows('jobs');
+CREATE TRIGGER applications_count AFTER INSERT OR DELETE ON applications
+    FOR EACH ROW EXECUTE FUNCTION count_rows('applications');
+CREATE TRIGGER resumes_count AFTER INSERT OR DELETE ON resumes
+    FOR EACH ROW EXECUTE FUNCTION count_rows('resumes');
+
+CREATE TRIGGER jobs_active_count AFTER INSERT OR DELETE OR UPDATE OF status ON jobs
+    FOR EACH ROW EXECUTE FUNCTION count_active_jobs();
+CREATE TRIGGER applications_activity AFTER INSERT ON applications
+    FOR EACH ROW EXECUTE FUNCTION record_application();
+CREATE TRIGGER resumes_activity AFTER INSERT ON resumes
+    FOR EACH ROW EXECUTE FUNCTION record_resume_upload();
+
+-- Start from the current contents; the triggers keep the numbers right from here on
+INSERT INTO platform_counters (name, slot, value)
+SELECT 'users', 0, COUNT(*) FROM users
+UNION ALL SELECT 'candidates', 0, COUNT(*) FROM candidates
+UNION ALL SELECT 'recruiters', 0, COUNT(*) FROM recruiters
+UNION ALL SELECT 'jobs', 0, COUNT(*) FROM jobs
+UNION ALL SELECT 'active_jobs', 0, COUNT(*) FROM jobs WHERE status = 'ACTIVE'
+UNION ALL SELECT 'applications', 0, COUNT(*) FROM applications
+UNION ALL SELECT 'resumes', 0, COUNT(*) FROM resumes
+ON CONFLICT (name, slot) DO UPDATE SET value = platform_counters.value + EXCLUDED.value;
+
+INSERT INTO activity_buckets (metric, bucket_start, slot, count)
+SELECT 'applications_per_day', date_trunc('day', applied_at), 0, COUNT(*)
+FROM applications
+GROUP BY date_trunc('day', applied_at)
+ON CONFLICT (metric, bucket_start, slot) DO UPDATE SET count = activity_buckets.count + EXCLUDED.count;
+
+INSERT INTO activity_buckets (metric, bucket_start, slot, count)
+SELECT 'resume_uploads_per_hour', date_trunc('hour', created_at), 0, COUNT(*)
+FROM resumes
+GROUP BY date_trunc('hour', created_at)
+ON CONFLICT (metric, bucket_start, slot) DO UPDATE SET count = activity_buckets.count + EXCLUDED.count;
@@ -0,0 +1,107 @@
+package com.jobboard.benchmark;
+
+import com.jobboard.domain.Job;
+import com.jobboard.domain.JobSkill;
+import com.jobboard.matching.CandidateFeatures;
+import com.jobboard.matching.CandidatePool;
+import com.jobboard.matching.CandidateRanker;
+import com.jobboard.matching.JobFeatures;
+import com.jobboard.matching.RankedCandidate;
+import com.jobboard.service.SkillTaxonomyService;
+import com.jobboard.skill.SkillTaxonomy;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to rank a synthetic candidate pool for one job and keep the top 100,
+ * on a fork/join pool with one worker per core.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = { "-Xmx4g" })
+@State(Scope.Benchmark)
+public class CandidateRankingBenchmark {
+
+    private static final String[] JOB_SKILLS = { "java", "spring boot", "postgresql", "kubernetes", "aws", "kafka" };
+
+    @Param({ "100000", "1000000" })
+    private int candidates;
+
+    private CandidatePool pool;
+    private JobFeatures jobFeatures;
+    private ForkJoinPool executor;
+    private int currentMonth;
+
+    @Setup
+    public void setUp() throws IOException {
+        SkillTaxonomy taxonomy = new SkillTaxonomyService(new ClassPathResource("skills/taxonomy.json")).current();
+        int[] skillIds = taxonomy.skillIds().stream().mapToInt(Integer::intValue).toArray();
+        Random random = new Random(42);
+
+        long[] candidateIds = new long[candidates];
+        CandidateFeatures[] features = new CandidateFeatures[candidates];
+        for (int i = 0; i < candidates; i++) {
+            CandidateFeatures.Builder builder = CandidateFeatures.builder(taxonomy);
+            int skillCount = 3 + random.nextInt(15);
+            for (int s = 0; s < skillCount; s++) {
+                builder.addSkill(skillIds[random.nextInt(skillIds.length)], null,
+                        random.nextInt(4) == 0 ? null : random.nextInt(12));
+            }
+            LocalDate start = LocalDate.of(2005 + random.nextInt(18), 1 + random.nextInt(12), 1);
+            builder.addExperience(start, random.nextBoolean() ? null : start.plusMonths(6 + random.nextInt(60)));
+            builder.addEducation(random.nextBoolean() ? "Bachelor of Science" : "Master of Engineering");
+            candidateIds[i] = i + 1;
+            features[i] = builder.build();
+        }
+        pool = new CandidatePool(taxonomy.getVersion(), candidateIds, features);
+
+        Job job = new Job();
+        job.setDescription("Senior platform engineer");
+        job.setRequirements("Bachelor's degree in Computer Science");
+        List<JobSkill> jobSkills = new ArrayList<>();
+        for (int i = 0; i < JOB_SKILLS.length; i++) {
+            JobSkill jobSkill = new JobSkill();
+            jobSkill.setJob(job);
+            jobSkill.setSkillName(JOB_SKILLS[i]);
+            jobSkill.setRequired(i < 3);
+            jobSkill.setMinYears(2);
+            jobSkill.setWeight(BigDecimal.ONE);
+            jobSkills.add(jobSkill);
+        }
+        job.setJobSkills(jobSkills);
+        jobFeatures = JobFeatures.of(job, taxonomy);
+
+        executor = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        currentMonth = CandidateFeatures.epochMonth(LocalDate.now());
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public List<RankedCandidate> top100() {
+        return CandidateRanker.topK(pool, jobFeatures, 100, currentMonth, executor);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CandidateRankingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
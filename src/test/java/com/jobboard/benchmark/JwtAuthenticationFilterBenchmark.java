@@ -0,0 +1,112 @@
+package com.jobboard.benchmark;
+
+import com.jobboard.domain.Role;
+import com.jobboard.domain.User;
+import com.jobboard.repository.UserRepository;
+import com.jobboard.security.CustomUserDetailsService;
+import com.jobboard.security.JwtAuthenticationFilter;
+import com.jobboard.security.JwtTokenProvider;
+import com.jobboard.security.TokenRevocationService;
+import com.jobboard.security.UserPrincipal;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Throughput of the JWT filter when the principal comes from token claims,
+ * compared with tokens without role claims, which take the old path of loading
+ * the user and roles on every request. The user lookup waits
+ * {@code dbRoundTripMicros} to stand in for the query; 0 isolates the CPU cost.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "mySecretKey123456789012345678901234567890";
+
+    @Param({ "0", "300" })
+    public int dbRoundTripMicros;
+
+    private JwtAuthenticationFilter filter;
+    private String claimsToken;
+    private String legacyToken;
+
+    @Setup
+    public void setUp() {
+        User user = new User("bench@example.com", "password", "Bench", "User");
+        user.setId(42L);
+        user.setRoles(Set.of(new Role(Role.RoleName.CANDIDATE)));
+
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+        Mockito.when(userRepository.findByIdWithRoles(42L)).thenAnswer(invocation -> {
+            if (dbRoundTripMicros > 0) {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(dbRoundTripMicros));
+            }
+            return Optional.of(user);
+        });
+        CustomUserDetailsService userDetailsService = new CustomUserDetailsService();
+        ReflectionTestUtils.setField(userDetailsService, "userRepository", userRepository);
+
+        JwtTokenProvider tokenProvider = new JwtTokenProvider(SECRET, 86400000, 604800000);
+        filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "tokenProvider", tokenProvider);
+        ReflectionTestUtils.setField(filter, "customUserDetailsService", userDetailsService);
+        ReflectionTestUtils.setField(filter, "tokenRevocationService", new TokenRevocationService());
+
+        UserPrincipal principal = UserPrincipal.create(user);
+        claimsToken = tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        legacyToken = Jwts.builder()
+                .setSubject("42")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 86400000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .compact();
+    }
+
+    @Benchmark
+    public Object claimsPrincipal() throws Exception {
+        return authenticate(claimsToken);
+    }
+
+    @Benchmark
+    public Object userLookupPerRequest() throws Exception {
+        return authenticate(legacyToken);
+    }
+
+    private Object authenticate(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/candidates/profile");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtAuthenticationFilterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,93 @@
+package com.jobboard.benchmark;
+
+import com.jobboard.domain.Role;
+import com.jobboard.domain.User;
+import com.jobboard.security.JwtTokenProvider;
+import com.jobboard.security.UserPrincipal;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import javax.crypto.SecretKey;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access tokens verified per second on one core: building a parser for every
+ * call as the provider used to, reusing one parser, and answering repeat tokens
+ * from the verified-token cache. Requests rotate over {@code activeTokens}
+ * distinct tokens, standing in for concurrent sessions.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+@State(Scope.Thread)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "mySecretKey123456789012345678901234567890";
+
+    @Param({ "1000" })
+    public int activeTokens;
+
+    private SecretKey key;
+    private JwtTokenProvider sharedParserProvider;
+    private JwtTokenProvider cachingProvider;
+    private String[] tokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        sharedParserProvider = new JwtTokenProvider(SECRET, 86400000, 604800000, 0);
+        cachingProvider = new JwtTokenProvider(SECRET, 86400000, 604800000, 10_000);
+
+        tokens = new String[activeTokens];
+        for (int i = 0; i < activeTokens; i++) {
+            User user = new User("user" + i + "@example.com", "password", "Bench", "User");
+            user.setId((long) i + 1);
+            user.setRoles(Set.of(new Role(Role.RoleName.CANDIDATE)));
+            UserPrincipal principal = UserPrincipal.create(user);
+            tokens[i] = sharedParserProvider.generateToken(
+                    new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        }
+    }
+
+    @Benchmark
+    public Claims parserPerCall() {
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(nextToken())
+                .getBody();
+    }
+
+    @Benchmark
+    public Claims sharedParser() {
+        return sharedParserProvider.parseToken(nextToken());
+    }
+
+    @Benchmark
+    public Claims cachedVerification() {
+        return cachingProvider.parseToken(nextToken());
+    }
+
+    private String nextToken() {
+        String token = tokens[next];
+        next = next + 1 == tokens.length ? 0 : next + 1;
+        return token;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
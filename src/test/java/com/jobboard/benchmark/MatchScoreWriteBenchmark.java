@@ -0,0 +1,194 @@
+package com.jobboard.benchmark;
+
+import com.jobboard.domain.Candidate;
+import com.jobboard.domain.Job;
+import com.jobboard.domain.JobSkill;
+import com.jobboard.domain.MatchScore;
+import com.jobboard.matching.CandidateFeatures;
+import com.jobboard.matching.JobFeatures;
+import com.jobboard.matching.ScoreDetails;
+import com.jobboard.repository.MatchScoreWriteRepository;
+import com.jobboard.service.SkillTaxonomyService;
+import com.jobboard.skill.SkillTaxonomy;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to upsert a list of match scores into a real Postgres, through JDBC
+ * batches rewritten into multi-row inserts and through COPY into a staging
+ * table. Every pair already has a row after the first iteration, so most writes
+ * are updates, as in recomputation. Rows per second is {@code rows} divided by
+ * the time per op; results are in benchmarks.md.
+ * <p>
+ * Postgres is started with Testcontainers, so Docker must be available, unless
+ * {@code -Dbenchmark.jdbc.url} (with {@code .user} and {@code .password}) points
+ * at an existing server. Each trial then works in its own schema and drops it
+ * afterwards.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MatchScoreWriteBenchmark {
+
+    private static final int CANDIDATES = 2_000;
+    private static final int JOBS = 50;
+
+    private static final String SCHEMA = "match_score_benchmark";
+
+    private static final String[] JOB_SKILLS = { "java", "spring", "kubernetes", "python", "sql", "graphql" };
+
+    @Param({ "500", "5000", "50000" })
+    private int rows;
+
+    @Param({ "batch", "copy" })
+    private String path;
+
+    private PostgreSQLContainer<?> postgres;
+    private JdbcTemplate jdbcTemplate;
+    private MatchScoreWriteRepository repository;
+    private TransactionTemplate transactionTemplate;
+    private List<MatchScore> scores;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        String url = System.getProperty("benchmark.jdbc.url");
+        String user = System.getProperty("benchmark.jdbc.user", "postgres");
+        String password = System.getProperty("benchmark.jdbc.password", "");
+        if (url == null) {
+            postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+            postgres.start();
+            url = postgres.getJdbcUrl();
+            user = postgres.getUsername();
+            password = postgres.getPassword();
+        }
+        url += (url.contains("?") ? "&" : "?") + "currentSchema=" + SCHEMA + "&reWriteBatchedInserts=true";
+
+        Flyway.configure().dataSource(url, user, password).schemas(SCHEMA).load().migrate();
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url, user, password);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        List<Long> candidateIds = seedCandidates(jdbcTemplate);
+        List<Long> jobIds = seedJobs(jdbcTemplate);
+
+        repository = new MatchScoreWriteRepository();
+        ReflectionTestUtils.setField(repository, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(repository, "namedParameterJdbcTemplate",
+                new NamedParameterJdbcTemplate(jdbcTemplate));
+        ReflectionTestUtils.setField(repository, "copyThreshold", "copy".equals(path) ? 0 : Integer.MAX_VALUE);
+        // The staging table only keeps its rows within a transaction, as under @Transactional
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        SkillTaxonomy taxonomy = new SkillTaxonomyService(new ClassPathResource("skills/taxonomy.json")).current();
+        JobFeatures jobFeatures = JobFeatures.of(job(), taxonomy);
+        int currentMonth = CandidateFeatures.epochMonth(LocalDate.now());
+        scores = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            MatchScore score = score(candidateIds.get(i % CANDIDATES), jobIds.get(i / CANDIDATES % JOBS));
+            score.setDetails(ScoreDetails.of(candidateFeatures(taxonomy), jobFeatures, currentMonth));
+            scores.add(score);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (postgres != null) {
+            postgres.stop();
+        } else {
+            jdbcTemplate.execute("DROP SCHEMA " + SCHEMA + " CASCADE");
+        }
+    }
+
+    @Benchmark
+    public void upsertAll() {
+        transactionTemplate.executeWithoutResult(status -> repository.upsertAll(scores));
+    }
+
+    private static List<Long> seedCandidates(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("INSERT INTO users (email, password, first_name, last_name) " +
+                "SELECT 'candidate' || i || '@bench.test', 'x', 'Bench', 'Candidate' " +
+                "FROM generate_series(1, ?) i", CANDIDATES);
+        jdbcTemplate.update("INSERT INTO candidates (user_id) " +
+                "SELECT id FROM users WHERE email LIKE 'candidate%@bench.test'");
+        return jdbcTemplate.queryForList("SELECT id FROM candidates ORDER BY id", Long.class);
+    }
+
+    private static List<Long> seedJobs(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("INSERT INTO users (email, password, first_name, last_name) " +
+                "VALUES ('recruiter@bench.test', 'x', 'Bench', 'Recruiter')");
+        jdbcTemplate.update("INSERT INTO recruiters (user_id) " +
+                "SELECT id FROM users WHERE email = 'recruiter@bench.test'");
+        jdbcTemplate.update("INSERT INTO jobs (recruiter_id, title) " +
+                "SELECT r.id, 'Job ' || i FROM recruiters r, generate_series(1, ?) i", JOBS);
+        return jdbcTemplate.queryForList("SELECT id FROM jobs ORDER BY id", Long.class);
+    }
+
+    private static MatchScore score(Long candidateId, Long jobId) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Candidate candidate = new Candidate();
+        candidate.setId(candidateId);
+        Job job = new Job();
+        job.setId(jobId);
+
+        MatchScore score = new MatchScore(candidate, job);
+        score.setTotalScore(BigDecimal.valueOf(random.nextInt(10_000), 2));
+        score.setSkillScore(BigDecimal.valueOf(random.nextInt(10_000), 2));
+        score.setExpScore(BigDecimal.valueOf(random.nextInt(10_000), 2));
+        score.setEduScore(BigDecimal.valueOf(random.nextInt(10_000), 2));
+        return score;
+    }
+
+    private static Job job() {
+        Job job = new Job();
+        List<JobSkill> jobSkills = new ArrayList<>();
+        for (String skillName : JOB_SKILLS) {
+            JobSkill jobSkill = new JobSkill();
+            jobSkill.setJob(job);
+            jobSkill.setSkillName(skillName);
+            jobSkills.add(jobSkill);
+        }
+        job.setJobSkills(jobSkills);
+        return job;
+    }
+
+    // Matches about half of the job skills, with varying years
+    private static CandidateFeatures candidateFeatures(SkillTaxonomy taxonomy) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        CandidateFeatures.Builder builder = CandidateFeatures.builder(taxonomy);
+        for (String skillName : JOB_SKILLS) {
+            if (random.nextBoolean()) {
+                builder.addSkill(null, skillName, random.nextInt(12));
+            }
+        }
+        return builder
+                .addExperience(LocalDate.now().minusMonths(random.nextInt(240)), null)
+                .addEducation("Bachelor of Science")
+                .build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MatchScoreWriteBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
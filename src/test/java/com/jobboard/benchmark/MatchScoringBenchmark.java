@@ -0,0 +1,108 @@
+package com.jobboard.benchmark;
+
+import com.jobboard.domain.*;
+import com.jobboard.matching.CandidateFeatures;
+import com.jobboard.matching.JobFeatures;
+import com.jobboard.matching.MatchScorer;
+import com.jobboard.service.SkillTaxonomyService;
+import com.jobboard.skill.SkillTaxonomy;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of scoring one candidate/job pair from cached features, compared with
+ * building the candidate snapshot from the entity graph on every call as the
+ * scorer did before features were cached.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MatchScoringBenchmark {
+
+    private static final String[] RESUME_SKILLS = {
+            "java", "spring boot", "postgresql", "docker", "kubernetes", "aws", "react", "typescript",
+            "junit", "jenkins", "git", "linux", "rest", "microservices", "agile" };
+
+    private static final String[] JOB_SKILLS = { "java", "spring", "kubernetes", "python", "sql", "graphql" };
+
+    private SkillTaxonomy taxonomy;
+    private Candidate candidate;
+    private CandidateFeatures candidateFeatures;
+    private JobFeatures jobFeatures;
+    private int currentMonth;
+
+    @Setup
+    public void setUp() throws IOException {
+        taxonomy = new SkillTaxonomyService(new ClassPathResource("skills/taxonomy.json")).current();
+
+        candidate = new Candidate();
+        Resume resume = new Resume();
+        List<ResumeSkill> skills = new ArrayList<>();
+        for (int i = 0; i < RESUME_SKILLS.length; i++) {
+            ResumeSkill skill = new ResumeSkill(resume, RESUME_SKILLS[i]);
+            skill.setYearsExp(i % 3 == 0 ? null : i % 8);
+            skills.add(skill);
+        }
+        resume.setResumeSkills(skills);
+        candidate.setResumes(List.of(resume));
+
+        Experience past = new Experience();
+        past.setStartDate(LocalDate.of(2016, 3, 1));
+        past.setEndDate(LocalDate.of(2020, 9, 1));
+        Experience current = new Experience();
+        current.setStartDate(LocalDate.of(2020, 10, 1));
+        candidate.setExperiences(List.of(past, current));
+
+        Education education = new Education();
+        education.setDegree("Bachelor of Engineering");
+        candidate.setEducations(List.of(education));
+
+        Job job = new Job();
+        job.setDescription("Senior backend engineer for our payments platform");
+        job.setRequirements("Bachelor's degree in Computer Science or equivalent");
+        List<JobSkill> jobSkills = new ArrayList<>();
+        for (int i = 0; i < JOB_SKILLS.length; i++) {
+            JobSkill jobSkill = new JobSkill();
+            jobSkill.setJob(job);
+            jobSkill.setSkillName(JOB_SKILLS[i]);
+            jobSkill.setRequired(i < 3);
+            jobSkill.setMinYears(i + 1);
+            jobSkill.setWeight(BigDecimal.valueOf(1.0 / (i + 1)));
+            jobSkills.add(jobSkill);
+        }
+        job.setJobSkills(jobSkills);
+
+        candidateFeatures = CandidateFeatures.of(candidate, taxonomy);
+        jobFeatures = JobFeatures.of(job, taxonomy);
+        currentMonth = CandidateFeatures.epochMonth(LocalDate.now());
+    }
+
+    @Benchmark
+    public double cachedFeatures() {
+        return MatchScorer.score(candidateFeatures, jobFeatures, currentMonth);
+    }
+
+    @Benchmark
+    public double featuresPerCall() {
+        return MatchScorer.score(CandidateFeatures.of(candidate, taxonomy), jobFeatures, currentMonth);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MatchScoringBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
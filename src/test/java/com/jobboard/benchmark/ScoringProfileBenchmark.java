@@ -0,0 +1,205 @@
+package com.jobboard.benchmark;
+
+import com.jobboard.domain.Job;
+import com.jobboard.domain.JobSkill;
+import com.jobboard.matching.CandidateFeatures;
+import com.jobboard.matching.JobFeatures;
+import com.jobboard.matching.ScoringEvaluator;
+import com.jobboard.matching.ScoringProfile;
+import com.jobboard.service.SkillTaxonomyService;
+import com.jobboard.skill.SkillTaxonomy;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of scoring the same candidate pool against one job with the scoring
+ * constants hard-coded, as before per-job profiles, and through an evaluator
+ * compiled from the default profile and from a custom one with a non-linear
+ * required-skill penalty. Each op scores the whole pool. Results are in
+ * benchmarks.md.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ScoringProfileBenchmark {
+
+    private static final int CANDIDATES = 10_000;
+
+    private static final String[] SKILLS = {
+            "java", "spring boot", "postgresql", "docker", "kubernetes", "aws", "react", "typescript",
+            "python", "sql", "graphql", "git", "linux" };
+
+    private static final String[] JOB_SKILLS = { "java", "spring", "kubernetes", "python", "sql", "graphql" };
+
+    private CandidateFeatures[] candidates;
+    private JobFeatures jobFeatures;
+    private ScoringEvaluator defaultEvaluator;
+    private ScoringEvaluator customEvaluator;
+    private int currentMonth;
+
+    @Setup
+    public void setUp() throws IOException {
+        SkillTaxonomy taxonomy = new SkillTaxonomyService(new ClassPathResource("skills/taxonomy.json")).current();
+        currentMonth = CandidateFeatures.epochMonth(LocalDate.now());
+
+        Random random = new Random(42);
+        candidates = new CandidateFeatures[CANDIDATES];
+        for (int i = 0; i < CANDIDATES; i++) {
+            CandidateFeatures.Builder builder = CandidateFeatures.builder(taxonomy);
+            for (String skill : SKILLS) {
+                if (random.nextInt(3) == 0) {
+                    builder.addSkill(null, skill, random.nextInt(4) == 0 ? null : random.nextInt(12));
+                }
+            }
+            builder.addExperience(LocalDate.now().minusMonths(random.nextInt(180)), null);
+            if (random.nextBoolean()) {
+                builder.addEducation(random.nextBoolean() ? "Bachelor of Science" : "Associate Degree");
+            }
+            candidates[i] = builder.build();
+        }
+
+        Job job = new Job();
+        job.setDescription("Senior backend engineer for our payments platform");
+        job.setRequirements("Master's degree in Computer Science or equivalent");
+        List<JobSkill> jobSkills = new ArrayList<>();
+        for (int i = 0; i < JOB_SKILLS.length; i++) {
+            JobSkill jobSkill = new JobSkill();
+            jobSkill.setJob(job);
+            jobSkill.setSkillName(JOB_SKILLS[i]);
+            jobSkill.setRequired(i < 3);
+            jobSkill.setMinYears(i + 1);
+            jobSkill.setWeight(BigDecimal.valueOf(1.0 / (i + 1)));
+            jobSkills.add(jobSkill);
+        }
+        job.setJobSkills(jobSkills);
+        jobFeatures = JobFeatures.of(job, taxonomy);
+
+        defaultEvaluator = ScoringEvaluator.DEFAULT;
+        customEvaluator = ScoringEvaluator.compile(
+                new ScoringProfile(0.6, 0.25, 0.15, 60.0, 4.0, 20.0, 40.0, 2.0, 10.0, 40.0, 20.0));
+    }
+
+    @Benchmark
+    public double hardCoded() {
+        double sum = 0.0;
+        for (CandidateFeatures candidate : candidates) {
+            sum += HardCodedScorer.score(candidate, jobFeatures, currentMonth);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double defaultProfile() {
+        double sum = 0.0;
+        for (CandidateFeatures candidate : candidates) {
+            sum += defaultEvaluator.score(candidate, jobFeatures, currentMonth);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double customProfile() {
+        double sum = 0.0;
+        for (CandidateFeatures candidate : candidates) {
+            sum += customEvaluator.score(candidate, jobFeatures, currentMonth);
+        }
+        return sum;
+    }
+
+    // The scorer as it was before profiles, constants inlined, kept as the baseline
+    private static final class HardCodedScorer {
+
+        static double score(CandidateFeatures candidate, JobFeatures job, int currentEpochMonth) {
+            return skillScore(candidate, job) * 0.5 +
+                    experienceScore(candidate, job, currentEpochMonth) * 0.3 +
+                    educationScore(candidate, job) * 0.2;
+        }
+
+        static double skillScore(CandidateFeatures candidate, JobFeatures job) {
+            int skillCount = job.getSkillCount();
+            if (skillCount == 0) {
+                return 100.0;
+            }
+            if (candidate.getSkillCount() == 0) {
+                return 0.0;
+            }
+
+            double totalWeightedScore = 0.0;
+            int matchedRequiredSkills = 0;
+            for (int i = 0; i < skillCount; i++) {
+                int index = candidate.indexOf(job.skillIdAt(i));
+                if (index < 0) {
+                    continue;
+                }
+                totalWeightedScore += individualSkillScore(candidate.yearsAt(index), job.minYearsAt(i)) * job.weightAt(i);
+                if (job.isRequiredAt(i)) {
+                    matchedRequiredSkills++;
+                }
+            }
+
+            int totalRequiredSkills = job.getRequiredSkillCount();
+            double requiredSkillsPenalty = totalRequiredSkills > 0
+                    ? (double) matchedRequiredSkills / totalRequiredSkills
+                    : 1.0;
+            double totalWeight = job.getTotalWeight();
+            double averageScore = totalWeight > 0 ? totalWeightedScore / totalWeight : 0.0;
+            return Math.min(100.0, averageScore * requiredSkillsPenalty);
+        }
+
+        static double individualSkillScore(int candidateYears, int requiredYears) {
+            if (candidateYears == CandidateFeatures.NO_YEARS) {
+                return 70.0;
+            }
+            if (candidateYears >= requiredYears) {
+                return 100.0 + Math.min(30.0, (candidateYears - requiredYears) * 5.0);
+            }
+            return Math.max(50.0, (double) candidateYears / requiredYears * 100.0);
+        }
+
+        static double experienceScore(CandidateFeatures candidate, JobFeatures job, int currentEpochMonth) {
+            int totalMonths = candidate.experienceMonths(currentEpochMonth);
+            int requiredMonths = job.getRequiredExperienceMonths();
+            if (totalMonths >= requiredMonths) {
+                return 100.0;
+            } else if (totalMonths == 0) {
+                return 20.0;
+            }
+            return Math.max(20.0, (double) totalMonths / requiredMonths * 100.0);
+        }
+
+        static double educationScore(CandidateFeatures candidate, JobFeatures job) {
+            int requiredLevel = job.getRequiredEducationLevel();
+            if (requiredLevel == JobFeatures.NO_EDUCATION) {
+                return 100.0;
+            }
+            int candidateLevel = candidate.getEducationLevel();
+            if (candidateLevel == CandidateFeatures.NO_EDUCATION) {
+                return 50.0;
+            }
+            if (candidateLevel >= requiredLevel) {
+                return 100.0;
+            }
+            return Math.max(30.0, (double) candidateLevel / requiredLevel * 100.0);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ScoringProfileBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
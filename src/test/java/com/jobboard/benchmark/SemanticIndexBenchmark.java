@@ -0,0 +1,160 @@
+package com.jobboard.benchmark;
+
+import com.jobboard.semantic.HnswIndex;
+import com.jobboard.semantic.Neighbor;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The semantic job index at 10k and 100k jobs of 128-dimensional embeddings:
+ * <ul>
+ *   <li>{@code search}: one top-10 lookup in the HNSW index</li>
+ *   <li>{@code exactSearch}: the same lookup as a scan over float vectors</li>
+ *   <li>{@code build}: indexing every vector from scratch, single shot</li>
+ * </ul>
+ * Setup also prints recall@10 of the index against the exact scan over 200
+ * queries, and the heap held per indexed vector next to a plain float array.
+ * Vectors are scattered around a few hundred random centers, as embeddings of
+ * job titles cluster by role.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = { "-Xmx4g" })
+@State(Scope.Benchmark)
+public class SemanticIndexBenchmark {
+
+    private static final int DIMENSION = 128;
+    private static final int CENTERS = 300;
+    private static final int K = 10;
+    private static final int M = 12;
+    private static final int EF_CONSTRUCTION = 100;
+    private static final int EF_SEARCH = 64;
+    private static final int RECALL_QUERIES = 200;
+
+    @Param({ "10000", "100000" })
+    private int vectors;
+
+    private float[][] data;
+    private float[][] queries;
+    private HnswIndex index;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(13);
+        float[][] centers = new float[CENTERS][];
+        for (int i = 0; i < CENTERS; i++) {
+            centers[i] = randomVector(random, null);
+        }
+        data = new float[vectors][];
+        for (int i = 0; i < vectors; i++) {
+            data[i] = randomVector(random, centers[random.nextInt(CENTERS)]);
+        }
+        queries = new float[1024][];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = randomVector(random, centers[random.nextInt(CENTERS)]);
+        }
+
+        long startedAt = System.nanoTime();
+        index = buildIndex();
+        long buildMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        int found = 0;
+        for (int q = 0; q < RECALL_QUERIES; q++) {
+            Set<Long> exact = new HashSet<>();
+            for (Neighbor neighbor : exactTopK(queries[q])) {
+                exact.add(neighbor.id());
+            }
+            for (Neighbor neighbor : index.search(queries[q], K, EF_SEARCH)) {
+                if (exact.contains(neighbor.id())) {
+                    found++;
+                }
+            }
+        }
+        System.out.printf("%n%d vectors: built in %d ms, %d bytes per vector (%d as floats), recall@%d %.3f%n",
+                vectors, buildMillis, index.bytesPerVector(), DIMENSION * Float.BYTES, K,
+                found / (double) (RECALL_QUERIES * K));
+    }
+
+    @Benchmark
+    public List<Neighbor> search() {
+        return index.search(nextQuery(), K, EF_SEARCH);
+    }
+
+    @Benchmark
+    public List<Neighbor> exactSearch() {
+        return exactTopK(nextQuery());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public HnswIndex build() {
+        return buildIndex();
+    }
+
+    private HnswIndex buildIndex() {
+        HnswIndex built = new HnswIndex(DIMENSION, M, EF_CONSTRUCTION, 1);
+        for (int i = 0; i < data.length; i++) {
+            built.add(i, data[i]);
+        }
+        return built;
+    }
+
+    private float[] nextQuery() {
+        next = (next + 1) & (queries.length - 1);
+        return queries[next];
+    }
+
+    private List<Neighbor> exactTopK(float[] query) {
+        // Min-heap of the best K seen so far
+        PriorityQueue<Neighbor> best = new PriorityQueue<>(Comparator.comparingDouble(Neighbor::similarity));
+        for (int i = 0; i < data.length; i++) {
+            float similarity = 0f;
+            float[] vector = data[i];
+            for (int d = 0; d < DIMENSION; d++) {
+                similarity += query[d] * vector[d];
+            }
+            if (best.size() < K) {
+                best.add(new Neighbor(i, similarity));
+            } else if (similarity > best.peek().similarity()) {
+                best.poll();
+                best.add(new Neighbor(i, similarity));
+            }
+        }
+        List<Neighbor> sorted = new ArrayList<>(best);
+        sorted.sort(Comparator.comparingDouble(Neighbor::similarity).reversed());
+        return sorted;
+    }
+
+    private static float[] randomVector(Random random, float[] center) {
+        float[] vector = new float[DIMENSION];
+        double norm = 0.0;
+        for (int d = 0; d < DIMENSION; d++) {
+            vector[d] = (float) (center != null
+                    ? center[d] + 0.08 * random.nextGaussian()
+                    : random.nextGaussian() / Math.sqrt(DIMENSION));
+            norm += vector[d] * vector[d];
+        }
+        float inverse = (float) (1.0 / Math.sqrt(norm));
+        for (int d = 0; d < DIMENSION; d++) {
+            vector[d] *= inverse;
+        }
+        return vector;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SemanticIndexBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
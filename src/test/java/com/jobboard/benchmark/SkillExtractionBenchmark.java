@@ -0,0 +1,147 @@
+package com.jobboard.benchmark;
+
+import com.jobboard.domain.Resume;
+import com.jobboard.domain.ResumeSkill;
+import com.jobboard.service.ResumeParsingService;
+import com.jobboard.service.SkillTaxonomyService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the single-pass skill matcher against the previous regex-per-skill
+ * extraction on synthetic resumes of 1 KB, 10 KB and 100 KB.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SkillExtractionBenchmark {
+
+    private static final String PARAGRAPH = """
+            Senior Software Engineer with 7 years of Java experience building microservices
+            on Spring Boot and PostgreSQL. Proficient in Docker (4 years) and Kubernetes - 2 years.
+            Familiar with React, TypeScript and GraphQL. Led agile teams using Scrum and Jenkins
+            pipelines on AWS. Wrote JUnit tests and maintained Linux build agents.
+            Responsible for design reviews, mentoring and production support rotations.
+            """;
+
+    @Param({ "1024", "10240", "102400" })
+    private int size;
+
+    private String text;
+    private Resume resume;
+    private ResumeParsingService parsingService;
+
+    @Setup
+    public void setUp() throws IOException {
+        StringBuilder builder = new StringBuilder(size + PARAGRAPH.length());
+        while (builder.length() < size) {
+            builder.append(PARAGRAPH);
+        }
+        text = builder.substring(0, size);
+        resume = new Resume();
+        parsingService = new ResumeParsingService();
+        ReflectionTestUtils.setField(parsingService, "skillTaxonomyService",
+                new SkillTaxonomyService(new ClassPathResource("skills/taxonomy.json")));
+    }
+
+    @Benchmark
+    public List<ResumeSkill> automaton() {
+        return parsingService.extractSkills(resume, text);
+    }
+
+    @Benchmark
+    public List<ResumeSkill> regexPerSkill() {
+        return LegacySkillExtractor.extractSkills(resume, text);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SkillExtractionBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    /**
+     * The extraction path as it was before the automaton, kept as the baseline.
+     */
+    static final class LegacySkillExtractor {
+
+        private static final Set<String> TECH_SKILLS = Set.of(
+                "java", "python", "javascript", "typescript", "c++", "c#", "php", "ruby", "go", "rust",
+                "spring", "spring boot", "react", "angular", "vue", "node.js", "express", "django", "flask",
+                "mysql", "postgresql", "mongodb", "redis", "elasticsearch", "docker", "kubernetes",
+                "aws", "azure", "gcp", "jenkins", "git", "linux", "html", "css", "sql", "nosql",
+                "microservices", "rest", "graphql", "junit", "testing", "agile", "scrum", "devops");
+
+        static List<ResumeSkill> extractSkills(Resume resume, String text) {
+            List<ResumeSkill> skills = new ArrayList<>();
+            String lowerText = text.toLowerCase();
+
+            for (String skill : TECH_SKILLS) {
+                Pattern pattern = Pattern.compile("\\b" + Pattern.quote(skill) + "\\b", Pattern.CASE_INSENSITIVE);
+                if (pattern.matcher(lowerText).find()) {
+                    ResumeSkill resumeSkill = new ResumeSkill(resume, skill);
+                    resumeSkill.setYearsExp(extractYearsOfExperience(text, skill));
+                    resumeSkill.setProficiency(determineProficiency(text, skill));
+                    skills.add(resumeSkill);
+                }
+            }
+
+            return skills;
+        }
+
+        private static Integer extractYearsOfExperience(String text, String skill) {
+            String[] patterns = {
+                    "\\b(\\d+)\\s+years?\\s+(?:of\\s+)?" + Pattern.quote(skill),
+                    Pattern.quote(skill) + "\\s*\\(\\s*(\\d+)\\s+years?\\)",
+                    Pattern.quote(skill) + "\\s*-\\s*(\\d+)\\s+years?"
+            };
+
+            for (String patternStr : patterns) {
+                Matcher matcher = Pattern.compile(patternStr, Pattern.CASE_INSENSITIVE).matcher(text);
+                if (matcher.find()) {
+                    return Integer.parseInt(matcher.group(1));
+                }
+            }
+
+            return null;
+        }
+
+        private static ResumeSkill.SkillProficiency determineProficiency(String text, String skill) {
+            String lowerText = text.toLowerCase();
+            int skillIndex = lowerText.indexOf(skill);
+            if (skillIndex == -1) {
+                return ResumeSkill.SkillProficiency.INTERMEDIATE;
+            }
+
+            String context = lowerText.substring(Math.max(0, skillIndex - 50),
+                    Math.min(lowerText.length(), skillIndex + skill.length() + 50));
+            if (context.contains("expert") || context.contains("advanced") ||
+                    context.contains("senior") || context.contains("lead")) {
+                return ResumeSkill.SkillProficiency.EXPERT;
+            } else if (context.contains("proficient") || context.contains("experienced")) {
+                return ResumeSkill.SkillProficiency.ADVANCED;
+            } else if (context.contains("intermediate") || context.contains("familiar")) {
+                return ResumeSkill.SkillProficiency.INTERMEDIATE;
+            } else if (context.contains("beginner") || context.contains("basic")) {
+                return ResumeSkill.SkillProficiency.BEGINNER;
+            }
+
+            return ResumeSkill.SkillProficiency.INTERMEDIATE;
+        }
+    }
+}
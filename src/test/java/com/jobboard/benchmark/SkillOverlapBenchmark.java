@@ -0,0 +1,190 @@
+package com.jobboard.benchmark;
+
+import com.jobboard.domain.Job;
+import com.jobboard.domain.JobSkill;
+import com.jobboard.matching.CandidateFeatures;
+import com.jobboard.matching.JobFeatures;
+import com.jobboard.matching.ScoringEvaluator;
+import com.jobboard.skill.SkillDefinition;
+import com.jobboard.skill.SkillTaxonomy;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the skill part of scoring a 10k candidate pool against one job, for
+ * skill dictionaries of 64, 1k and 20k skills. Three ways of matching are compared:
+ * <ul>
+ *   <li>lowercased names in a hash set, as the scorer first did</li>
+ *   <li>sorted id arrays with binary search, as it did before bitsets</li>
+ *   <li>{@link com.jobboard.matching.SkillBitset} overlap with popcount</li>
+ * </ul>
+ * Skills are drawn with a skew towards low ids, so a few are common and most
+ * are rare, as in real profiles. Results are in benchmarks.md.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SkillOverlapBenchmark {
+
+    private static final int CANDIDATES = 10_000;
+    private static final int CANDIDATE_SKILLS = 20;
+    private static final int JOB_SKILLS = 8;
+
+    @Param({ "64", "1000", "20000" })
+    private int dictionarySize;
+
+    private CandidateFeatures[] candidates;
+    private JobFeatures jobFeatures;
+
+    private int[][] candidateIds;
+    private int[][] candidateYears;
+
+    private Set<String>[] candidateNames;
+    private Map<String, Integer>[] candidateNameYears;
+    private String[] jobSkillNames;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        List<SkillDefinition> definitions = new ArrayList<>(dictionarySize);
+        for (int id = 0; id < dictionarySize; id++) {
+            definitions.add(new SkillDefinition(id, "Skill " + id, List.of(), null));
+        }
+        SkillTaxonomy taxonomy = SkillTaxonomy.compile(definitions, 1);
+        Random random = new Random(17);
+
+        candidates = new CandidateFeatures[CANDIDATES];
+        candidateIds = new int[CANDIDATES][];
+        candidateYears = new int[CANDIDATES][];
+        candidateNames = new Set[CANDIDATES];
+        candidateNameYears = new Map[CANDIDATES];
+        for (int c = 0; c < CANDIDATES; c++) {
+            CandidateFeatures.Builder builder = CandidateFeatures.builder(taxonomy);
+            Map<String, Integer> years = new HashMap<>();
+            for (int s = 0; s < CANDIDATE_SKILLS; s++) {
+                int skillId = skewedSkill(random);
+                int skillYears = random.nextInt(10);
+                builder.addSkill(skillId, null, skillYears);
+                years.merge("skill " + skillId, skillYears, Math::max);
+            }
+            candidates[c] = builder.addExperience(LocalDate.of(2018, 1, 1), null).build();
+
+            CandidateFeatures features = candidates[c];
+            candidateIds[c] = new int[features.getSkillCount()];
+            candidateYears[c] = new int[features.getSkillCount()];
+            for (int i = 0; i < features.getSkillCount(); i++) {
+                candidateIds[c][i] = features.skillIdAt(i);
+                candidateYears[c][i] = features.yearsAt(i);
+            }
+            candidateNames[c] = years.keySet();
+            candidateNameYears[c] = years;
+        }
+
+        Job job = new Job();
+        job.setDescription("Backend engineer");
+        List<JobSkill> jobSkills = new ArrayList<>();
+        jobSkillNames = new String[JOB_SKILLS];
+        for (int i = 0; i < JOB_SKILLS; i++) {
+            JobSkill jobSkill = new JobSkill();
+            jobSkill.setJob(job);
+            jobSkill.setSkillName("Skill " + skewedSkill(random));
+            jobSkill.setRequired(i < JOB_SKILLS / 2);
+            jobSkill.setMinYears(1 + i % 4);
+            jobSkill.setWeight(BigDecimal.valueOf(1.0 / (i + 1)));
+            jobSkills.add(jobSkill);
+            jobSkillNames[i] = jobSkill.getSkillName();
+        }
+        job.setJobSkills(jobSkills);
+        jobFeatures = JobFeatures.of(job, taxonomy);
+    }
+
+    @Benchmark
+    public double stringSet() {
+        double sum = 0.0;
+        for (int c = 0; c < CANDIDATES; c++) {
+            Set<String> names = candidateNames[c];
+            Map<String, Integer> years = candidateNameYears[c];
+            double totalWeightedScore = 0.0;
+            int matchedRequired = 0;
+            for (int i = 0; i < jobSkillNames.length; i++) {
+                String name = jobSkillNames[i].toLowerCase();
+                if (names.contains(name)) {
+                    totalWeightedScore += individualSkillScore(years.get(name), jobFeatures.minYearsAt(i))
+                            * jobFeatures.weightAt(i);
+                    if (jobFeatures.isRequiredAt(i)) {
+                        matchedRequired++;
+                    }
+                }
+            }
+            sum += finish(totalWeightedScore, matchedRequired);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double sortedIds() {
+        double sum = 0.0;
+        for (int c = 0; c < CANDIDATES; c++) {
+            int[] ids = candidateIds[c];
+            int[] years = candidateYears[c];
+            double totalWeightedScore = 0.0;
+            int matchedRequired = 0;
+            for (int i = 0; i < jobFeatures.getSkillCount(); i++) {
+                int index = Arrays.binarySearch(ids, jobFeatures.skillIdAt(i));
+                if (index >= 0) {
+                    totalWeightedScore += individualSkillScore(years[index], jobFeatures.minYearsAt(i))
+                            * jobFeatures.weightAt(i);
+                    if (jobFeatures.isRequiredAt(i)) {
+                        matchedRequired++;
+                    }
+                }
+            }
+            sum += finish(totalWeightedScore, matchedRequired);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double bitset() {
+        double sum = 0.0;
+        for (CandidateFeatures candidate : candidates) {
+            sum += ScoringEvaluator.DEFAULT.skillScore(candidate, jobFeatures);
+        }
+        return sum;
+    }
+
+    // Cubing a uniform draw puts most picks in the first few percent of ids
+    private int skewedSkill(Random random) {
+        double u = random.nextDouble();
+        return (int) (u * u * u * dictionarySize);
+    }
+
+    private double finish(double totalWeightedScore, int matchedRequired) {
+        int totalRequired = jobFeatures.getRequiredSkillCount();
+        double penalty = totalRequired > 0 ? (double) matchedRequired / totalRequired : 1.0;
+        return Math.min(100.0, totalWeightedScore / jobFeatures.getTotalWeight() * penalty);
+    }
+
+    private static double individualSkillScore(int candidateYears, int requiredYears) {
+        if (candidateYears >= requiredYears) {
+            return 100.0 + Math.min(30.0, (candidateYears - requiredYears) * 5.0);
+        }
+        return Math.max(50.0, (double) candidateYears / requiredYears * 100.0);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SkillOverlapBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
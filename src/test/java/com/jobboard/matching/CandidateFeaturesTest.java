@@ -0,0 +1,179 @@
+package com.jobboard.matching;
+
+import com.jobboard.domain.*;
+import com.jobboard.repository.CandidateRankingRepository;
+import com.jobboard.service.CandidateFeaturesService;
+import com.jobboard.service.SkillTaxonomyService;
+import com.jobboard.skill.SkillTaxonomy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CandidateFeaturesTest {
+
+    private SkillTaxonomy taxonomy;
+    private Candidate candidate;
+    private Resume resume;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        taxonomy = new SkillTaxonomyService(new ClassPathResource("skills/taxonomy.json")).current();
+
+        candidate = new Candidate();
+        candidate.setId(1L);
+        resume = new Resume();
+        resume.setCandidate(candidate);
+        resume.setResumeSkills(new ArrayList<>());
+        candidate.setResumes(new ArrayList<>(List.of(resume)));
+    }
+
+    @Test
+    void shouldKeepMostYearsPerSkillAndImplyBroaderSkills() {
+        // Given
+        addResumeSkill("spring boot", 3);
+        addResumeSkill("Java", 6);
+        addResumeSkill("k8s", null);
+        addResumeSkill("cobol", 10);
+
+        // When
+        CandidateFeatures features = CandidateFeatures.of(candidate, taxonomy);
+
+        // Then - spring boot implies spring and java; unknown skills are dropped
+        assertThat(features.getSkillCount()).isEqualTo(4);
+        assertThat(features.yearsAt(features.indexOf(taxonomy.idOf("java")))).isEqualTo(6);
+        assertThat(features.yearsAt(features.indexOf(taxonomy.idOf("spring")))).isEqualTo(3);
+        assertThat(features.yearsAt(features.indexOf(taxonomy.idOf("kubernetes"))))
+                .isEqualTo(CandidateFeatures.NO_YEARS);
+        assertThat(features.hasSkill(taxonomy.idOf("python"))).isFalse();
+    }
+
+    @Test
+    void shouldCountOngoingExperienceUpToTheScoringMonth() {
+        // Given
+        Experience closed = new Experience();
+        closed.setStartDate(LocalDate.of(2018, 6, 1));
+        closed.setEndDate(LocalDate.of(2020, 1, 1));
+        Experience ongoing = new Experience();
+        ongoing.setStartDate(LocalDate.of(2022, 1, 15));
+        Experience undated = new Experience();
+        candidate.setExperiences(List.of(closed, ongoing, undated));
+
+        // When
+        CandidateFeatures features = CandidateFeatures.of(candidate, taxonomy);
+
+        // Then
+        int march2024 = CandidateFeatures.epochMonth(LocalDate.of(2024, 3, 1));
+        assertThat(features.experienceMonths(march2024)).isEqualTo(19 + 26);
+        assertThat(features.experienceMonths(march2024 + 12)).isEqualTo(19 + 38);
+    }
+
+    @Test
+    void shouldTakeHighestEducationLevel() {
+        // Given
+        Education bachelors = new Education();
+        bachelors.setDegree("Bachelor of Science");
+        Education masters = new Education();
+        masters.setDegree("MBA");
+        candidate.setEducations(List.of(bachelors, masters, new Education()));
+
+        // When
+        CandidateFeatures features = CandidateFeatures.of(candidate, taxonomy);
+
+        // Then
+        assertThat(features.getEducationLevel()).isEqualTo(EducationLevel.MASTERS.ordinal());
+        assertThat(CandidateFeatures.of(new Candidate(), taxonomy).getEducationLevel())
+                .isEqualTo(CandidateFeatures.NO_EDUCATION);
+    }
+
+    @Test
+    void shouldScoreFromFeatures() {
+        // Given
+        addResumeSkill("java", 5);
+        Job job = new Job();
+        job.setDescription("Junior backend role");
+        job.setRequirements("Java");
+        job.setJobSkills(List.of(jobSkill(job, "java", true, 3), jobSkill(job, "docker", false, 1)));
+
+        CandidateFeatures candidateFeatures = CandidateFeatures.of(candidate, taxonomy);
+        JobFeatures jobFeatures = JobFeatures.of(job, taxonomy);
+        int month = CandidateFeatures.epochMonth(LocalDate.of(2024, 1, 1));
+
+        // When
+        double skillScore = MatchScorer.skillScore(candidateFeatures, jobFeatures);
+
+        // Then - java scores 110 with bonus, docker is missing, averaged over both weights
+        assertThat(skillScore).isCloseTo(55.0, within(0.001));
+        assertThat(MatchScorer.experienceScore(candidateFeatures, jobFeatures, month)).isEqualTo(20.0);
+        assertThat(MatchScorer.educationScore(candidateFeatures, jobFeatures)).isEqualTo(100.0);
+        assertThat(MatchScorer.score(candidateFeatures, jobFeatures, month))
+                .isCloseTo(55.0 * 0.5 + 20.0 * 0.3 + 100.0 * 0.2, within(0.001));
+    }
+
+    @Test
+    void shouldCacheFeaturesUntilEvicted() {
+        // Given - the pool holds this candidate and one other
+        addResumeSkill("java", 2);
+        CandidateFeatures pooled = CandidateFeatures.of(candidate, taxonomy);
+        Candidate other = new Candidate();
+        other.setId(2L);
+        CandidateFeatures otherPooled = CandidateFeatures.builder(taxonomy).addSkill(null, "go", 4).build();
+
+        CandidateRankingRepository repository = mock(CandidateRankingRepository.class);
+        doAnswer(invocation -> {
+            BiConsumer<Long, CandidateFeatures> consumer = invocation.getArgument(1);
+            consumer.accept(1L, pooled);
+            consumer.accept(2L, otherPooled);
+            return null;
+        }).when(repository).loadAllFeatures(any(), any());
+        CandidateFeaturesService service = new CandidateFeaturesService();
+        ReflectionTestUtils.setField(service, "candidateRankingRepository", repository);
+        service.getPool(taxonomy);
+
+        // When
+        addResumeSkill("python", 1);
+        CandidateFeatures cached = service.getFeatures(candidate, taxonomy);
+        service.evict(candidate.getId());
+        CandidateFeatures beforeReload = service.getFeatures(candidate, taxonomy);
+
+        CandidateFeatures reloaded = CandidateFeatures.of(candidate, taxonomy);
+        when(repository.loadFeatures(List.of(1L), taxonomy)).thenReturn(Map.of(1L, reloaded));
+        service.getPool(taxonomy);
+
+        // Then - an evicted candidate is built from the entity until the next pool read reloads it
+        assertThat(cached).isSameAs(pooled);
+        assertThat(beforeReload).isNotSameAs(pooled);
+        assertThat(beforeReload.hasSkill(taxonomy.idOf("python"))).isTrue();
+        assertThat(service.getFeatures(candidate, taxonomy)).isSameAs(reloaded);
+        assertThat(service.getFeatures(other, taxonomy)).isSameAs(otherPooled);
+        verify(repository).loadFeatures(List.of(1L), taxonomy);
+    }
+
+    private void addResumeSkill(String name, Integer years) {
+        ResumeSkill skill = new ResumeSkill(resume, name);
+        skill.setYearsExp(years);
+        resume.getResumeSkills().add(skill);
+    }
+
+    private static JobSkill jobSkill(Job job, String name, boolean required, int minYears) {
+        JobSkill jobSkill = new JobSkill();
+        jobSkill.setJob(job);
+        jobSkill.setSkillName(name);
+        jobSkill.setRequired(required);
+        jobSkill.setMinYears(minYears);
+        jobSkill.setWeight(BigDecimal.ONE);
+        return jobSkill;
+    }
+}
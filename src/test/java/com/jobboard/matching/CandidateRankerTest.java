@@ -0,0 +1,113 @@
+package com.jobboard.matching;
+
+import com.jobboard.domain.Job;
+import com.jobboard.domain.JobSkill;
+import com.jobboard.skill.SkillDefinition;
+import com.jobboard.skill.SkillTaxonomy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CandidateRankerTest {
+
+    private static final int SKILLS = 20;
+    private static final int MONTH = CandidateFeatures.epochMonth(LocalDate.of(2024, 6, 1));
+
+    private SkillTaxonomy taxonomy;
+    private ForkJoinPool executor;
+
+    @BeforeEach
+    void setUp() {
+        List<SkillDefinition> definitions = new ArrayList<>();
+        for (int id = 1; id <= SKILLS; id++) {
+            definitions.add(new SkillDefinition(id, "skill" + id, List.of(), null));
+        }
+        taxonomy = SkillTaxonomy.compile(definitions, 1);
+        executor = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldReturnSameTopKAsFullSort() {
+        // Given - large enough to be split across several slices
+        CandidatePool pool = randomPool(100_000, new Random(42));
+        JobFeatures job = JobFeatures.of(job(1, 2, 3, 4, 5), taxonomy);
+
+        // When
+        List<RankedCandidate> ranked = CandidateRanker.topK(pool, job, 25, MONTH, executor);
+
+        // Then
+        List<Long> expected = IntStream.range(0, pool.size()).boxed()
+                .sorted(Comparator.<Integer>comparingDouble(i -> -MatchScorer.score(pool.featuresAt(i), job, MONTH))
+                        .thenComparingLong(pool::candidateIdAt))
+                .limit(25)
+                .map(pool::candidateIdAt)
+                .toList();
+        assertThat(ranked).extracting(RankedCandidate::candidateId).containsExactlyElementsOf(expected);
+        assertThat(ranked).isSortedAccordingTo(Comparator.comparingDouble(RankedCandidate::totalScore).reversed());
+    }
+
+    @Test
+    void shouldReturnWholePoolWhenSmallerThanK() {
+        // Given
+        CandidatePool pool = randomPool(3, new Random(7));
+
+        // When
+        List<RankedCandidate> ranked = CandidateRanker.topK(pool, JobFeatures.of(job(1), taxonomy), 10, MONTH,
+                executor);
+
+        // Then
+        assertThat(ranked).hasSize(3);
+        assertThat(CandidateRanker.topK(pool, JobFeatures.of(job(1), taxonomy), 0, MONTH, executor)).isEmpty();
+    }
+
+    private CandidatePool randomPool(int size, Random random) {
+        long[] candidateIds = new long[size];
+        CandidateFeatures[] features = new CandidateFeatures[size];
+        for (int i = 0; i < size; i++) {
+            CandidateFeatures.Builder builder = CandidateFeatures.builder(taxonomy);
+            int skills = random.nextInt(8);
+            for (int s = 0; s < skills; s++) {
+                builder.addSkill(1 + random.nextInt(SKILLS), null, random.nextInt(10));
+            }
+            builder.addExperience(LocalDate.of(2010 + random.nextInt(14), 1, 1), null);
+            candidateIds[i] = i + 1;
+            features[i] = builder.build();
+        }
+        return new CandidatePool(taxonomy.getVersion(), candidateIds, features);
+    }
+
+    private static Job job(int... skillIds) {
+        Job job = new Job();
+        job.setDescription("Backend engineer");
+        job.setRequirements("Bachelor's degree");
+        List<JobSkill> jobSkills = new ArrayList<>();
+        for (int i = 0; i < skillIds.length; i++) {
+            JobSkill jobSkill = new JobSkill();
+            jobSkill.setJob(job);
+            jobSkill.setSkillName("skill" + skillIds[i]);
+            jobSkill.setSkillId(skillIds[i]);
+            jobSkill.setRequired(i < 2);
+            jobSkill.setMinYears(i + 1);
+            jobSkill.setWeight(BigDecimal.ONE);
+            jobSkills.add(jobSkill);
+        }
+        job.setJobSkills(jobSkills);
+        return job;
+    }
+}
@@ -0,0 +1,105 @@
+package com.jobboard.matching;
+
+import com.jobboard.domain.Job;
+import com.jobboard.domain.JobSkill;
+import com.jobboard.service.SkillTaxonomyService;
+import com.jobboard.skill.SkillTaxonomy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScoreDetailsTest {
+
+    private SkillTaxonomy taxonomy;
+    private JobFeatures jobFeatures;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        taxonomy = new SkillTaxonomyService(new ClassPathResource("skills/taxonomy.json")).current();
+
+        jobFeatures = jobFeatures("java", "docker", "kubernetes");
+    }
+
+    @Test
+    void shouldRecordCandidateYearsPerJobSkill() {
+        // Given
+        CandidateFeatures candidate = CandidateFeatures.builder(taxonomy)
+                .addSkill(null, "java", 7)
+                .addSkill(null, "docker", null)
+                .addExperience(LocalDate.of(2015, 1, 1), LocalDate.of(2020, 1, 1))
+                .addEducation("Master of Science")
+                .build();
+
+        // When
+        ScoreDetails details = ScoreDetails.of(candidate, jobFeatures, CandidateFeatures.epochMonth(LocalDate.now()));
+
+        // Then
+        assertThat(details.getSkillCount()).isEqualTo(3);
+        assertThat(details.candidateYearsAt(0)).isEqualTo(7);
+        assertThat(details.isMatchedAt(1)).isTrue();
+        assertThat(details.candidateYearsAt(1)).isEqualTo(CandidateFeatures.NO_YEARS);
+        assertThat(details.isMatchedAt(2)).isFalse();
+        assertThat(details.getMatchedSkillCount()).isEqualTo(2);
+        assertThat(details.getExperienceMonths()).isEqualTo(60);
+        assertThat(details.getEducationLevel()).isEqualTo(EducationLevel.MASTERS.ordinal());
+    }
+
+    @Test
+    void shouldRoundTripThroughCompactEncoding() {
+        // Given
+        CandidateFeatures candidate = CandidateFeatures.builder(taxonomy)
+                .addSkill(null, "kubernetes", 300)
+                .addExperience(LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1))
+                .build();
+        ScoreDetails details = ScoreDetails.of(candidate, jobFeatures, CandidateFeatures.epochMonth(LocalDate.now()));
+
+        // When
+        byte[] encoded = details.encode();
+        ScoreDetails decoded = ScoreDetails.decode(encoded);
+
+        // Then
+        assertThat(decoded).isEqualTo(details);
+        assertThat(decoded.getEducationLevel()).isEqualTo(CandidateFeatures.NO_EDUCATION);
+        assertThat(encoded.length).isLessThan(24);
+    }
+
+    @Test
+    void shouldOnlyBelongToAJobWithTheSameSkillsInTheSameOrder() {
+        // Given
+        CandidateFeatures candidate = CandidateFeatures.builder(taxonomy).addSkill(null, "java", 3).build();
+        ScoreDetails details = ScoreDetails.decode(
+                ScoreDetails.of(candidate, jobFeatures, CandidateFeatures.epochMonth(LocalDate.now())).encode());
+
+        // Then - a swapped skill keeps the count but changes what index 1 means
+        assertThat(details.isFor(jobFeatures("java", "docker", "kubernetes"))).isTrue();
+        assertThat(details.isFor(jobFeatures("java", "python", "kubernetes"))).isFalse();
+        assertThat(details.isFor(jobFeatures("docker", "java", "kubernetes"))).isFalse();
+        assertThat(details.isFor(jobFeatures("java", "docker"))).isFalse();
+    }
+
+    @Test
+    void shouldIgnoreUnknownFormats() {
+        assertThat(ScoreDetails.decode(null)).isNull();
+        assertThat(ScoreDetails.decode(new byte[0])).isNull();
+        assertThat(ScoreDetails.decode(new byte[] { 99, 1, 2 })).isNull();
+    }
+
+    private JobFeatures jobFeatures(String... skills) {
+        Job job = new Job();
+        List<JobSkill> jobSkills = new ArrayList<>();
+        for (String skill : skills) {
+            JobSkill jobSkill = new JobSkill();
+            jobSkill.setJob(job);
+            jobSkill.setSkillName(skill);
+            jobSkills.add(jobSkill);
+        }
+        job.setJobSkills(jobSkills);
+        return JobFeatures.of(job, taxonomy);
+    }
+}
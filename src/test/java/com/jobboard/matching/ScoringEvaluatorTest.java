@@ -0,0 +1,107 @@
+package com.jobboard.matching;
+
+import com.jobboard.domain.Job;
+import com.jobboard.domain.JobSkill;
+import com.jobboard.service.SkillTaxonomyService;
+import com.jobboard.skill.SkillTaxonomy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class ScoringEvaluatorTest {
+
+    private static final int MONTH = CandidateFeatures.epochMonth(LocalDate.of(2024, 1, 1));
+
+    private SkillTaxonomy taxonomy;
+    private Job job;
+    private CandidateFeatures candidate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        taxonomy = new SkillTaxonomyService(new ClassPathResource("skills/taxonomy.json")).current();
+
+        job = new Job();
+        job.setDescription("Senior backend role");
+        job.setRequirements("Bachelor's degree in computer science");
+        job.setJobSkills(List.of(jobSkill(job, "java", true, 3), jobSkill(job, "kubernetes", true, 2),
+                jobSkill(job, "docker", false, 1)));
+
+        candidate = CandidateFeatures.builder(taxonomy)
+                .addSkill(null, "java", 5)
+                .addSkill(null, "docker", null)
+                .addExperience(LocalDate.of(2021, 1, 1), null)
+                .build();
+    }
+
+    @Test
+    void shouldScoreJobsWithoutProfileWithTheDefaults() {
+        // Given
+        JobFeatures features = JobFeatures.of(job, taxonomy);
+
+        // When
+        ScoringEvaluator evaluator = features.getEvaluator();
+
+        // Then - java 110, docker 70 without years, kubernetes missing: (110 + 70) / 3 halved by the penalty
+        assertThat(evaluator).isSameAs(ScoringEvaluator.DEFAULT);
+        assertThat(evaluator.getSkillWeight()).isEqualTo(0.5);
+        assertThat(evaluator.getExperienceWeight()).isEqualTo(0.3);
+        assertThat(evaluator.getEducationWeight()).isEqualTo(0.2);
+        assertThat(evaluator.skillScore(candidate, features)).isCloseTo(30.0, within(0.001));
+        assertThat(evaluator.experienceScore(candidate, features, MONTH)).isCloseTo(60.0, within(0.001));
+        assertThat(evaluator.educationScore(candidate, features)).isEqualTo(50.0);
+        assertThat(evaluator.score(candidate, features, MONTH))
+                .isCloseTo(30.0 * 0.5 + 60.0 * 0.3 + 50.0 * 0.2, within(0.001));
+        assertThat(evaluator.maxScoreMissingRequiredSkill(features)).isCloseTo(65.0 * 0.5 + 50.0, within(0.001));
+    }
+
+    @Test
+    void shouldApplyJobProfileAndFillInMissingComponents() {
+        // Given - skills only, a harsher required-skill penalty and no bonus
+        job.setScoringProfile(new ScoringProfile(2.0, 0.0, 0.0, null, null, 0.0, null, 2.0, null, null, null));
+        JobFeatures features = JobFeatures.of(job, taxonomy);
+
+        // When
+        ScoringEvaluator evaluator = features.getEvaluator();
+
+        // Then - java 100, docker 70: (100 + 70) / 3 times a quarter
+        assertThat(evaluator.getSkillWeight()).isEqualTo(1.0);
+        assertThat(evaluator.getProfile().skillWithoutYearsScore()).isEqualTo(70.0);
+        assertThat(evaluator.skillScore(candidate, features)).isCloseTo(170.0 / 3 / 4, within(0.001));
+        assertThat(MatchScorer.score(candidate, features, MONTH)).isCloseTo(170.0 / 3 / 4, within(0.001));
+        assertThat(evaluator.maxScoreMissingRequiredSkill(features)).isCloseTo(25.0, within(0.001));
+    }
+
+    @Test
+    void shouldRejectProfilesOutOfRange() {
+        assertThatThrownBy(() -> job.setScoringProfile(
+                new ScoringProfile(-1.0, null, null, null, null, null, null, null, null, null, null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("skillWeight");
+        assertThatThrownBy(() -> ScoringEvaluator.compile(
+                new ScoringProfile(0.0, 0.0, 0.0, null, null, null, null, null, null, null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ScoringEvaluator.compile(
+                new ScoringProfile(null, null, null, null, null, null, 150.0, null, null, null, null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("skillFloor");
+        assertThat(job.getEvaluator()).isSameAs(ScoringEvaluator.DEFAULT);
+    }
+
+    private static JobSkill jobSkill(Job job, String name, boolean required, int minYears) {
+        JobSkill jobSkill = new JobSkill();
+        jobSkill.setJob(job);
+        jobSkill.setSkillName(name);
+        jobSkill.setRequired(required);
+        jobSkill.setMinYears(minYears);
+        jobSkill.setWeight(BigDecimal.ONE);
+        return jobSkill;
+    }
+}
@@ -0,0 +1,99 @@
+package com.jobboard.matching;
+
+import com.jobboard.domain.Job;
+import com.jobboard.domain.JobSkill;
+import com.jobboard.skill.SkillDefinition;
+import com.jobboard.skill.SkillTaxonomy;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SkillBitsetTest {
+
+    @Test
+    void shouldRankIdsAcrossSparseWords() {
+        // Given - unsorted, repeated, one unknown, spread over words 0, 1 and 312
+        SkillBitset skills = SkillBitset.of(new int[] { 19_999, 3, 64, -1, 3, 63, 127 });
+
+        // Then
+        assertThat(skills.cardinality()).isEqualTo(5);
+        assertThat(skills.getWordCount()).isEqualTo(3);
+        assertThat(skills.rank(3)).isEqualTo(0);
+        assertThat(skills.rank(63)).isEqualTo(1);
+        assertThat(skills.rank(64)).isEqualTo(2);
+        assertThat(skills.rank(127)).isEqualTo(3);
+        assertThat(skills.rank(19_999)).isEqualTo(4);
+        assertThat(skills.contains(4)).isFalse();
+        assertThat(skills.contains(128)).isFalse();
+        assertThat(skills.contains(-1)).isFalse();
+        for (int rank = 0; rank < skills.cardinality(); rank++) {
+            assertThat(skills.rank(skills.skillIdAt(rank))).isEqualTo(rank);
+        }
+        assertThatThrownBy(() -> skills.skillIdAt(5)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(SkillBitset.of(new int[] { -1 })).isSameAs(SkillBitset.EMPTY);
+    }
+
+    @Test
+    void shouldCountOverlapLikeASetIntersection() {
+        Random random = new Random(3);
+        for (int dictionarySize : new int[] { 64, 1_000, 20_000 }) {
+            for (int round = 0; round < 200; round++) {
+                // Given
+                int[] a = random.ints(random.nextInt(40), 0, dictionarySize).toArray();
+                int[] b = random.ints(random.nextInt(12), 0, dictionarySize).toArray();
+                int expected = (int) Arrays.stream(a).distinct()
+                        .filter(id -> Arrays.stream(b).anyMatch(other -> other == id))
+                        .count();
+
+                // When
+                SkillBitset left = SkillBitset.of(a);
+                SkillBitset right = SkillBitset.of(b);
+
+                // Then
+                assertThat(left.intersectionCount(right)).isEqualTo(expected);
+                assertThat(right.intersectionCount(left)).isEqualTo(expected);
+                assertThat(left.intersects(right)).isEqualTo(expected > 0);
+            }
+        }
+    }
+
+    @Test
+    void shouldCountARequiredSkillListedTwiceOnce() {
+        // Given
+        List<SkillDefinition> definitions = new ArrayList<>();
+        for (int id = 1; id <= 3; id++) {
+            definitions.add(new SkillDefinition(id, "skill" + id, List.of(), null));
+        }
+        SkillTaxonomy taxonomy = SkillTaxonomy.compile(definitions, 1);
+        Job job = new Job();
+        job.setJobSkills(List.of(jobSkill(job, "skill1"), jobSkill(job, "skill1"), jobSkill(job, "skill2"),
+                jobSkill(job, "unlisted")));
+        CandidateFeatures candidate = CandidateFeatures.builder(taxonomy)
+                .addSkill(null, "skill1", 2)
+                .build();
+
+        // When
+        JobFeatures features = JobFeatures.of(job, taxonomy);
+
+        // Then - skill1 and skill2, plus the unknown skill nobody can match
+        assertThat(features.getRequiredSkillCount()).isEqualTo(3);
+        assertThat(features.requiredSkillIds()).containsExactly(1, 1, 2, SkillTaxonomy.UNKNOWN);
+        assertThat(candidate.getSkills().intersectionCount(features.getRequiredSkills())).isEqualTo(1);
+    }
+
+    private static JobSkill jobSkill(Job job, String name) {
+        JobSkill jobSkill = new JobSkill();
+        jobSkill.setJob(job);
+        jobSkill.setSkillName(name);
+        jobSkill.setRequired(true);
+        jobSkill.setWeight(BigDecimal.ONE);
+        return jobSkill;
+    }
+}
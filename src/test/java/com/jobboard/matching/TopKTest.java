@@ -0,0 +1,46 @@
+package com.jobboard.matching;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopKTest {
+
+    // Index i has id 100 - i, so ties must go to the higher index
+    private static final long[] IDS = { 100, 99, 98, 97, 96, 95 };
+
+    @Test
+    void shouldKeepTheBestEntriesBestFirst() {
+        // Given
+        TopK best = new TopK(3, index -> IDS[index]);
+        double[] scores = { 10.0, 70.0, 30.0, 90.0, 50.0, 20.0 };
+
+        // When
+        for (int i = 0; i < scores.length; i++) {
+            best.offer(scores[i], i);
+        }
+        List<Integer> ranked = best.drain((index, score) -> index);
+
+        // Then
+        assertThat(ranked).containsExactly(3, 1, 4);
+    }
+
+    @Test
+    void shouldRankEqualScoresByLowerIdAcrossMerges() {
+        // Given
+        TopK left = new TopK(2, index -> IDS[index]);
+        TopK right = new TopK(2, index -> IDS[index]);
+        left.offer(50.0, 0);
+        left.offer(50.0, 1);
+        right.offer(50.0, 4);
+        right.offer(10.0, 5);
+
+        // When
+        List<Long> ranked = left.mergeFrom(right).drain((index, score) -> IDS[index]);
+
+        // Then
+        assertThat(ranked).containsExactly(96L, 99L);
+    }
+}
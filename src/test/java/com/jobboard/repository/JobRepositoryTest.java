@@ -0,0 +1,55 @@
+package com.jobboard.repository;
+
+import com.jobboard.config.JpaConfig;
+import com.jobboard.domain.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        // H2 has no jsonb type; alias it so resumes.skills_json can be created
+        "spring.datasource.url=jdbc:h2:mem:jobs;INIT=CREATE DOMAIN IF NOT EXISTS JSONB AS JSON"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(JpaConfig.class)
+class JobRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    private Recruiter recruiter;
+
+    @BeforeEach
+    void setUp() {
+        User recruiterUser = entityManager.persist(new User("recruiter@example.com", "password", "Rita", "Recruiter"));
+        recruiter = entityManager.persist(new Recruiter(recruiterUser, "Tech Corp"));
+    }
+
+    @Test
+    void shouldLoadJobWithoutSkillsWithItsSkills() {
+        // Given
+        Job job = entityManager.persist(new Job(recruiter, "Office Manager", "Keeps the office running"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        Optional<Job> found = jobRepository.findByIdWithSkills(job.getId());
+
+        // Then
+        assertThat(found).isPresent();
+        assertThat(found.get().getJobSkills()).isEmpty();
+    }
+}
@@ -0,0 +1,120 @@
+package com.jobboard.repository;
+
+import com.jobboard.config.JpaConfig;
+import com.jobboard.domain.*;
+import com.jobboard.dto.job.CandidateMatchResponse;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        // H2 has no jsonb type; alias it so resumes.skills_json can be created
+        "spring.datasource.url=jdbc:h2:mem:match-scores;INIT=CREATE DOMAIN IF NOT EXISTS JSONB AS JSON",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(JpaConfig.class)
+class MatchScoreRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MatchScoreRepository matchScoreRepository;
+
+    private Job job;
+    private Candidate top;
+    private Candidate tiedLow;
+    private Candidate tiedHigh;
+
+    @BeforeEach
+    void setUp() {
+        User recruiterUser = entityManager.persist(new User("recruiter@example.com", "password", "Rita", "Recruiter"));
+        Recruiter recruiter = entityManager.persist(new Recruiter(recruiterUser, "Tech Corp"));
+        job = entityManager.persist(new Job(recruiter, "Java Developer", "Spring Boot services"));
+
+        top = persistCandidate("top@example.com", "Ada");
+        tiedLow = persistCandidate("tied-low@example.com", "Grace");
+        tiedHigh = persistCandidate("tied-high@example.com", "Linus");
+
+        persistScore(top, 91.5);
+        persistScore(tiedLow, 80.0);
+        persistScore(tiedHigh, 80.0);
+        entityManager.persist(new Application(tiedLow, job));
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void shouldLoadRankedPageWithApplicationStatusInOneQuery() {
+        // Given
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        // When
+        List<CandidateMatchResponse> page = matchScoreRepository.findRankedCandidates(job.getId(), PageRequest.of(0, 2));
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(page).extracting(CandidateMatchResponse::getCandidateId)
+                .containsExactly(top.getId(), tiedLow.getId());
+        assertThat(page.get(0).getFirstName()).isEqualTo("Ada");
+        assertThat(page.get(0).getHasApplied()).isFalse();
+        assertThat(page.get(1).getHasApplied()).isTrue();
+        assertThat(page.get(1).getApplicationStatus()).isEqualTo(Application.ApplicationStatus.APPLIED);
+        assertThat(page.get(1).getAppliedAt()).isNotNull();
+    }
+
+    @Test
+    void shouldSeekPastLastCandidateOfPreviousPage() {
+        // Given
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        // When
+        List<CandidateMatchResponse> page = matchScoreRepository.findRankedCandidatesAfter(
+                job.getId(), new BigDecimal("80.00"), tiedLow.getId(), PageRequest.of(0, 2));
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(page).extracting(CandidateMatchResponse::getCandidateId).containsExactly(tiedHigh.getId());
+        assertThat(page.get(0).getHasApplied()).isFalse();
+    }
+
+    private Candidate persistCandidate(String email, String firstName) {
+        User user = entityManager.persist(new User(email, "password", firstName, "Candidate"));
+        Candidate candidate = new Candidate(user);
+        candidate.setLocation("Berlin");
+        return entityManager.persist(candidate);
+    }
+
+    private void persistScore(Candidate candidate, double total) {
+        MatchScore score = new MatchScore(candidate, job);
+        score.setTotalScore(BigDecimal.valueOf(total));
+        score.setSkillScore(BigDecimal.valueOf(total));
+        score.setExpScore(BigDecimal.valueOf(total));
+        score.setEduScore(BigDecimal.valueOf(total));
+        entityManager.persist(score);
+    }
+
+    private Statistics statistics() {
+        return entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,59 @@
+package com.jobboard.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedPasswordEncoderTest {
+
+    private BoundedPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        encoder = new BoundedPasswordEncoder(4, 1, 2);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        encoder.shutdown();
+    }
+
+    @Test
+    void shouldHashAndVerifyOnPool() {
+        // When
+        String hash = encoder.encode("password123");
+
+        // Then
+        assertThat(hash).startsWith("$2a$04$");
+        assertThat(encoder.matches("password123", hash)).isTrue();
+        assertThat(encoder.matches("wrong", hash)).isFalse();
+        assertThat(encoder.getStats())
+                .containsEntry("hashes", 1L)
+                .containsEntry("verifications", 2L)
+                .containsEntry("rejected", 0L);
+    }
+
+    @Test
+    void shouldVerifyHashesWithOtherCost() {
+        // Given
+        String olderHash = new BCryptPasswordEncoder(5).encode("password123");
+
+        // When & Then
+        assertThat(encoder.matches("password123", olderHash)).isTrue();
+        assertThat(encoder.upgradeEncoding(olderHash)).isTrue();
+    }
+
+    @Test
+    void shouldNotUpgradeHashesWithConfiguredCost() {
+        // Given
+        String hash = encoder.encode("password123");
+
+        // When & Then
+        assertThat(encoder.upgradeEncoding(hash)).isFalse();
+        assertThat(encoder.upgradeEncoding("not-a-bcrypt-hash")).isFalse();
+        assertThat(encoder.upgradeEncoding(null)).isFalse();
+    }
+}
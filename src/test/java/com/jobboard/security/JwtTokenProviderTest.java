@@ -2,12 +2,14 @@ package com.jobboard.security;
 
 import com.jobboard.domain.Role;
 import com.jobboard.domain.User;
+import io.jsonwebtoken.Claims;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 
 import java.util.Set;
 
@@ -163,4 +165,94 @@ class JwtTokenProviderTest {
         // Then
         assertFalse(isValid);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldBuildPrincipalFromAccessTokenClaims() {
+        // Given
+        when(authentication.getPrincipal()).thenReturn(userPrincipal);
+        String token = jwtTokenProvider.generateToken(authentication);
+
+        // When
+        Claims claims = jwtTokenProvider.parseToken(token);
+        UserPrincipal principal = jwtTokenProvider.getPrincipal(claims);
+
+        // Then
+        assertThat(principal.getId()).isEqualTo(1L);
+        assertThat(principal.getUsername()).isEqualTo("test@example.com");
+        assertThat(principal.getPassword()).isNull();
+        assertThat(principal.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_CANDIDATE");
+        assertThat(jwtTokenProvider.getTokenVersion(claims)).isZero();
+    }
+
+    @Test
+    void shouldCarryTokenVersion() {
+        // Given
+        User user = new User("test@example.com", "password", "John", "Doe");
+        user.setId(1L);
+        user.setTokenVersion(3);
+        user.setRoles(Set.of(new Role(Role.RoleName.CANDIDATE)));
+        when(authentication.getPrincipal()).thenReturn(UserPrincipal.create(user));
+
+        // When
+        String accessToken = jwtTokenProvider.generateToken(authentication);
+        String refreshToken = jwtTokenProvider.generateRefreshToken(authentication);
+
+        // Then
+        assertThat(jwtTokenProvider.getTokenVersion(jwtTokenProvider.parseToken(accessToken))).isEqualTo(3);
+        assertThat(jwtTokenProvider.getTokenVersion(jwtTokenProvider.parseToken(refreshToken))).isEqualTo(3);
+    }
+
+    @Test
+    void shouldNotBuildPrincipalFromTokenWithoutRoles() {
+        // Given
+        when(authentication.getPrincipal()).thenReturn(userPrincipal);
+        String refreshToken = jwtTokenProvider.generateRefreshToken(authentication);
+
+        // When
+        UserPrincipal principal = jwtTokenProvider.getPrincipal(jwtTokenProvider.parseToken(refreshToken));
+
+        // Then
+        assertThat(principal).isNull();
+    }
+
+    @Test
+    void shouldNotParseInvalidToken() {
+        // When & Then
+        assertThat(jwtTokenProvider.parseToken("invalid.token.here")).isNull();
+    }
+
+    @Test
+    void shouldReuseVerifiedClaimsFromCache() {
+        // Given
+        JwtTokenProvider cachingProvider = new JwtTokenProvider(
+                "mySecretKey123456789012345678901234567890", 86400000, 604800000, 100);
+        when(authentication.getPrincipal()).thenReturn(userPrincipal);
+        String token = cachingProvider.generateToken(authentication);
+
+        // When
+        Claims first = cachingProvider.parseToken(token);
+        Claims second = cachingProvider.parseToken(token);
+
+        // Then
+        assertThat(first).isNotNull();
+        assertThat(second).isSameAs(first);
+        assertThat(cachingProvider.parseToken(token + "x")).isNull();
+    }
+
+    @Test
+    void shouldNotServeCachedClaimsAfterTokenExpires() throws InterruptedException {
+        // Given
+        JwtTokenProvider cachingProvider = new JwtTokenProvider(
+                "mySecretKey123456789012345678901234567890", 1500, 1000, 100); // exp has second precision
+        when(authentication.getPrincipal()).thenReturn(userPrincipal);
+        String token = cachingProvider.generateToken(authentication);
+        assertThat(cachingProvider.parseToken(token)).isNotNull();
+
+        // When
+        Thread.sleep(2600);
+
+        // Then
+        assertThat(cachingProvider.parseToken(token)).isNull();
+    }
+}
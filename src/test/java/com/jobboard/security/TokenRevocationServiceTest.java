@@ -0,0 +1,62 @@
+package com.jobboard.security;
+
+import com.jobboard.event.UserAccessChangedEvent;
+import com.jobboard.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private TokenRevocationService tokenRevocationService;
+
+    @Test
+    void shouldRevokeTokensOfDeactivatedUserImmediately() {
+        // When
+        tokenRevocationService.onUserAccessChanged(new UserAccessChangedEvent(7L, false, 1));
+
+        // Then
+        assertThat(tokenRevocationService.isRevoked(7L, 1)).isTrue();
+        assertThat(tokenRevocationService.isRevoked(8L, 0)).isFalse();
+    }
+
+    @Test
+    void shouldKeepOlderTokensRevokedAfterReactivation() {
+        // Given
+        tokenRevocationService.onUserAccessChanged(new UserAccessChangedEvent(7L, false, 1));
+
+        // When
+        tokenRevocationService.onUserAccessChanged(new UserAccessChangedEvent(7L, true, 1));
+
+        // Then
+        assertThat(tokenRevocationService.isRevoked(7L, 0)).isTrue();
+        assertThat(tokenRevocationService.isRevoked(7L, 1)).isFalse();
+    }
+
+    @Test
+    void shouldLoadRevocationsFromDatabase() {
+        // Given
+        when(userRepository.findInactiveUserIds()).thenReturn(List.of(3L));
+        when(userRepository.findTokenVersions()).thenReturn(List.<Object[]>of(new Object[] { 5L, 2 }));
+
+        // When
+        tokenRevocationService.refresh();
+
+        // Then
+        assertThat(tokenRevocationService.isRevoked(3L, 0)).isTrue();
+        assertThat(tokenRevocationService.isRevoked(5L, 1)).isTrue();
+        assertThat(tokenRevocationService.isRevoked(5L, 2)).isFalse();
+    }
+}
@@ -0,0 +1,84 @@
+package com.jobboard.semantic;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmbeddingTrainerTest {
+
+    private static final String[] TEMPLATES = {
+            "Backend engineer building REST APIs and microservices with %s and PostgreSQL databases",
+            "Server-side developer building REST APIs and microservices with %s and PostgreSQL databases",
+            "Frontend engineer building React user interfaces with TypeScript and CSS for %s",
+            "UI developer building React user interfaces with TypeScript and CSS for %s",
+            "Data scientist training machine learning models in Python with pandas for %s",
+            "Machine learning researcher training models in Python with pandas for %s",
+            "Experience with %s, SQL queries and PostgreSQL tuning",
+            "Managed Postgres and MySQL databases for %s"
+    };
+    private static final String[] FILLERS = { "Java", "Spring", "Go", "Kotlin", "retail", "banking", "health",
+            "logistics" };
+
+    private static EmbeddingModel model;
+
+    @BeforeAll
+    static void train() {
+        model = new EmbeddingTrainer(64, 4, 3, 2048, 7).train(consumer -> corpus().forEach(consumer));
+    }
+
+    @Test
+    void shouldPlaceSpellingVariantsTogether() {
+        // Then - "Postgres" and the misspelling are built from PostgreSQL's trigrams
+        assertThat(model.similarity("Postgres experience", "PostgreSQL"))
+                .isGreaterThan(model.similarity("Postgres experience", "Python") + 0.3);
+        assertThat(model.similarity("Postgress", "PostgreSQL")).isGreaterThan(0.5);
+    }
+
+    @Test
+    void shouldPlaceWordsUsedInTheSameContextsTogether() {
+        // Then
+        assertThat(model.similarity("Backend Engineer", "Server-side developer"))
+                .isGreaterThan(model.similarity("Backend Engineer", "Data scientist") + 0.3);
+        assertThat(model.similarity("Data scientist", "Machine learning researcher"))
+                .isGreaterThan(model.similarity("Data scientist", "UI developer"));
+    }
+
+    @Test
+    void shouldEmbedTheSameAfterWritingAndReadingBack() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        model.write(out);
+
+        // When
+        EmbeddingModel read = EmbeddingModel.read(new ByteArrayInputStream(out.toByteArray()));
+
+        // Then
+        assertThat(read.getTermCount()).isEqualTo(model.getTermCount());
+        String text = "backend postgres kubernetes";
+        assertThat(read.embed(text)).containsExactly(model.embed(text));
+        assertThat(model.embed("")).containsOnly(0f);
+    }
+
+    @Test
+    void shouldKeepProgrammingLanguageNamesWhole() {
+        assertThat(EmbeddingModel.tokenize("C++, C# and Node.js. Server-side!"))
+                .containsExactly("c++", "c#", "and", "node.js", "server", "side");
+    }
+
+    private static List<String> corpus() {
+        Random random = new Random(1);
+        List<String> documents = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            documents.add(String.format(TEMPLATES[random.nextInt(TEMPLATES.length)],
+                    FILLERS[random.nextInt(FILLERS.length)]));
+        }
+        return documents;
+    }
+}
@@ -0,0 +1,118 @@
+package com.jobboard.semantic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HnswIndexTest {
+
+    private static final int DIMENSION = 32;
+
+    @Test
+    void shouldFindMostOfTheExactNearestNeighbours() {
+        // Given
+        Random random = new Random(5);
+        float[][] centers = randomVectors(random, 20, 0f, null);
+        float[][] vectors = randomVectors(random, 3_000, 0.6f, centers);
+        HnswIndex index = new HnswIndex(DIMENSION, 8, 64, 1);
+        for (int i = 0; i < vectors.length; i++) {
+            index.add(i, vectors[i]);
+        }
+
+        // When
+        int found = 0;
+        float[][] queries = randomVectors(random, 100, 0.6f, centers);
+        for (float[] query : queries) {
+            Set<Long> exact = exactNearest(vectors, query, 10);
+            for (Neighbor neighbor : index.search(query, 10, 64)) {
+                if (exact.contains(neighbor.id())) {
+                    found++;
+                }
+            }
+        }
+
+        // Then
+        assertThat(found / (queries.length * 10.0)).isGreaterThan(0.9);
+        assertThat(index.size()).isEqualTo(3_000);
+        assertThat(index.bytesPerVector()).isLessThan(DIMENSION * Float.BYTES + 200L);
+    }
+
+    @Test
+    void shouldReturnNeighboursBestFirstWithTheirSimilarity() {
+        // Given
+        Random random = new Random(9);
+        float[][] vectors = randomVectors(random, 500, 0f, null);
+        HnswIndex index = new HnswIndex(DIMENSION, 8, 64, 1);
+        for (int i = 0; i < vectors.length; i++) {
+            index.add(100 + i, vectors[i]);
+        }
+
+        // When
+        List<Neighbor> neighbors = index.search(vectors[42], 5, 32);
+
+        // Then - a stored vector is its own nearest neighbour, up to quantization
+        assertThat(neighbors).hasSize(5);
+        assertThat(neighbors.get(0).id()).isEqualTo(142);
+        assertThat(neighbors.get(0).similarity()).isBetween(0.98f, 1.02f);
+        for (int i = 1; i < neighbors.size(); i++) {
+            assertThat(neighbors.get(i).similarity()).isLessThanOrEqualTo(neighbors.get(i - 1).similarity());
+        }
+    }
+
+    @Test
+    void shouldNeverReturnRemovedIdsAndReplaceReaddedOnes() {
+        // Given
+        Random random = new Random(11);
+        float[][] vectors = randomVectors(random, 400, 0f, null);
+        HnswIndex index = new HnswIndex(DIMENSION, 8, 64, 1);
+        for (int i = 0; i < vectors.length; i++) {
+            index.add(i, vectors[i]);
+        }
+
+        // When
+        for (int i = 0; i < 200; i++) {
+            index.remove(i);
+        }
+        index.add(300, vectors[7]);
+
+        // Then
+        assertThat(index.search(vectors[10], 20, 64)).extracting(Neighbor::id).allMatch(id -> id >= 200);
+        assertThat(index.search(vectors[7], 1, 64).get(0).id()).isEqualTo(300);
+        assertThat(index.size()).isEqualTo(200);
+        assertThat(index.deletedCount()).isEqualTo(201);
+        assertThat(index.remove(5)).isFalse();
+        assertThatThrownBy(() -> index.search(new float[3], 1, 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Set<Long> exactNearest(float[][] vectors, float[] query, int k) {
+        Integer[] order = new Integer[vectors.length];
+        double[] similarities = new double[vectors.length];
+        for (int i = 0; i < vectors.length; i++) {
+            order[i] = i;
+            similarities[i] = EmbeddingModel.dot(query, vectors[i]);
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(similarities[b], similarities[a]));
+        Set<Long> nearest = new HashSet<>();
+        for (int i = 0; i < k; i++) {
+            nearest.add((long) order[i]);
+        }
+        return nearest;
+    }
+
+    // Unit vectors, scattered around random centers when given so there is structure to find
+    private static float[][] randomVectors(Random random, int count, float spread, float[][] centers) {
+        float[][] vectors = new float[count][DIMENSION];
+        for (float[] vector : vectors) {
+            float[] center = centers != null ? centers[random.nextInt(centers.length)] : null;
+            for (int i = 0; i < DIMENSION; i++) {
+                float noise = (float) random.nextGaussian();
+                vector[i] = center != null ? center[i] + spread * noise : noise;
+            }
+            EmbeddingModel.normalize(vector);
+        }
+        return vectors;
+    }
+}
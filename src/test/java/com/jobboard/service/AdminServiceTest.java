@@ -0,0 +1,59 @@
+package com.jobboard.service;
+
+import com.jobboard.dto.admin.PlatformStatsResponse;
+import com.jobboard.repository.PlatformStatsRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AdminServiceTest {
+
+    @Mock
+    private PlatformStatsRepository platformStatsRepository;
+
+    @InjectMocks
+    private AdminService adminService;
+
+    @Test
+    void shouldServePlatformStatsFromCountersInOneRead() {
+        // Given
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        TreeMap<LocalDateTime, Long> applications = new TreeMap<>(Map.of(
+                today, 12L,
+                today.minusDays(2), 5L,
+                today.minusDays(45), 99L));
+        when(platformStatsRepository.read(any(), any())).thenReturn(new PlatformStatsRepository.Snapshot(
+                Map.of("users", 10L, "jobs", 4L, "active_jobs", 3L, "applications", 17L),
+                Map.of(PlatformStatsRepository.APPLICATIONS_PER_DAY, applications)));
+
+        // When
+        PlatformStatsResponse stats = adminService.getPlatformStats();
+
+        // Then
+        assertThat(stats.getTotalUsers()).isEqualTo(10L);
+        assertThat(stats.getActiveJobs()).isEqualTo(3L);
+        assertThat(stats.getTotalResumes()).isZero();
+        assertThat(stats.getApplicationsPerDay())
+                .hasSize(30)
+                .containsEntry(today, 12L)
+                .containsEntry(today.minusDays(1), 0L)
+                .containsEntry(today.minusDays(2), 5L)
+                .doesNotContainKey(today.minusDays(45));
+        assertThat(stats.getResumeUploadsPerHour()).hasSize(48).allSatisfy((hour, count) -> assertThat(count).isZero());
+        verify(platformStatsRepository).read(eq(today.minusDays(29)), any());
+    }
+}
@@ -13,6 +13,8 @@ import com.jobboard.repository.RecruiterRepository;
 import com.jobboard.repository.RoleRepository;
 import com.jobboard.repository.UserRepository;
 import com.jobboard.security.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -193,9 +195,10 @@ class AuthServiceTest {
         String refreshToken = "valid-refresh-token";
         testUser.setRoles(Set.of(candidateRole));
 
-        when(tokenProvider.validateToken(refreshToken)).thenReturn(true);
-        when(tokenProvider.isRefreshToken(refreshToken)).thenReturn(true);
-        when(tokenProvider.getUserIdFromToken(refreshToken)).thenReturn(1L);
+        Claims claims = Jwts.claims().setSubject("1");
+        when(tokenProvider.parseToken(refreshToken)).thenReturn(claims);
+        when(tokenProvider.isRefreshToken(claims)).thenReturn(true);
+        when(tokenProvider.getUserId(claims)).thenReturn(1L);
         when(userRepository.findByIdWithRoles(1L)).thenReturn(Optional.of(testUser));
         when(tokenProvider.generateToken(any(Authentication.class))).thenReturn("new-access-token");
         when(tokenProvider.generateRefreshToken(any(Authentication.class))).thenReturn("new-refresh-token");
@@ -213,7 +216,7 @@ class AuthServiceTest {
     void shouldThrowExceptionForInvalidRefreshToken() {
         // Given
         String invalidRefreshToken = "invalid-refresh-token";
-        when(tokenProvider.validateToken(invalidRefreshToken)).thenReturn(false);
+        when(tokenProvider.parseToken(invalidRefreshToken)).thenReturn(null);
 
         // When & Then
         BadRequestException exception = assertThrows(BadRequestException.class,
@@ -226,8 +229,9 @@ class AuthServiceTest {
     void shouldThrowExceptionForAccessTokenUsedAsRefreshToken() {
         // Given
         String accessToken = "access-token";
-        when(tokenProvider.validateToken(accessToken)).thenReturn(true);
-        when(tokenProvider.isRefreshToken(accessToken)).thenReturn(false);
+        Claims claims = Jwts.claims().setSubject("1");
+        when(tokenProvider.parseToken(accessToken)).thenReturn(claims);
+        when(tokenProvider.isRefreshToken(claims)).thenReturn(false);
 
         // When & Then
         BadRequestException exception = assertThrows(BadRequestException.class,
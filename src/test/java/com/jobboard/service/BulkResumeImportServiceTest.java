@@ -0,0 +1,209 @@
+package com.jobboard.service;
+
+import com.jobboard.domain.ImportedResume;
+import com.jobboard.domain.Resume;
+import com.jobboard.dto.recruiter.BulkImportResponse;
+import com.jobboard.dto.recruiter.BulkImportResponse.FileFailure;
+import com.jobboard.repository.ImportedResumeRepository;
+import com.jobboard.repository.ResumeBatchRepository;
+import com.jobboard.repository.ResumeRepository;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class BulkResumeImportServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ResumeParsingService parsingService;
+    private ResumeBatchRepository resumeBatchRepository;
+    private ResumeRepository resumeRepository;
+    private ResumeStore resumeStore;
+    private BulkResumeImportService importService;
+    private final List<ImportedResume> inserted = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        parsingService = spy(new ResumeParsingService());
+        ReflectionTestUtils.setField(parsingService, "skillTaxonomyService",
+                new SkillTaxonomyService(new ClassPathResource("skills/taxonomy.json")));
+        ReflectionTestUtils.setField(parsingService, "maxChars", 100_000);
+        ReflectionTestUtils.setField(parsingService, "timeout", Duration.ofSeconds(10));
+
+        resumeBatchRepository = mock(ResumeBatchRepository.class);
+        doAnswer(invocation -> inserted.addAll(invocation.getArgument(0)))
+                .when(resumeBatchRepository).insertAll(anyList());
+
+        resumeRepository = mock(ResumeRepository.class);
+        resumeStore = new ResumeStore(tempDir.resolve("uploads").toString());
+
+        importService = new BulkResumeImportService();
+        ReflectionTestUtils.setField(importService, "resumeParsingService", parsingService);
+        ReflectionTestUtils.setField(importService, "resumeBatchRepository", resumeBatchRepository);
+        ReflectionTestUtils.setField(importService, "transactionTemplate",
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        ReflectionTestUtils.setField(importService, "resumeRepository", resumeRepository);
+        ReflectionTestUtils.setField(importService, "importedResumeRepository", mock(ImportedResumeRepository.class));
+        ReflectionTestUtils.setField(importService, "resumeStore", resumeStore);
+        ReflectionTestUtils.setField(importService, "parseThreads", 2);
+        ReflectionTestUtils.setField(importService, "maxInFlight", 2);
+        ReflectionTestUtils.setField(importService, "batchSize", 10);
+        ReflectionTestUtils.setField(importService, "maxFileSize", DataSize.ofMegabytes(1));
+    }
+
+    @Test
+    void shouldHoldImportedResumesForTheirCandidatesAndReportPerFileFailures() throws Exception {
+        // Given
+        byte[] zip = zip(Map.of(
+                "fair/jane.pdf", pdf("Jane Doe Jane@Example.com Java (4 years) and Docker"),
+                "fair/anonymous.pdf", pdf("No contact details, Python"),
+                "fair/notes.txt", "not a resume".getBytes(),
+                "__MACOSX/fair/._jane.pdf", new byte[] { 0 }));
+
+        // When
+        BulkImportResponse report = importService.importZip(new ByteArrayInputStream(zip), 3L);
+
+        // Then
+        assertThat(report.getTotalFiles()).isEqualTo(3);
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getFailed()).isEqualTo(2);
+        assertThat(report.getTotalBytes()).isPositive();
+        assertThat(report.getFailures()).extracting(FileFailure::fileName)
+                .containsExactlyInAnyOrder("fair/anonymous.pdf", "fair/notes.txt");
+
+        // Nothing is attached to a candidate until they claim it
+        assertThat(inserted).hasSize(1);
+        ImportedResume resume = inserted.get(0);
+        assertThat(resume.getEmail()).isEqualTo("jane@example.com");
+        assertThat(resume.getImportedBy()).isEqualTo(3L);
+        assertThat(resume.getFileName()).isEqualTo("fair/jane.pdf");
+        assertThat(resume.getParsedText()).contains("Docker");
+        assertThat(resume.getContentHash()).hasSize(64);
+        assertThat(Path.of(resume.getFilePath())).hasFileName(resume.getContentHash() + ".pdf").exists();
+    }
+
+    @Test
+    void shouldReuseTheParseOfAFileThatWasUploadedBefore() throws Exception {
+        // Given - the candidate already uploaded this exact file themselves
+        Path source = Files.createDirectories(tempDir.resolve("source"));
+        Files.write(source.resolve("jane.pdf"), pdf("Jane Doe jane@example.com Rust"));
+        Resume uploaded = new Resume();
+        uploaded.setParsedText("Jane Doe jane@example.com Rust");
+        when(resumeRepository.findFirstByContentHashAndStatusOrderByCreatedAtDesc(
+                anyString(), eq(Resume.ResumeStatus.PARSED))).thenReturn(Optional.of(uploaded));
+
+        // When
+        BulkImportResponse report = importService.importDirectory(source, null);
+
+        // Then
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(inserted.get(0).getParsedText()).isEqualTo("Jane Doe jane@example.com Rust");
+        assertThat(inserted.get(0).getContentHash()).isNotNull();
+        verify(parsingService, never()).extractTextFromFile(any(Path.class));
+        assertThat(resumeStore.getStats()).containsEntry("parseReuses", 1L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldImportDirectoryInBatchesWithoutExceedingInFlightLimit() throws Exception {
+        // Given
+        Path source = Files.createDirectories(tempDir.resolve("source"));
+        for (int i = 0; i < 5; i++) {
+            Files.write(source.resolve("resume-" + i + ".pdf"), pdf("Jane Doe jane@example.com Kubernetes"));
+        }
+
+        // When
+        BulkImportResponse report = importService.importDirectory(source, null);
+
+        // Then
+        assertThat(report.getImported()).isEqualTo(5);
+        assertThat(report.getFailed()).isZero();
+
+        // Batches are capped at max-in-flight, so five documents need at least three writes
+        ArgumentCaptor<List<ImportedResume>> batches = ArgumentCaptor.forClass(List.class);
+        verify(resumeBatchRepository, atLeast(3)).insertAll(batches.capture());
+        assertThat(batches.getAllValues()).allMatch(batch -> batch.size() <= 2);
+    }
+
+    @Test
+    @Timeout(30)
+    void shouldFreeTheSlotOfAFileWhoseParserFailsWithAnError() throws Exception {
+        // Given - more failing files than may be in flight, so a leaked slot would block the reader
+        Path source = Files.createDirectories(tempDir.resolve("source"));
+        for (int i = 0; i < 5; i++) {
+            Files.write(source.resolve("resume-" + i + ".pdf"), pdf("Jane Doe jane" + i + "@example.com"));
+        }
+        doThrow(new StackOverflowError()).when(parsingService).extractTextFromFile(any(Path.class));
+
+        // When
+        BulkImportResponse report = importService.importDirectory(source, null);
+
+        // Then
+        assertThat(report.getFailed()).isEqualTo(5);
+        assertThat(report.getFailures()).extracting(FileFailure::reason)
+                .containsOnly("Could not parse: StackOverflowError");
+        try (Stream<Path> uploads = Files.list(tempDir.resolve("uploads"))) {
+            assertThat(uploads).isEmpty();
+        }
+    }
+
+    private static byte[] pdf(String text) throws IOException {
+        try (PDDocument document = new PDDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            PDPage page = new PDPage();
+            document.addPage(page);
+            try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                content.beginText();
+                content.setFont(PDType1Font.HELVETICA, 12);
+                content.newLineAtOffset(50, 700);
+                content.showText(text);
+                content.endText();
+            }
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+
+    private static byte[] zip(Map<String, byte[]> entries) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                zip.putNextEntry(new ZipEntry(entry.getKey()));
+                zip.write(entry.getValue());
+                zip.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,154 @@
+package com.jobboard.service;
+
+import com.jobboard.domain.Job;
+import com.jobboard.domain.JobSkill;
+import com.jobboard.matching.CandidateFeatures;
+import com.jobboard.matching.CandidateRanker;
+import com.jobboard.matching.JobFeatures;
+import com.jobboard.matching.RankedCandidate;
+import com.jobboard.repository.CandidateRankingRepository;
+import com.jobboard.skill.SkillTaxonomy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class CandidateRankingServiceTest {
+
+    private static final int MONTH = CandidateFeatures.epochMonth(LocalDate.of(2024, 6, 1));
+
+    private SkillTaxonomy taxonomy;
+    private CandidateRankingRepository candidateRankingRepository;
+    private CandidateFeaturesService candidateFeaturesService;
+    private CandidateRankingService candidateRankingService;
+    private final Map<Long, CandidateFeatures> stored = new LinkedHashMap<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        SkillTaxonomyService skillTaxonomyService = new SkillTaxonomyService(
+                new ClassPathResource("skills/taxonomy.json"));
+        taxonomy = skillTaxonomyService.current();
+
+        candidateRankingRepository = mock(CandidateRankingRepository.class);
+        doAnswer(invocation -> {
+            BiConsumer<Long, CandidateFeatures> consumer = invocation.getArgument(1);
+            stored.forEach(consumer);
+            return null;
+        }).when(candidateRankingRepository).loadAllFeatures(any(), any());
+
+        candidateFeaturesService = new CandidateFeaturesService();
+        ReflectionTestUtils.setField(candidateFeaturesService, "candidateRankingRepository",
+                candidateRankingRepository);
+        ReflectionTestUtils.setField(candidateFeaturesService, "skillTaxonomyService", skillTaxonomyService);
+
+        candidateRankingService = new CandidateRankingService(2);
+        ReflectionTestUtils.setField(candidateRankingService, "candidateFeaturesService", candidateFeaturesService);
+
+        Random random = new Random(11);
+        int[] skillIds = taxonomy.skillIds().stream().mapToInt(Integer::intValue).sorted().toArray();
+        for (long candidateId = 1; candidateId <= 5_000; candidateId++) {
+            CandidateFeatures.Builder builder = CandidateFeatures.builder(taxonomy);
+            int skillCount = random.nextInt(10);
+            for (int s = 0; s < skillCount; s++) {
+                builder.addSkill(skillIds[random.nextInt(skillIds.length)], null, random.nextInt(9));
+            }
+            builder.addExperience(LocalDate.of(2012 + random.nextInt(12), 1, 1), null);
+            builder.addEducation(random.nextBoolean() ? "Bachelor of Arts" : "Master of Science");
+            stored.put(candidateId, builder.build());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        candidateRankingService.shutdown();
+    }
+
+    @Test
+    void shouldReturnSameTopKAsFullScan() {
+        List<Job> jobs = List.of(
+                job(new String[] { "java", "spring boot" }, new String[] { "docker", "aws" }),
+                job(new String[] { "rust", "kubernetes", "graphql" }, new String[0]),
+                job(new String[0], new String[] { "python", "django" }),
+                job(new String[0], new String[0]));
+
+        ForkJoinPool executor = new ForkJoinPool(2);
+        try {
+            for (Job job : jobs) {
+                for (int limit : new int[] { 1, 20, 200 }) {
+                    // Given
+                    JobFeatures jobFeatures = JobFeatures.of(job, taxonomy);
+
+                    // When
+                    List<RankedCandidate> ranked = candidateRankingService.rankCandidates(jobFeatures, taxonomy,
+                            limit, MONTH);
+
+                    // Then
+                    List<RankedCandidate> expected = CandidateRanker.topK(candidateFeaturesService.getPool(taxonomy),
+                            jobFeatures, limit, MONTH, executor);
+                    assertThat(ranked).extracting(RankedCandidate::candidateId)
+                            .containsExactlyElementsOf(expected.stream().map(RankedCandidate::candidateId).toList());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldReindexChangedCandidatesOnNextRead() {
+        // Given
+        int rust = taxonomy.idOf("rust");
+        candidateFeaturesService.getPool(taxonomy);
+        CandidateFeatures rustacean = CandidateFeatures.builder(taxonomy).addSkill(rust, null, 3).build();
+        when(candidateRankingRepository.loadFeatures(anyCollection(), any()))
+                .thenReturn(Map.of(42L, rustacean));
+
+        // When
+        candidateFeaturesService.evict(42L);
+        candidateFeaturesService.evict(43L);
+
+        // Then - 42 was reloaded, 43 no longer has any rows
+        assertThat(candidateFeaturesService.getIndex(taxonomy).allOf(new int[] { rust }).contains(42)).isTrue();
+        assertThat(candidateFeaturesService.getPool(taxonomy).size()).isEqualTo(4_999);
+        assertThat(candidateFeaturesService.getStats()).containsEntry("candidates", 4_999);
+        verify(candidateRankingRepository, times(1)).loadAllFeatures(any(), any());
+    }
+
+    private Job job(String[] requiredSkills, String[] optionalSkills) {
+        Job job = new Job();
+        job.setDescription("Mid-level engineer");
+        job.setRequirements("Bachelor's degree");
+        List<JobSkill> jobSkills = new ArrayList<>();
+        for (String skill : requiredSkills) {
+            jobSkills.add(jobSkill(job, skill, true));
+        }
+        for (String skill : optionalSkills) {
+            jobSkills.add(jobSkill(job, skill, false));
+        }
+        job.setJobSkills(jobSkills);
+        return job;
+    }
+
+    private JobSkill jobSkill(Job job, String name, boolean required) {
+        JobSkill jobSkill = new JobSkill();
+        jobSkill.setJob(job);
+        jobSkill.setSkillName(name);
+        jobSkill.setSkillId(taxonomy.idOf(name));
+        jobSkill.setRequired(required);
+        jobSkill.setMinYears(3);
+        jobSkill.setWeight(BigDecimal.ONE);
+        return jobSkill;
+    }
+}
@@ -0,0 +1,102 @@
+package com.jobboard.service;
+
+import com.jobboard.domain.Candidate;
+import com.jobboard.domain.ImportedResume;
+import com.jobboard.domain.Resume;
+import com.jobboard.domain.ResumeSkill;
+import com.jobboard.domain.User;
+import com.jobboard.dto.candidate.ResumeStatusResponse;
+import com.jobboard.event.CandidateProfileChangedEvent;
+import com.jobboard.exception.ResourceNotFoundException;
+import com.jobboard.repository.CandidateRepository;
+import com.jobboard.repository.ImportedResumeRepository;
+import com.jobboard.repository.ResumeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CandidateServiceTest {
+
+    @Mock
+    private CandidateRepository candidateRepository;
+
+    @Mock
+    private ResumeRepository resumeRepository;
+
+    @Mock
+    private ImportedResumeRepository importedResumeRepository;
+
+    @Mock
+    private ResumeParsingService resumeParsingService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private CandidateService candidateService;
+
+    private Candidate candidate;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("Jane@Example.com");
+        candidate = new Candidate();
+        candidate.setId(7L);
+        candidate.setUser(user);
+        when(candidateRepository.findByUserId(1L)).thenReturn(Optional.of(candidate));
+    }
+
+    @Test
+    void shouldAddAClaimedImportToTheProfile() {
+        // Given
+        ImportedResume imported = new ImportedResume("jane@example.com", 3L, "/uploads/a.pdf", "fair/jane.pdf");
+        imported.setId(5L);
+        imported.setParsedText("Java and Docker");
+        when(importedResumeRepository.findByIdAndEmail(5L, "jane@example.com")).thenReturn(Optional.of(imported));
+        when(resumeParsingService.extractSkills(any(Resume.class), eq("Java and Docker")))
+                .thenAnswer(invocation -> List.of(new ResumeSkill(invocation.getArgument(0), "java")));
+        when(resumeRepository.save(any(Resume.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        ResumeStatusResponse status = candidateService.claimImportedResume(1L, 5L);
+
+        // Then
+        ArgumentCaptor<Resume> saved = ArgumentCaptor.forClass(Resume.class);
+        verify(resumeRepository).save(saved.capture());
+        assertThat(saved.getValue().getCandidate()).isSameAs(candidate);
+        assertThat(saved.getValue().getParsedText()).isEqualTo("Java and Docker");
+        assertThat(saved.getValue().getResumeSkills()).extracting(ResumeSkill::getSkillName).containsExactly("java");
+        assertThat(status.getStatus()).isEqualTo(Resume.ResumeStatus.PARSED);
+        verify(importedResumeRepository).delete(imported);
+        verify(eventPublisher).publishEvent(new CandidateProfileChangedEvent(7L));
+    }
+
+    @Test
+    void shouldNotClaimAnImportNamingSomeoneElse() {
+        // Given - the import exists, but under another email
+        when(importedResumeRepository.findByIdAndEmail(5L, "jane@example.com")).thenReturn(Optional.empty());
+
+        // Then
+        assertThatThrownBy(() -> candidateService.claimImportedResume(1L, 5L))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(resumeRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+    }
+}
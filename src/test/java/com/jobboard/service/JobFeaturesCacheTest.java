@@ -0,0 +1,110 @@
+package com.jobboard.service;
+
+import com.jobboard.domain.Job;
+import com.jobboard.domain.JobSkill;
+import com.jobboard.event.JobChangedEvent;
+import com.jobboard.matching.EducationLevel;
+import com.jobboard.matching.JobFeatures;
+import com.jobboard.skill.SkillTaxonomy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobFeaturesCacheTest {
+
+    private SkillTaxonomy taxonomy;
+    private JobFeaturesCache jobFeaturesCache;
+    private Job job;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        taxonomy = new SkillTaxonomyService(new ClassPathResource("skills/taxonomy.json")).current();
+        jobFeaturesCache = new JobFeaturesCache(100);
+
+        job = new Job();
+        job.setId(1L);
+        job.setDescription("Senior backend engineer");
+        job.setRequirements("Master's degree preferred");
+        job.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 9, 0));
+        List<JobSkill> jobSkills = new ArrayList<>();
+        JobSkill jobSkill = new JobSkill();
+        jobSkill.setJob(job);
+        jobSkill.setSkillName("java");
+        jobSkill.setRequired(true);
+        jobSkill.setWeight(BigDecimal.ONE);
+        jobSkills.add(jobSkill);
+        job.setJobSkills(jobSkills);
+    }
+
+    @Test
+    void shouldDeriveRequirementsOnceAndPreferThemOverTheText() {
+        // Given
+        JobFeatures.deriveRequirements(job);
+        job.setDescription("Junior engineer");
+        job.setRequirements(null);
+
+        // When
+        JobFeatures features = JobFeatures.of(job, taxonomy);
+
+        // Then - the stored values win until the job is saved again
+        assertThat(job.getRequiredExperienceMonths()).isEqualTo(60);
+        assertThat(job.getRequiredEducationLevel()).isEqualTo(EducationLevel.MASTERS.ordinal());
+        assertThat(features.getRequiredExperienceMonths()).isEqualTo(60);
+        assertThat(features.getRequiredEducationLevel()).isEqualTo(EducationLevel.MASTERS.ordinal());
+    }
+
+    @Test
+    void shouldReuseFeaturesUntilTheJobChanges() {
+        // Given
+        JobFeatures first = jobFeaturesCache.get(job, taxonomy);
+
+        // When
+        JobFeatures second = jobFeaturesCache.get(job, taxonomy);
+        jobFeaturesCache.onJobChanged(new JobChangedEvent(1L, true, true));
+        JobFeatures third = jobFeaturesCache.get(job, taxonomy);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(third).isNotSameAs(first);
+        assertThat(jobFeaturesCache.getStats()).containsEntry("hits", 1L).containsEntry("misses", 2L);
+    }
+
+    @Test
+    void shouldRebuildFeaturesCachedForAnOlderVersionOfTheJob() {
+        // Given - a reader still holding the job as it was before an update
+        Job stale = new Job();
+        stale.setId(1L);
+        stale.setUpdatedAt(LocalDateTime.of(2023, 12, 1, 9, 0));
+        JobFeatures old = jobFeaturesCache.get(stale, taxonomy);
+
+        // When
+        JobFeatures current = jobFeaturesCache.get(job, taxonomy);
+
+        // Then
+        assertThat(old.getSkillCount()).isZero();
+        assertThat(current.getSkillCount()).isEqualTo(1);
+        assertThat(jobFeaturesCache.get(job, taxonomy)).isSameAs(current);
+        assertThat(jobFeaturesCache.getStats()).containsEntry("staleEntries", 1L);
+    }
+
+    @Test
+    void shouldNotCacheUnsavedJobs() {
+        // Given
+        job.setId(null);
+
+        // When
+        JobFeatures first = jobFeaturesCache.get(job, taxonomy);
+        JobFeatures second = jobFeaturesCache.get(job, taxonomy);
+
+        // Then
+        assertThat(second).isNotSameAs(first);
+        assertThat(jobFeaturesCache.getStats()).containsEntry("entries", 0L);
+    }
+}
@@ -0,0 +1,161 @@
+package com.jobboard.service;
+
+import com.jobboard.domain.Candidate;
+import com.jobboard.domain.Job;
+import com.jobboard.domain.JobSkill;
+import com.jobboard.event.CandidateProfileChangedEvent;
+import com.jobboard.event.JobChangedEvent;
+import com.jobboard.matching.CandidateFeatures;
+import com.jobboard.matching.JobFeatures;
+import com.jobboard.matching.MatchScorer;
+import com.jobboard.matching.RankedJob;
+import com.jobboard.repository.JobRepository;
+import com.jobboard.skill.SkillTaxonomy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class JobRecommendationServiceTest {
+
+    private static final String[] SKILLS = { "java", "spring", "python", "django", "kubernetes", "docker", "sql",
+            "react", "typescript", "aws" };
+
+    private SkillTaxonomy taxonomy;
+    private JobRepository jobRepository;
+    private CandidateFeaturesService candidateFeaturesService;
+    private JobRecommendationService jobRecommendationService;
+    private Candidate candidate;
+    private CandidateFeatures candidateFeatures;
+    private final List<Job> jobs = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        SkillTaxonomyService skillTaxonomyService = new SkillTaxonomyService(
+                new ClassPathResource("skills/taxonomy.json"));
+        taxonomy = skillTaxonomyService.current();
+
+        Random random = new Random(7);
+        for (long jobId = 1; jobId <= 300; jobId++) {
+            List<String> skills = new ArrayList<>();
+            for (int s = 0; s < 1 + random.nextInt(4); s++) {
+                skills.add(SKILLS[random.nextInt(SKILLS.length)]);
+            }
+            jobs.add(job(jobId, skills.stream().distinct().toArray(String[]::new), random.nextInt(6)));
+        }
+
+        jobRepository = mock(JobRepository.class);
+        when(jobRepository.findAllActiveWithSkills()).thenAnswer(invocation -> jobs.stream()
+                .filter(job -> job.getStatus() == Job.JobStatus.ACTIVE)
+                .toList());
+
+        candidate = new Candidate();
+        candidate.setId(1L);
+        candidateFeatures = CandidateFeatures.builder(taxonomy)
+                .addSkill(null, "java", 4)
+                .addSkill(null, "sql", 2)
+                .addSkill(null, "docker", null)
+                .addExperience(LocalDate.now().minusYears(3), null)
+                .addEducation("Bachelor of Science")
+                .build();
+        candidateFeaturesService = mock(CandidateFeaturesService.class);
+        when(candidateFeaturesService.getFeatures(any(), any())).thenReturn(candidateFeatures);
+
+        jobRecommendationService = new JobRecommendationService(20, 100, Duration.ofHours(1));
+        ReflectionTestUtils.setField(jobRecommendationService, "jobRepository", jobRepository);
+        ReflectionTestUtils.setField(jobRecommendationService, "candidateFeaturesService", candidateFeaturesService);
+        ReflectionTestUtils.setField(jobRecommendationService, "skillTaxonomyService", skillTaxonomyService);
+    }
+
+    @Test
+    void shouldReturnBestJobsSharingASkillInStableOrder() {
+        // Given
+        int month = CandidateFeatures.epochMonth(LocalDate.now());
+        List<RankedJob> expected = jobs.stream()
+                .map(job -> new RankedJob(job.getId(),
+                        MatchScorer.score(candidateFeatures, JobFeatures.of(job, taxonomy), month)))
+                .filter(ranked -> sharesSkill(jobs.get((int) ranked.jobId() - 1)))
+                .sorted(Comparator.comparingDouble(RankedJob::totalScore).reversed()
+                        .thenComparingLong(RankedJob::jobId))
+                .limit(20)
+                .toList();
+
+        // When
+        List<RankedJob> recommended = jobRecommendationService.getRecommendations(candidate);
+
+        // Then
+        assertThat(recommended).hasSize(20).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldMemoizeUntilTheCandidateChanges() {
+        // Given
+        List<RankedJob> first = jobRecommendationService.getRecommendations(candidate);
+
+        // When
+        List<RankedJob> second = jobRecommendationService.getRecommendations(candidate);
+        jobRecommendationService.onCandidateProfileChanged(new CandidateProfileChangedEvent(1L));
+        List<RankedJob> third = jobRecommendationService.getRecommendations(candidate);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(third).isNotSameAs(first).isEqualTo(first);
+        verify(candidateFeaturesService, times(2)).getFeatures(candidate, taxonomy);
+        verify(jobRepository, times(1)).findAllActiveWithSkills();
+    }
+
+    @Test
+    void shouldReloadOnlyChangedJobsAndRerank() {
+        // Given
+        List<RankedJob> before = jobRecommendationService.getRecommendations(candidate);
+        Job best = jobs.get((int) before.get(0).jobId() - 1);
+        best.setStatus(Job.JobStatus.CLOSED);
+        when(jobRepository.findAllByIdWithSkills(anyCollection())).thenReturn(List.of(best));
+
+        // When
+        jobRecommendationService.onJobChanged(new JobChangedEvent(best.getId(), true, false));
+        List<RankedJob> after = jobRecommendationService.getRecommendations(candidate);
+
+        // Then
+        assertThat(after).extracting(RankedJob::jobId).doesNotContain(best.getId());
+        assertThat(after.get(0)).isEqualTo(before.get(1));
+        verify(jobRepository, times(1)).findAllActiveWithSkills();
+        verify(jobRepository).findAllByIdWithSkills(List.of(best.getId()));
+        assertThat(jobRecommendationService.getStats()).containsEntry("catalogVersion", 2L)
+                .containsEntry("jobs", 299);
+    }
+
+    private boolean sharesSkill(Job job) {
+        return job.getJobSkills().stream()
+                .anyMatch(jobSkill -> candidateFeatures.hasSkill(taxonomy.idOf(jobSkill.getSkillName())));
+    }
+
+    private static Job job(long jobId, String[] skills, int minYears) {
+        Job job = new Job();
+        job.setId(jobId);
+        job.setDescription(jobId % 2 == 0 ? "Senior engineer" : "Junior engineer");
+        job.setRequirements("Bachelor's degree");
+        List<JobSkill> jobSkills = new ArrayList<>();
+        for (int i = 0; i < skills.length; i++) {
+            JobSkill jobSkill = new JobSkill();
+            jobSkill.setJob(job);
+            jobSkill.setSkillName(skills[i]);
+            jobSkill.setRequired(i == 0);
+            jobSkill.setMinYears(minYears);
+            jobSkill.setWeight(BigDecimal.ONE);
+            jobSkills.add(jobSkill);
+        }
+        job.setJobSkills(jobSkills);
+        return job;
+    }
+}
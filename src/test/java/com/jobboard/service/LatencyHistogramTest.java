@@ -0,0 +1,39 @@
+package com.jobboard.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyHistogramTest {
+
+    @Test
+    void shouldEstimatePercentilesWithinBucketWidth() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 1000; millis++) {
+            histogram.record(millis * 1_000_000L);
+        }
+
+        // When
+        Map<String, Object> stats = histogram.snapshot();
+
+        // Then
+        assertThat(stats).containsEntry("count", 1000L).containsEntry("maxMillis", 1000.0);
+        assertThat((Double) stats.get("meanMillis")).isCloseTo(500.5, within(0.01));
+        assertThat((Double) stats.get("p50Millis")).isCloseTo(500.0, within(500.0 * 0.25));
+        assertThat((Double) stats.get("p90Millis")).isCloseTo(900.0, within(900.0 * 0.25));
+        assertThat((Double) stats.get("p99Millis")).isLessThanOrEqualTo(1000.0);
+    }
+
+    @Test
+    void shouldReportZerosWhenEmpty() {
+        // When
+        Map<String, Object> stats = new LatencyHistogram().snapshot();
+
+        // Then
+        assertThat(stats).containsEntry("count", 0L).containsEntry("p99Millis", 0.0);
+    }
+}
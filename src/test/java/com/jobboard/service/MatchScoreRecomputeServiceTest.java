@@ -0,0 +1,166 @@
+package com.jobboard.service;
+
+import com.jobboard.domain.Job;
+import com.jobboard.domain.JobSkill;
+import com.jobboard.domain.MatchScore;
+import com.jobboard.event.CandidateProfileChangedEvent;
+import com.jobboard.event.JobChangedEvent;
+import com.jobboard.matching.CandidateFeatures;
+import com.jobboard.repository.CandidateRankingRepository;
+import com.jobboard.repository.JobRepository;
+import com.jobboard.repository.MatchScoreWriteRepository;
+import com.jobboard.repository.MatchScoreWriteRepository.Pair;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MatchScoreRecomputeServiceTest {
+
+    @Mock
+    private MatchScoreWriteRepository matchScoreWriteRepository;
+
+    @Mock
+    private CandidateRankingRepository candidateRankingRepository;
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Spy
+    private MatchingService matchingService = new MatchingService();
+
+    @Spy
+    private SkillTaxonomyService skillTaxonomyService = new SkillTaxonomyService(
+            new ClassPathResource("skills/taxonomy.json"));
+
+    @Spy
+    private JobFeaturesCache jobFeaturesCache = new JobFeaturesCache(100);
+
+    @InjectMocks
+    private MatchScoreRecomputeService recomputeService;
+
+    MatchScoreRecomputeServiceTest() throws IOException {
+    }
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(recomputeService, "batchSize", 2);
+    }
+
+    @Test
+    void shouldCoalesceChangesAndRecomputeAffectedPairsInBatches() {
+        // Given
+        recomputeService.onCandidateProfileChanged(new CandidateProfileChangedEvent(1L));
+        recomputeService.onCandidateProfileChanged(new CandidateProfileChangedEvent(1L));
+        recomputeService.onJobChanged(new JobChangedEvent(10L, true, true));
+        when(matchScoreWriteRepository.findPairs(Set.of(1L), Set.of(10L))).thenReturn(List.of(
+                new Pair(1L, 10L), new Pair(1L, 11L), new Pair(2L, 10L), new Pair(1L, 10L)));
+        when(jobRepository.findAllByIdWithSkills(any())).thenReturn(List.of(job(10L), job(11L)));
+        when(candidateRankingRepository.loadFeatures(any(), any())).thenAnswer(invocation -> Map.of(
+                1L, CandidateFeatures.builder(skillTaxonomyService.current()).addSkill(null, "java", 5).build()));
+
+        // When
+        int written = recomputeService.recomputeDirty();
+
+        // Then
+        assertThat(written).isEqualTo(3);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<MatchScore>> batches = ArgumentCaptor.forClass(List.class);
+        verify(matchScoreWriteRepository, times(2)).upsertAll(batches.capture());
+        List<MatchScore> scores = batches.getAllValues().stream().flatMap(List::stream).toList();
+        assertThat(scores).extracting(score -> score.getCandidate().getId() + ":" + score.getJob().getId())
+                .containsExactly("1:10", "2:10", "1:11");
+        assertThat(scores.get(0).getSkillScore()).isGreaterThan(scores.get(1).getSkillScore());
+
+        Map<String, Object> stats = recomputeService.getStats();
+        assertThat(stats).containsEntry("pendingCandidates", 0).containsEntry("pendingJobs", 0)
+                .containsEntry("pairsRecomputed", 3L).containsEntry("batches", 2L);
+        assertThat(stats.get("lag")).asInstanceOf(InstanceOfAssertFactories.MAP)
+                .containsEntry("count", 2L);
+    }
+
+    @Test
+    void shouldKeepIdsDirtyWhenWriteFails() {
+        // Given
+        recomputeService.onCandidateProfileChanged(new CandidateProfileChangedEvent(1L));
+        when(matchScoreWriteRepository.findPairs(Set.of(1L), Set.of())).thenReturn(List.of(new Pair(1L, 10L)));
+        when(jobRepository.findAllByIdWithSkills(any())).thenReturn(List.of(job(10L)));
+        when(candidateRankingRepository.loadFeatures(any(), any())).thenReturn(Map.of());
+        doThrow(new DataAccessResourceFailureException("connection lost"))
+                .when(matchScoreWriteRepository).upsertAll(anyList());
+
+        // When
+        int written = recomputeService.recomputeDirty();
+
+        // Then
+        assertThat(written).isZero();
+        assertThat(recomputeService.getStats())
+                .containsEntry("pendingCandidates", 1)
+                .containsEntry("failures", 1L);
+    }
+
+    @Test
+    void shouldNotRecordLagForIdsWithoutStoredScores() {
+        // Given - candidate 2 has never been scored against anything
+        recomputeService.onCandidateProfileChanged(new CandidateProfileChangedEvent(1L));
+        recomputeService.onCandidateProfileChanged(new CandidateProfileChangedEvent(2L));
+        when(matchScoreWriteRepository.findPairs(Set.of(1L, 2L), Set.of())).thenReturn(List.of(new Pair(1L, 10L)));
+        when(jobRepository.findAllByIdWithSkills(any())).thenReturn(List.of(job(10L)));
+        when(candidateRankingRepository.loadFeatures(any(), any())).thenReturn(Map.of());
+
+        // When
+        recomputeService.recomputeDirty();
+
+        // Then
+        assertThat(recomputeService.getStats()).containsEntry("pendingCandidates", 0);
+        assertThat(recomputeService.getStats().get("lag")).asInstanceOf(InstanceOfAssertFactories.MAP)
+                .containsEntry("count", 1L);
+    }
+
+    @Test
+    void shouldDoNothingWhenNothingChanged() {
+        // When
+        int written = recomputeService.recomputeDirty();
+
+        // Then
+        assertThat(written).isZero();
+        verify(matchScoreWriteRepository, never()).findPairs(any(), any());
+    }
+
+    private Job job(Long id) {
+        Job job = new Job();
+        job.setId(id);
+        JobSkill jobSkill = new JobSkill();
+        jobSkill.setJob(job);
+        jobSkill.setSkillName("java");
+        jobSkill.setRequired(true);
+        jobSkill.setMinYears(2);
+        jobSkill.setWeight(BigDecimal.ONE);
+        job.setJobSkills(List.of(jobSkill));
+        return job;
+    }
+}
@@ -0,0 +1,100 @@
+package com.jobboard.service;
+
+import com.jobboard.dto.job.JobResponse;
+import com.jobboard.dto.job.JobSearchPage;
+import com.jobboard.event.JobChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublicJobCacheTest {
+
+    private PublicJobCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        cache = new PublicJobCache(DataSize.ofMegabytes(1), DataSize.ofMegabytes(1), Duration.ofMinutes(10));
+    }
+
+    @Test
+    void shouldShareEntryBetweenEquivalentSearches() {
+        // Given
+        PublicJobCache.SearchKey first = new PublicJobCache.SearchKey(PublicJobCache.normalize("  Java   Developer "),
+                null, null, null, null, new BigDecimal("100000.00"), "null:20");
+        PublicJobCache.SearchKey second = new PublicJobCache.SearchKey(PublicJobCache.normalize("java developer"),
+                null, null, null, null, new BigDecimal("100000"), "null:20");
+
+        // When
+        cache.getSearch(first, this::loadPage);
+        cache.getSearch(second, this::loadPage);
+
+        // Then
+        assertThat(loads).hasValue(1);
+        assertThat(stats("searches")).containsEntry("hits", 1L).containsEntry("loads", 1L);
+    }
+
+    @Test
+    void shouldDropSearchesWhenListedJobChanges() {
+        // Given
+        PublicJobCache.SearchKey key = searchKey();
+        cache.getSearch(key, this::loadPage);
+        cache.getJob(1L, () -> job(1L));
+
+        // When
+        cache.onJobChanged(new JobChangedEvent(1L, true, true));
+        cache.getSearch(key, this::loadPage);
+        cache.getJob(1L, () -> job(1L));
+
+        // Then
+        assertThat(loads).hasValue(2);
+        assertThat(stats("jobs")).containsEntry("loads", 2L);
+    }
+
+    @Test
+    void shouldKeepSearchesWhenUnlistedJobChanges() {
+        // Given
+        PublicJobCache.SearchKey key = searchKey();
+        cache.getSearch(key, this::loadPage);
+        cache.getJob(2L, () -> job(2L));
+
+        // When
+        cache.onJobChanged(new JobChangedEvent(3L, false, false));
+        cache.getSearch(key, this::loadPage);
+        cache.getJob(2L, () -> job(2L));
+
+        // Then
+        assertThat(loads).hasValue(1);
+        assertThat(stats("jobs")).containsEntry("hits", 1L);
+    }
+
+    private PublicJobCache.SearchKey searchKey() {
+        return new PublicJobCache.SearchKey("java", null, null, null, null, null, "null:20");
+    }
+
+    private JobSearchPage loadPage() {
+        loads.incrementAndGet();
+        return new JobSearchPage(List.of(job(1L)), null);
+    }
+
+    private JobResponse job(Long id) {
+        JobResponse job = new JobResponse();
+        job.setId(id);
+        job.setTitle("Java Developer");
+        job.setDescription("Spring Boot services");
+        return job;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> stats(String cacheName) {
+        return (Map<String, Object>) cache.getStats().get(cacheName);
+    }
+}
@@ -0,0 +1,110 @@
+package com.jobboard.service;
+
+import com.jobboard.domain.Candidate;
+import com.jobboard.domain.Resume;
+import com.jobboard.event.CandidateProfileChangedEvent;
+import com.jobboard.event.ResumeUploadedEvent;
+import com.jobboard.repository.ResumeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ResumeIngestionPipelineTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private ResumeRepository resumeRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private ResumeParsingService parsingService;
+    private ResumeIngestionPipeline pipeline;
+    private Resume resume;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        parsingService = spy(new ResumeParsingService());
+        ReflectionTestUtils.setField(parsingService, "skillTaxonomyService",
+                new SkillTaxonomyService(new ClassPathResource("skills/taxonomy.json")));
+        ReflectionTestUtils.setField(parsingService, "maxChars", 100_000);
+        ReflectionTestUtils.setField(parsingService, "timeout", Duration.ofSeconds(10));
+
+        resumeRepository = mock(ResumeRepository.class);
+        resume = new Resume();
+        resume.setId(1L);
+        Candidate candidate = new Candidate();
+        candidate.setId(7L);
+        resume.setCandidate(candidate);
+        when(resumeRepository.findById(1L)).thenReturn(Optional.of(resume));
+
+        pipeline = new ResumeIngestionPipeline(1, 1, 1, 4);
+        ReflectionTestUtils.setField(pipeline, "resumeParsingService", parsingService);
+        ReflectionTestUtils.setField(pipeline, "resumeRepository", resumeRepository);
+        ReflectionTestUtils.setField(pipeline, "transactionTemplate",
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        ReflectionTestUtils.setField(pipeline, "eventPublisher", eventPublisher);
+    }
+
+    @Test
+    void shouldParseExtractAndPersistInBackground() throws Exception {
+        // Given
+        Path file = Files.writeString(uploadDir.resolve("resume.txt"),
+                "Jane Doe - jane@example.com\nJava (6 years), Spring Boot and Docker");
+
+        // When
+        pipeline.onResumeUploaded(new ResumeUploadedEvent(1L, file));
+        pipeline.shutdown();
+
+        // Then
+        assertThat(resume.getStatus()).isEqualTo(Resume.ResumeStatus.PARSED);
+        assertThat(resume.getParsedText()).contains("Spring Boot");
+        assertThat(resume.getSkillsJson()).containsEntry("email", "jane@example.com");
+        assertThat(resume.getResumeSkills())
+                .extracting(skill -> skill.getSkillName())
+                .containsExactly("java", "spring", "spring boot", "docker");
+        assertThat(resume.getResumeSkills()).allMatch(skill -> skill.getResume() == resume);
+        verify(eventPublisher).publishEvent(new CandidateProfileChangedEvent(7L));
+    }
+
+    @Test
+    void shouldMarkResumeFailedWhenFileCannotBeParsed() throws Exception {
+        // When
+        pipeline.onResumeUploaded(new ResumeUploadedEvent(1L, uploadDir.resolve("missing.pdf")));
+        pipeline.shutdown();
+
+        // Then
+        assertThat(resume.getStatus()).isEqualTo(Resume.ResumeStatus.FAILED);
+        assertThat(resume.getStatusMessage()).startsWith("Could not read resume");
+        assertThat(resume.getResumeSkills()).isEmpty();
+        verify(eventPublisher, never()).publishEvent(any(CandidateProfileChangedEvent.class));
+    }
+
+    @Test
+    void shouldMarkResumeFailedWhenParserFailsWithAnError() throws Exception {
+        // Given
+        Path file = Files.writeString(uploadDir.resolve("resume.txt"), "Jane Doe - jane@example.com");
+        doThrow(new StackOverflowError()).when(parsingService).extractTextFromFile(any(Path.class));
+
+        // When
+        pipeline.onResumeUploaded(new ResumeUploadedEvent(1L, file));
+        pipeline.shutdown();
+
+        // Then
+        assertThat(resume.getStatus()).isEqualTo(Resume.ResumeStatus.FAILED);
+        assertThat(resume.getStatusMessage()).isEqualTo("Could not read resume: StackOverflowError");
+    }
+}
@@ -3,29 +3,61 @@ package com.jobboard.service;
 import com.jobboard.domain.Candidate;
 import com.jobboard.domain.Resume;
 import com.jobboard.domain.ResumeSkill;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.tika.exception.TikaException;
+import org.apache.tika.metadata.Metadata;
+import org.apache.tika.parser.AutoDetectParser;
+import org.apache.tika.parser.ParseContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.mock.web.MockMultipartFile;
-
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.xml.sax.ContentHandler;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @ExtendWith(MockitoExtension.class)
 class ResumeParsingServiceTest {
 
+    @Spy
+    private SkillTaxonomyService skillTaxonomyService = new SkillTaxonomyService(
+            new ClassPathResource("skills/taxonomy.json"));
+
     @InjectMocks
     private ResumeParsingService resumeParsingService;
 
     private Resume testResume;
     private Candidate testCandidate;
 
+    ResumeParsingServiceTest() throws IOException {
+    }
+
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(resumeParsingService, "maxChars", 100_000);
+        ReflectionTestUtils.setField(resumeParsingService, "timeout", Duration.ofSeconds(10));
+
         testCandidate = new Candidate();
         testCandidate.setId(1L);
 
@@ -52,6 +84,74 @@ class ResumeParsingServiceTest {
         // Note: Actual PDF parsing would require a real PDF file
     }
 
+    @Test
+    void shouldStopExtractingAtCharacterLimit() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(resumeParsingService, "maxChars", 20);
+        MockMultipartFile textFile = new MockMultipartFile(
+                "resume",
+                "resume.txt",
+                "text/plain",
+                "Java developer with ten years of Spring Boot and Kubernetes".getBytes());
+
+        // When
+        String extractedText = resumeParsingService.extractTextFromFile(textFile);
+
+        // Then
+        assertThat(extractedText).hasSize(20).startsWith("Java developer");
+        assertThat(resumeParsingService.getStats())
+                .containsEntry("mode", "in-process")
+                .containsEntry("truncated", 1L);
+    }
+
+    @Test
+    @Timeout(30)
+    void shouldAbandonAnInProcessParserThatNeverProducesText() {
+        // Given - the handler's deadline check never runs, as no text comes out
+        ReflectionTestUtils.setField(resumeParsingService, "timeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(resumeParsingService, "parser", new SpinOnMarkerParser());
+
+        // Then
+        assertThatThrownBy(() -> resumeParsingService.extractTextFromFile(textFile(SpinOnMarkerParser.MARKER)))
+                .isInstanceOf(TikaException.class)
+                .hasMessageContaining("longer than 1s");
+        assertThat(resumeParsingService.getStats()).containsEntry("timeouts", 1L);
+    }
+
+    @Test
+    @Timeout(120)
+    void shouldReplaceAForkedWorkerThatOverrunsTheTimeout() throws Exception {
+        // Given - a single worker, whose parser spins on the marker and parses anything else normally;
+        // the timeout leaves a cold worker room to load the PDF parser
+        ReflectionTestUtils.setField(resumeParsingService, "timeout", Duration.ofSeconds(15));
+        ReflectionTestUtils.setField(resumeParsingService, "workers", 1);
+        ReflectionTestUtils.setField(resumeParsingService, "workerHeap", DataSize.ofMegabytes(256));
+        ReflectionTestUtils.setField(resumeParsingService, "workerMaxDocuments", 100);
+        ReflectionTestUtils.setField(resumeParsingService, "autoDetectParser", new SpinOnMarkerParser());
+        resumeParsingService.startWorkers();
+        try {
+            MockMultipartFile resume = new MockMultipartFile("resume", "resume.pdf", "application/pdf",
+                    pdf("Jane Doe, Java developer"));
+
+            // When
+            String before = resumeParsingService.extractTextFromFile(resume);
+
+            // Then - the worker kills itself at the timeout, and the next document gets a fresh one
+            assertThatThrownBy(() -> resumeParsingService.extractTextFromFile(textFile(SpinOnMarkerParser.MARKER)))
+                    .isInstanceOf(TikaException.class)
+                    .hasMessageContaining("longer than 15s");
+            String after = resumeParsingService.extractTextFromFile(resume);
+
+            assertThat(before).contains("Jane Doe, Java developer");
+            assertThat(after).contains("Jane Doe, Java developer");
+            assertThat(resumeParsingService.getStats())
+                    .containsEntry("mode", "forked")
+                    .containsEntry("timeouts", 1L);
+        } finally {
+            resumeParsingService.stopWorkers();
+        }
+    }
+
     @Test
     void shouldExtractSkillsFromText() {
         // Given
@@ -304,4 +404,63 @@ class ResumeParsingServiceTest {
         // Should not extract partial matches like "script" from "javascript"
         assertThat(skillNames).doesNotContain("script");
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldStoreCanonicalSkillForAliases() {
+        // Given
+        String resumeText = "Deployed services to K8s and wrote them in Golang.";
+
+        // When
+        List<ResumeSkill> skills = resumeParsingService.extractSkills(testResume, resumeText);
+
+        // Then
+        assertThat(skills).extracting(ResumeSkill::getSkillName).containsExactly("kubernetes", "go");
+        assertThat(skills).extracting(ResumeSkill::getSkillId).containsExactly(26, 9);
+    }
+
+    private static MockMultipartFile textFile(String text) {
+        return new MockMultipartFile("resume", "resume.txt", "text/plain", text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] pdf(String text) throws IOException {
+        try (PDDocument document = new PDDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            PDPage page = new PDPage();
+            document.addPage(page);
+            try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                content.beginText();
+                content.setFont(PDType1Font.HELVETICA, 12);
+                content.newLineAtOffset(50, 700);
+                content.showText(text);
+                content.endText();
+            }
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+
+    /**
+     * Loops without emitting text on documents starting with the marker, as some
+     * malformed files make real parsers do, and parses anything else normally.
+     * Serializable, so it can be sent to a forked worker.
+     */
+    static class SpinOnMarkerParser extends AutoDetectParser {
+
+        static final String MARKER = "SPIN";
+
+        @Override
+        public void parse(InputStream stream, ContentHandler handler, Metadata metadata, ParseContext context)
+                throws IOException, org.xml.sax.SAXException, TikaException {
+            InputStream buffered = new BufferedInputStream(stream);
+            buffered.mark(MARKER.length());
+            byte[] head = buffered.readNBytes(MARKER.length());
+            buffered.reset();
+            if (!Arrays.equals(head, MARKER.getBytes(StandardCharsets.UTF_8))) {
+                super.parse(buffered, handler, metadata, context);
+                return;
+            }
+            while (!Thread.currentThread().isInterrupted()) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
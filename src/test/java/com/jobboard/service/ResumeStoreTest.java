@@ -0,0 +1,78 @@
+package com.jobboard.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResumeStoreTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private ResumeStore resumeStore;
+
+    @BeforeEach
+    void setUp() {
+        resumeStore = new ResumeStore(uploadDir.resolve("resumes").toString());
+    }
+
+    @Test
+    void shouldStoreUploadUnderItsSha256() throws Exception {
+        // When
+        ResumeStore.StoredFile stored = resumeStore.store(pdf("abc"));
+
+        // Then
+        assertThat(stored.contentHash()).isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+        assertThat(stored.path().getFileName().toString()).isEqualTo(stored.contentHash() + ".pdf");
+        assertThat(stored.duplicate()).isFalse();
+        assertThat(Files.readString(stored.path())).isEqualTo("abc");
+    }
+
+    @Test
+    void shouldKeepOneCopyOfDuplicateUploads() throws Exception {
+        // Given
+        ResumeStore.StoredFile first = resumeStore.store(pdf("same resume"));
+
+        // When
+        ResumeStore.StoredFile second = resumeStore.store(pdf("same resume"));
+        ResumeStore.StoredFile other = resumeStore.store(pdf("another resume"));
+
+        // Then
+        assertThat(second.duplicate()).isTrue();
+        assertThat(second.path()).isEqualTo(first.path());
+        assertThat(other.duplicate()).isFalse();
+        try (Stream<Path> files = Files.list(uploadDir.resolve("resumes"))) {
+            assertThat(files).hasSize(2);
+        }
+        assertThat(resumeStore.getStats())
+                .containsEntry("uploads", 3L)
+                .containsEntry("duplicateFiles", 1L)
+                .containsEntry("bytesSaved", (long) "same resume".length());
+    }
+
+    @Test
+    void shouldReportShareOfUploadsThatSkippedParsing() {
+        // When
+        resumeStore.recordParse(true);
+        resumeStore.recordParse(false);
+        resumeStore.recordParse(true);
+        resumeStore.recordParse(true);
+
+        // Then
+        assertThat(resumeStore.getStats())
+                .containsEntry("parseReuses", 3L)
+                .containsEntry("parses", 1L)
+                .containsEntry("hitRate", 0.75);
+    }
+
+    private MockMultipartFile pdf(String content) {
+        return new MockMultipartFile("file", "resume.pdf", "application/pdf", content.getBytes());
+    }
+}
@@ -0,0 +1,160 @@
+package com.jobboard.service;
+
+import com.jobboard.domain.Candidate;
+import com.jobboard.domain.Experience;
+import com.jobboard.domain.Job;
+import com.jobboard.domain.JobSkill;
+import com.jobboard.event.JobChangedEvent;
+import com.jobboard.exception.BadRequestException;
+import com.jobboard.matching.CandidateFeatures;
+import com.jobboard.repository.JobRepository;
+import com.jobboard.repository.ResumeRepository;
+import com.jobboard.semantic.Neighbor;
+import com.jobboard.skill.SkillTaxonomy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class SemanticMatchingServiceTest {
+
+    private static final String[] TEMPLATES = {
+            "Backend engineer building REST APIs and microservices with %s and PostgreSQL databases",
+            "Server-side developer building REST APIs and microservices with %s and PostgreSQL databases",
+            "Frontend engineer building React user interfaces with TypeScript and CSS for %s",
+            "UI developer building React user interfaces with TypeScript and CSS for %s",
+            "Data scientist training machine learning models in Python with pandas for %s",
+            "Machine learning researcher training models in Python with pandas for %s"
+    };
+    private static final String[] FILLERS = { "Java", "Go", "retail", "banking", "health", "logistics" };
+
+    @TempDir
+    Path modelDirectory;
+
+    private JobRepository jobRepository;
+    private SemanticMatchingService semanticMatchingService;
+    private Candidate candidate;
+    private final List<Job> jobs = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        SkillTaxonomyService skillTaxonomyService = new SkillTaxonomyService(
+                new ClassPathResource("skills/taxonomy.json"));
+        SkillTaxonomy taxonomy = skillTaxonomyService.current();
+
+        jobs.add(job(1L, "Backend Engineer", "postgresql", "java"));
+        jobs.add(job(2L, "Frontend Engineer", "react", "typescript"));
+        jobs.add(job(3L, "Data Scientist", "python", "pandas"));
+        jobRepository = mock(JobRepository.class);
+        when(jobRepository.findAllActiveWithSkills()).thenAnswer(invocation -> jobs.stream()
+                .filter(job -> job.getStatus() == Job.JobStatus.ACTIVE)
+                .toList());
+
+        ResumeRepository resumeRepository = mock(ResumeRepository.class);
+        when(resumeRepository.streamParsedTexts()).thenAnswer(invocation -> corpus().stream());
+
+        candidate = new Candidate();
+        candidate.setId(1L);
+        Experience experience = new Experience();
+        experience.setPosition("Server-side developer");
+        candidate.getExperiences().add(experience);
+        CandidateFeaturesService candidateFeaturesService = mock(CandidateFeaturesService.class);
+        when(candidateFeaturesService.getFeatures(any(), any())).thenReturn(CandidateFeatures.builder(taxonomy)
+                .addSkill(null, "postgresql", 3)
+                .build());
+
+        semanticMatchingService = service(true);
+        ReflectionTestUtils.setField(semanticMatchingService, "jobRepository", jobRepository);
+        ReflectionTestUtils.setField(semanticMatchingService, "resumeRepository", resumeRepository);
+        ReflectionTestUtils.setField(semanticMatchingService, "candidateFeaturesService", candidateFeaturesService);
+        ReflectionTestUtils.setField(semanticMatchingService, "skillTaxonomyService", skillTaxonomyService);
+        semanticMatchingService.trainModel();
+    }
+
+    @Test
+    void shouldFindJobsDescribedInOtherWords() {
+        // When
+        List<Neighbor> similar = semanticMatchingService.findSimilarJobs(candidate);
+
+        // Then - "Server-side developer" shares no word with "Backend Engineer"
+        assertThat(similar).hasSize(3);
+        assertThat(similar.get(0).id()).isEqualTo(1L);
+        assertThat(semanticMatchingService.similarity("Postgres experience", "PostgreSQL")).isGreaterThan(0.5);
+        assertThat(Files.exists(modelDirectory.resolve("embeddings.bin"))).isTrue();
+    }
+
+    @Test
+    void shouldReembedChangedJobsOnTheNextSearch() {
+        // Given
+        semanticMatchingService.findSimilarJobs(candidate);
+        Job backend = jobs.get(0);
+        backend.setStatus(Job.JobStatus.CLOSED);
+        when(jobRepository.findAllByIdWithSkills(anyCollection())).thenReturn(List.of(backend));
+
+        // When
+        semanticMatchingService.onJobChanged(new JobChangedEvent(1L, true, false));
+        List<Neighbor> similar = semanticMatchingService.findSimilarJobs(candidate);
+
+        // Then
+        assertThat(similar).extracting(Neighbor::id).doesNotContain(1L);
+        verify(jobRepository, times(1)).findAllActiveWithSkills();
+        verify(jobRepository).findAllByIdWithSkills(List.of(1L));
+        assertThat(semanticMatchingService.getStats()).containsEntry("indexedJobs", 2)
+                .containsEntry("deletedNodes", 1)
+                .containsEntry("searches", 2L);
+    }
+
+    @Test
+    void shouldRefuseWhenDisabled() {
+        // Given
+        SemanticMatchingService disabled = service(false);
+
+        // Then
+        assertThatThrownBy(() -> disabled.findSimilarJobs(candidate))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("not enabled");
+    }
+
+    private SemanticMatchingService service(boolean enabled) {
+        return new SemanticMatchingService(enabled, modelDirectory.resolve("embeddings.bin").toString(),
+                8, 50, 32, 10, 64, 4, 3, 2048);
+    }
+
+    private static List<String> corpus() {
+        Random random = new Random(1);
+        List<String> documents = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            documents.add(String.format(TEMPLATES[random.nextInt(TEMPLATES.length)],
+                    FILLERS[random.nextInt(FILLERS.length)]));
+        }
+        return documents;
+    }
+
+    private static Job job(long jobId, String title, String... skills) {
+        Job job = new Job();
+        job.setId(jobId);
+        job.setTitle(title);
+        List<JobSkill> jobSkills = new ArrayList<>();
+        for (String skill : skills) {
+            JobSkill jobSkill = new JobSkill();
+            jobSkill.setJob(job);
+            jobSkill.setSkillName(skill);
+            jobSkills.add(jobSkill);
+        }
+        job.setJobSkills(jobSkills);
+        return job;
+    }
+}
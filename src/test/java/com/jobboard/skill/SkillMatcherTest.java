@@ -0,0 +1,83 @@
+package com.jobboard.skill;
+
+import com.jobboard.skill.SkillMatcher.SkillMatch;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SkillMatcherTest {
+
+    private final SkillMatcher matcher = SkillMatcher.compile(
+            List.of("java", "javascript", "spring", "spring boot", "c++", "node.js", "go"));
+
+    @Test
+    void shouldFindAllSkillsWithOffsets() {
+        // Given
+        String text = "Java and Spring Boot developer";
+
+        // When
+        List<SkillMatch> matches = matcher.findAll(text);
+
+        // Then
+        assertThat(matches).containsExactly(
+                new SkillMatch(0, 0, 4),
+                new SkillMatch(2, 9, 15),
+                new SkillMatch(3, 9, 20));
+    }
+
+    @Test
+    void shouldRespectWordBoundaries() {
+        // Given
+        String text = "JavaScript, Django and Google";
+
+        // When
+        List<SkillMatch> matches = matcher.findAll(text);
+
+        // Then
+        assertThat(matches).extracting(SkillMatch::id).containsExactly(1);
+    }
+
+    @Test
+    void shouldMatchSkillsEndingInPunctuation() {
+        // Given
+        String text = "Built services in C++, Node.js and Go.";
+
+        // When
+        List<SkillMatch> matches = matcher.findAll(text);
+
+        // Then
+        assertThat(matches).extracting(SkillMatch::id).containsExactly(4, 5, 6);
+    }
+
+    @Test
+    void shouldMatchAcrossLineBreaks() {
+        // Given
+        String text = "Spring\nBoot";
+
+        // When
+        List<SkillMatch> matches = matcher.findAll(text);
+
+        // Then
+        assertThat(matches).extracting(SkillMatch::id).containsExactly(2, 3);
+    }
+
+    @Test
+    void shouldReportAliasesWithSharedId() {
+        // Given
+        SkillMatcher aliasMatcher = SkillMatcher.compile(Map.of("kubernetes", 7, "k8s", 7));
+
+        // When
+        List<SkillMatch> matches = aliasMatcher.findAll("K8s, also known as Kubernetes");
+
+        // Then
+        assertThat(matches).extracting(SkillMatch::id).containsExactly(7, 7);
+    }
+
+    @Test
+    void shouldReturnNothingForEmptyText() {
+        assertThat(matcher.findAll("")).isEmpty();
+    }
+}
@@ -0,0 +1,66 @@
+package com.jobboard.skill;
+
+import com.jobboard.skill.SkillMatcher.SkillMatch;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SkillTaxonomyTest {
+
+    private final SkillTaxonomy taxonomy = SkillTaxonomy.compile(List.of(
+            new SkillDefinition(1, "Java", null, null),
+            new SkillDefinition(2, "spring", List.of("spring framework"), 1),
+            new SkillDefinition(3, "spring boot", List.of("springboot"), 2),
+            new SkillDefinition(4, "kubernetes", List.of("k8s"), null),
+            new SkillDefinition(5, "node.js", null, null)), 1);
+
+    @Test
+    void shouldResolveNamesAndAliasesToCanonicalId() {
+        assertThat(taxonomy.idOf("java")).isEqualTo(1);
+        assertThat(taxonomy.idOf("  JAVA ")).isEqualTo(1);
+        assertThat(taxonomy.idOf("K8s")).isEqualTo(4);
+        assertThat(taxonomy.idOf("Spring  Framework")).isEqualTo(2);
+        assertThat(taxonomy.idOf("cobol")).isEqualTo(SkillTaxonomy.UNKNOWN);
+        assertThat(taxonomy.nameOf(1)).isEqualTo("java");
+    }
+
+    @Test
+    void shouldResolveSpellingVariantsOnLookup() {
+        assertThat(taxonomy.idOf("Spring-Boot")).isEqualTo(3);
+        assertThat(taxonomy.idOf("nodejs")).isEqualTo(5);
+    }
+
+    @Test
+    void shouldReportCanonicalIdsInText() {
+        // When
+        List<SkillMatch> matches = taxonomy.findSkills("Ran Springboot apps on K8s and Kubernetes");
+
+        // Then
+        assertThat(matches).extracting(SkillMatch::id).containsExactly(3, 4, 4);
+    }
+
+    @Test
+    void shouldResolveAncestorsNearestFirst() {
+        assertThat(taxonomy.ancestorsOf(3)).containsExactly(2, 1);
+        assertThat(taxonomy.ancestorsOf(1)).isEmpty();
+    }
+
+    @Test
+    void shouldRejectTermSharedByTwoSkills() {
+        assertThatThrownBy(() -> SkillTaxonomy.compile(List.of(
+                new SkillDefinition(1, "go", null, null),
+                new SkillDefinition(2, "golang", List.of("go"), null)), 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRejectParentCycles() {
+        assertThatThrownBy(() -> SkillTaxonomy.compile(List.of(
+                new SkillDefinition(1, "a", null, 2),
+                new SkillDefinition(2, "b", null, 1)), 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}